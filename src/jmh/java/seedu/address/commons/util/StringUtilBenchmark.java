@@ -0,0 +1,49 @@
+package seedu.address.commons.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures matching a keyword against sentences of growing length, as done by the find commands.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilBenchmark {
+
+    @Param({"2", "20", "200"})
+    private int wordCount;
+
+    private String sentence;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            builder.append("Word").append(i).append(' ');
+        }
+        sentence = builder.toString();
+    }
+
+    /**
+     * Looks for a word that is not in the sentence, so that every word of the sentence is compared.
+     */
+    @Benchmark
+    public boolean containsWordIgnoreCase() {
+        return StringUtil.containsWordIgnoreCase(sentence, "missing");
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.JobMachineTuple;
+import seedu.address.model.job.JobName;
+import seedu.address.model.util.LabDataGenerator;
+
+/**
+ * Measures looking up a job by name in an address book of growing size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookBenchmark {
+
+    @Param({"10", "100"})
+    private int machineCount;
+
+    @Param({"10", "100"})
+    private int jobsPerMachine;
+
+    private AddressBook addressBook;
+    private JobName[] jobNames;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        addressBook = new LabDataGenerator().withMachineCount(machineCount).withJobsPerMachine(jobsPerMachine)
+                .generate();
+        jobNames = new JobName[machineCount * jobsPerMachine];
+        for (int i = 0; i < jobNames.length; i++) {
+            jobNames[i] = LabDataGenerator.getJobName(i);
+        }
+    }
+
+    /**
+     * Looks up the jobs of the address book in turn.
+     */
+    @Benchmark
+    public JobMachineTuple findJob() {
+        next = (next + 1) % jobNames.length;
+        return addressBook.findJob(jobNames[next]);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.machine.Machine;
+import seedu.address.model.util.LabDataGenerator;
+
+/**
+ * Measures saving an undo snapshot of an address book of growing size,
+ * both when nothing has changed and when the machine list has changed since the last snapshot.
+ * The history is capped at its default limit, so old snapshots are dropped as in normal use.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionedAddressBookBenchmark {
+
+    @Param({"10", "100"})
+    private int machineCount;
+
+    @Param({"10", "100"})
+    private int jobsPerMachine;
+
+    private VersionedAddressBook versionedAddressBook;
+
+    @Setup
+    public void setUp() {
+        versionedAddressBook = new VersionedAddressBook(new LabDataGenerator().withMachineCount(machineCount)
+                .withJobsPerMachine(jobsPerMachine).generate());
+    }
+
+    @Benchmark
+    public void commit() {
+        versionedAddressBook.commit();
+    }
+
+    /**
+     * Replaces the first machine with an equal copy of it before saving the snapshot.
+     */
+    @Benchmark
+    public void commitAfterMachineChange() {
+        Machine machine = versionedAddressBook.getMachineList().get(0);
+        versionedAddressBook.updateMachine(machine, new Machine(machine.getName(), machine.getJobs(),
+                machine.getTags(), machine.getStatus()));
+        versionedAddressBook.commit();
+    }
+}
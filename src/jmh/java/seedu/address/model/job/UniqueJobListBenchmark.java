@@ -0,0 +1,68 @@
+package seedu.address.model.job;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.LabDataGenerator;
+
+
+/**
+ * Measures filling a job queue of growing size and checking whether a job is in it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueJobListBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int jobCount;
+
+    private List<Job> jobs;
+    private UniqueJobList filledList;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jobs = new ArrayList<>(new LabDataGenerator().withMachineCount(1).withJobsPerMachine(jobCount).generate()
+                .getMachineList().get(0).getJobs());
+        filledList = new UniqueJobList();
+        filledList.setJobs(jobs);
+    }
+
+    /**
+     * Adds {@code jobCount} jobs one by one to an empty list.
+     */
+    @Benchmark
+    public UniqueJobList add() {
+        UniqueJobList list = new UniqueJobList();
+        for (Job job : jobs) {
+            list.add(job);
+        }
+        return list;
+    }
+
+    /**
+     * Checks whether a job of the list is in it, going through the jobs in turn.
+     */
+    @Benchmark
+    public boolean contains() {
+        next = (next + 1) % jobCount;
+        return filledList.contains(jobs.get(next));
+    }
+}
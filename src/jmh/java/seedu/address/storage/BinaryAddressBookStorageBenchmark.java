@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.LabDataGenerator;
+
+/**
+ * Measures saving and loading the binary snapshot of a print lab of growing size,
+ * to compare with {@link XmlAddressBookStorageBenchmark}.
+ * The files are kept in a temporary folder that is deleted after the benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryAddressBookStorageBenchmark {
+
+    @Param({"10", "100"})
+    private int machineCount;
+
+    @Param({"10", "100"})
+    private int jobsPerMachine;
+
+    private Path folder;
+    private Path snapshotFile;
+    private AddressBook addressBook;
+    private BinaryAddressBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("binaryStorageBenchmark");
+        UserPrefs userPrefs = new UserPrefs();
+        snapshotFile = folder.resolve(userPrefs.getMakerManagerSnapshotFilePath().getFileName());
+        userPrefs.setMakerManagerSnapshotFilePath(snapshotFile);
+
+        addressBook = new LabDataGenerator().withMachineCount(machineCount).withJobsPerMachine(jobsPerMachine)
+                .generate();
+        storage = new BinaryAddressBookStorage(userPrefs);
+        storage.saveAddressBook(addressBook, snapshotFile);
+    }
+
+    /**
+     * Deletes the temporary folder, including the backups kept next to the snapshot.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        storage.saveAddressBook(addressBook, snapshotFile);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return storage.readAddressBook(snapshotFile);
+    }
+}
@@ -17,6 +17,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path scriptPath;
+    private boolean isStopOnError;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +28,28 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script of commands to run once the app has started, or null if there is none.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns true if the script should stop at the first command that fails, making no changes.
+     */
+    public boolean isStopOnError() {
+        return isStopOnError;
+    }
+
+    public void setStopOnError(boolean isStopOnError) {
+        this.isStopOnError = isStopOnError;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +64,14 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("run");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". No script will be run.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+        appParameters.setStopOnError(Boolean.parseBoolean(namedParameters.get("stopOnError")));
+
         return appParameters;
     }
 
@@ -54,11 +86,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getScriptPath(), otherAppParameters.getScriptPath())
+                && isStopOnError() == otherAppParameters.isStopOnError();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, isStopOnError);
     }
 }
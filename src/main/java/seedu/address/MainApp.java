@@ -2,7 +2,14 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -15,18 +22,20 @@ import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookParts;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -43,6 +52,7 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 2, 1, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final long MODEL_THREAD_STOP_TIMEOUT_SECONDS = 5;
 
     protected Ui ui;
     protected Logic logic;
@@ -51,48 +61,97 @@ public class MainApp extends Application {
     protected Config config;
     protected UserPrefs userPrefs;
 
+    /** The single thread that commands are run on, and that all changes to the model are made on. */
+    protected ExecutorService modelThread;
+
+    private AppParameters appParameters;
+    private CompletableFuture<Void> addressBookRead;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
         initLogging(config);
+        modelThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "model-thread");
+            thread.setDaemon(true);
+            return thread;
+        });
         model = initModelManager(storage, userPrefs);
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, modelThread, Platform::runLater, addressBookRead);
         ui = new UiManager(logic, config, userPrefs);
         initEventsCenter();
     }
 
+    /**
+     * Returns the storage of the address book data in the storage format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        if (userPrefs.getStorageFormat() == UserPrefs.StorageFormat.BINARY) {
+            logger.info("Using binary snapshot storage: " + userPrefs.getMakerManagerSnapshotFilePath());
+            return new BinaryAddressBookStorage(userPrefs);
+        }
+        return new XmlAddressBookStorage(userPrefs);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The data files are read at the same time, and the {@code ModelManager} is returned as soon as the machines
+     * have been read, so that the app can be shown without waiting for the other files.
+     * The persons and admins are added to it on the model thread once they have been read,
+     * after which {@code addressBookRead} completes. Commands are held until then, so that no command can save
+     * the persons or admins before they have all been read, or miss an admin that has not been read yet. <br>
+     * An empty list will be used instead for any part of the address book that cannot be read.
      */
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
+        AddressBookParts addressBookParts = storage.readAddressBookInParts();
+
+        AddressBook initialData = new AddressBook();
         try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample AddressBook");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
+            initialData.setMachines(addressBookParts.getMachines().join());
+        } catch (CompletionException e) {
+            logger.warning("Problem while reading the machines. Will be starting without machines: "
+                    + StringUtil.getDetails(e.getCause()));
         }
 
-        return new ModelManager(initialData, userPrefs);
+        ModelManager modelManager = new ModelManager(initialData, userPrefs, modelThread);
+        addressBookRead = CompletableFuture.allOf(
+                setWhenRead(addressBookParts.getPersons(), modelManager::setLoadedPersons, "persons"),
+                setWhenRead(addressBookParts.getAdmins(), modelManager::setLoadedAdmins, "admins"));
+        return modelManager;
+    }
+
+    /**
+     * Passes the list read by {@code part} to {@code setter} on the model thread, once it has been read.
+     * Returns a future that completes once the list has been passed, or once reading it has failed.
+     */
+    private <T> CompletableFuture<Void> setWhenRead(CompletableFuture<List<T>> part, Consumer<List<T>> setter,
+                                                    String partName) {
+        CompletableFuture<Void> set = new CompletableFuture<>();
+        part.whenComplete((list, error) -> {
+            if (error != null) {
+                logger.warning("Problem while reading the " + partName + ". Will be continuing without them: "
+                        + StringUtil.getDetails(error));
+                set.complete(null);
+                return;
+            }
+            logger.info("Read " + list.size() + " " + partName);
+            modelThread.execute(() -> {
+                try {
+                    setter.accept(list);
+                } finally {
+                    set.complete(null);
+                }
+            });
+        });
+        return set;
     }
 
     private void initLogging(Config config) {
@@ -173,12 +232,33 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (appParameters.getScriptPath() != null) {
+            runScript(appParameters.getScriptPath(), appParameters.isStopOnError());
+        }
+    }
+
+    /**
+     * Runs the commands in the script at {@code scriptPath}, and shows the result once they have all run.
+     */
+    private void runScript(Path scriptPath, boolean isStopOnError) {
+        String commandText = RunCommand.COMMAND_WORD + (isStopOnError ? " " + RunCommand.OPTION_STOP_ON_ERROR : "")
+                + " " + scriptPath;
+        logic.executeAsync(commandText).whenComplete((commandResult, error) -> {
+            Throwable cause = (error instanceof CompletionException) ? error.getCause() : error;
+            String feedback = (cause == null) ? commandResult.feedbackToUser : cause.getMessage();
+            logger.info("Result of script " + scriptPath + ": " + feedback);
+            Platform.runLater(() -> EventsCenter.getInstance().post(new NewResultAvailableEvent(feedback)));
+        });
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        // jobs that are due are finished on the model thread, so no more are handed to it once it stops
+        model.close();
+        stopModelThread();
+        storage.flush();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -188,10 +268,25 @@ public class MainApp extends Application {
         System.exit(0);
     }
 
+    /**
+     * Lets the tasks already given to the model thread finish, so that their changes are saved.
+     */
+    private void stopModelThread() {
+        modelThread.shutdown();
+        try {
+            if (!modelThread.awaitTermination(MODEL_THREAD_STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("The model thread did not stop in time. The last changes may not be saved.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        stop();
+        // The exit command is run on the model thread, but the app must be stopped on the JavaFX thread.
+        Platform.runLater(this::stop);
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,32 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+
+/**
+ * Indicates that the status of a single job in the model addressbook has changed,
+ * with no other change to the machine list
+ */
+public class JobStatusChangedEvent extends BaseEvent {
+
+    public final ReadOnlyAddressBook data;
+    public final JobName jobName;
+    public final Status status;
+    public final TimeStamp startTime;
+
+    public JobStatusChangedEvent(ReadOnlyAddressBook data, Job job) {
+        this.data = data;
+        this.jobName = job.getJobName();
+        this.status = job.getStatus();
+        this.startTime = job.getStartTime();
+    }
+
+    @Override
+    public String toString() {
+        return "job " + jobName + " is now " + status;
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Indicates that a transaction on the model addressBook has been committed,
+ * with which of its lists the transaction changed
+ */
+public class TransactionCommittedEvent extends BaseEvent {
+
+    public final ReadOnlyAddressBook data;
+    public final boolean isPersonListChanged;
+    public final boolean isAdminListChanged;
+    public final boolean isMachineListChanged;
+
+    public TransactionCommittedEvent(ReadOnlyAddressBook data, boolean isPersonListChanged,
+                                     boolean isAdminListChanged, boolean isMachineListChanged) {
+        this.data = data;
+        this.isPersonListChanged = isPersonListChanged;
+        this.isAdminListChanged = isAdminListChanged;
+        this.isMachineListChanged = isMachineListChanged;
+    }
+
+    @Override
+    public String toString() {
+        return "transaction changed persons: " + isPersonListChanged + ", admins: " + isAdminListChanged
+                + ", machines: " + isMachineListChanged;
+    }
+}
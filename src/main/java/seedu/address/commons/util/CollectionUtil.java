@@ -2,9 +2,15 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +38,25 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns true if no two elements of {@code items} are the same according to {@code isSame}.
+     * Any two elements that are the same must have equal {@code identityKey}s, so that only elements
+     * with equal keys need to be compared, which takes linear time unless many elements share a key.
+     */
+    public static <T, K> boolean areAllUnique(Collection<? extends T> items, Function<? super T, K> identityKey,
+                                              BiPredicate<? super T, ? super T> isSame) {
+        requireAllNonNull(items, identityKey, isSame);
+        Map<K, List<T>> itemsByKey = new HashMap<>();
+        for (T item : items) {
+            List<T> itemsWithSameKey = itemsByKey.computeIfAbsent(identityKey.apply(item), unused -> new ArrayList<>());
+            for (T other : itemsWithSameKey) {
+                if (isSame.test(other, item)) {
+                    return false;
+                }
+            }
+            itemsWithSameKey.add(item);
+        }
+        return true;
+    }
 }
@@ -0,0 +1,115 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for reading and writing lines of comma-separated values.
+ * Fields that contain a comma or a double quote are enclosed in double quotes, with the double quotes in them
+ * doubled. Fields cannot span several lines.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "Unexpected text after a quoted field";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private CsvUtil() {} // prevents instantiation
+
+    /**
+     * Returns the fields of {@code line}.
+     *   <br>examples:<pre>
+     *       parseLine("a,b,,c") == [a, b, , c]
+     *       parseLine("a,\"b, \"\"c\"\"\"") == [a, b, "c"]
+     *       </pre>
+     *
+     * @throws IllegalValueException if a quoted field is not closed, or is followed by anything but a comma.
+     */
+    public static List<String> parseLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuotedField(line, i + 1, field);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_TEXT_AFTER_QUOTE);
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = (end == -1) ? line.length() : end;
+                field.append(line, i, end);
+                i = end;
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skips the separator
+        }
+    }
+
+    /**
+     * Appends the quoted field starting at {@code start}, just after its opening quote, to {@code field}.
+     * Returns the position just after its closing quote.
+     */
+    private static int readQuotedField(String line, int start, StringBuilder field) throws IllegalValueException {
+        int i = start;
+        while (true) {
+            int quote = line.indexOf(QUOTE, i);
+            if (quote == -1) {
+                throw new IllegalValueException(MESSAGE_UNCLOSED_QUOTE);
+            }
+            field.append(line, i, quote);
+            if (quote + 1 < line.length() && line.charAt(quote + 1) == QUOTE) {
+                field.append(QUOTE);
+                i = quote + 2;
+            } else {
+                return quote + 1;
+            }
+        }
+    }
+
+    /**
+     * Returns {@code fields} as a line of comma-separated values, quoting the fields that need to be.
+     * None of the fields may contain a line break.
+     */
+    public static String toLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            appendField(line, fields.get(i));
+        }
+        return line.toString();
+    }
+
+    /**
+     * Appends {@code field} to {@code line}, in double quotes if it contains a comma or a double quote.
+     */
+    private static void appendField(StringBuilder line, String field) {
+        if (field.indexOf(SEPARATOR) == -1 && field.indexOf(QUOTE) == -1) {
+            line.append(field);
+            return;
+        }
+        line.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                line.append(QUOTE);
+            }
+            line.append(c);
+        }
+        line.append(QUOTE);
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -80,4 +84,64 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns the path of the {@code generation}-th most recent backup of {@code file}.
+     * The first generation is the version of {@code file} that was replaced most recently.
+     */
+    public static Path getBackupFile(Path file, int generation) {
+        return file.resolveSibling(file.getFileName() + ".bak" + generation);
+    }
+
+    /**
+     * Replaces {@code file} with {@code newFile}, keeping the replaced version of {@code file}
+     * and up to {@code generations - 1} older versions as backups.
+     * {@code newFile} must be in the same directory as {@code file}.
+     * The newest backup is a link to or a copy of {@code file}, and {@code file} is then replaced by an atomic
+     * rename where the file system supports it, so {@code file} is never seen half-written or missing.
+     */
+    public static void replaceWithBackups(Path newFile, Path file, int generations) throws IOException {
+        if (generations > 0) {
+            for (int generation = generations - 1; generation >= 1; generation--) {
+                Path backup = getBackupFile(file, generation);
+                if (Files.exists(backup)) {
+                    Files.move(backup, getBackupFile(file, generation + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            if (Files.exists(file)) {
+                linkOrCopy(file, getBackupFile(file, 1));
+            }
+        }
+
+        try {
+            Files.move(newFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(newFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Makes {@code link} a hard link to {@code file}, or a copy of it where the file system has no hard links.
+     */
+    private static void linkOrCopy(Path file, Path link) throws IOException {
+        Files.deleteIfExists(link);
+        try {
+            Files.createLink(link, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, link, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file just renamed into it, to the storage device.
+     * Does nothing on platforms where a directory cannot be opened, such as Windows.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the rename is still atomic, only not yet durable
+        }
+    }
+
 }
@@ -2,23 +2,50 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.MarshalException;
 import javax.xml.bind.Marshaller;
+import javax.xml.bind.UnmarshalException;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamReader;
 
 import seedu.address.commons.core.LogsCenter;
 
 /**
  * Helps with reading from and writing to XML files.
+ * A {@code JAXBContext} is created only once per class, and marshallers and unmarshallers
+ * are pooled per class, as creating them is expensive and they are not thread-safe.
+ * Files are saved by writing a temporary file and renaming it over the old file,
+ * keeping the last {@link #BACKUP_GENERATIONS} versions of the file as backups.
  */
 public class XmlUtil {
 
+    public static final int BACKUP_GENERATIONS = 3;
+
     private static final Logger logger = LogsCenter.getLogger(XmlUtil.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final ConcurrentMap<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, Queue<Marshaller>> marshallers = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, Queue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -40,10 +67,14 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
-
-        return ((T) um.unmarshal(file.toFile()));
+        Unmarshaller um = borrowUnmarshaller(classToConvert);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE)) {
+            return ((T) um.unmarshal(in));
+        } catch (IOException ioe) {
+            throw new UnmarshalException(ioe);
+        } finally {
+            unmarshallers.get(classToConvert).offer(um);
+        }
     }
 
     /**
@@ -64,11 +95,130 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Marshaller m = borrowMarshaller(data.getClass());
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                 OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+                m.marshal(data, out);
+                out.flush();
+                channel.force(true);
+            }
+            FileUtil.replaceWithBackups(tempFile, file, BACKUP_GENERATIONS);
+        } catch (IOException ioe) {
+            throw new MarshalException(ioe);
+        } finally {
+            marshallers.get(data.getClass()).offer(m);
+            deleteIfPresent(tempFile);
+        }
+    }
+
+    /**
+     * Returns the xml data in the file as an object of the specified type.
+     * If the file is missing or cannot be read, returns the data in the most recent backup of the file
+     * that can be read instead.
+     *
+     * @throws FileNotFoundException Thrown if the file and all its backups are missing.
+     * @throws JAXBException         Thrown if the file is empty or does not have the correct format,
+     *                               and no backup of the file can be read either.
+     * @see #getDataFromFile(Path, Class)
+     */
+    public static <T> T getDataFromFileOrBackup(Path file, Class<T> classToConvert)
+            throws FileNotFoundException, JAXBException {
+        try {
+            return getDataFromFile(file, classToConvert);
+        } catch (FileNotFoundException | JAXBException e) {
+            for (int generation = 1; generation <= BACKUP_GENERATIONS; generation++) {
+                Path backup = FileUtil.getBackupFile(file, generation);
+                if (!FileUtil.isFileExists(backup)) {
+                    continue;
+                }
+                try {
+                    T data = getDataFromFile(backup, classToConvert);
+                    logger.warning("Could not read " + file + ", recovered data from backup " + backup);
+                    return data;
+                } catch (JAXBException backupException) {
+                    logger.warning("Backup " + backup + " cannot be read either: " + backupException);
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the xml element that {@code reader} is at the start of as an object of the specified type,
+     * leaving {@code reader} just after the end of the element.
+     * Unlike {@link #getDataFromFile(Path, Class)}, this reads only one element of a file,
+     * so that a large file can be read one element at a time.
+     *
+     * @throws JAXBException Thrown if the element does not have the correct format.
+     */
+    public static <T> T getDataFromElement(XMLStreamReader reader, Class<T> classToConvert) throws JAXBException {
+        requireNonNull(reader);
+        requireNonNull(classToConvert);
+
+        Unmarshaller um = borrowUnmarshaller(classToConvert);
+        try {
+            return um.unmarshal(reader, classToConvert).getValue();
+        } finally {
+            unmarshallers.get(classToConvert).offer(um);
+        }
+    }
+
+    /**
+     * Deletes {@code file} if it is not null and exists, logging instead of throwing if that fails.
+     */
+    private static void deleteIfPresent(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete temporary file " + file + ": " + ioe.getMessage());
+        }
+    }
 
-        m.marshal(data, file.toFile());
+    /**
+     * Returns the cached {@code JAXBContext} for {@code type}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            logger.fine("Creating JAXB context for " + type.getName());
+            context = JAXBContext.newInstance(type);
+            JAXBContext existing = contexts.putIfAbsent(type, context);
+            if (existing != null) {
+                context = existing;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Takes a marshaller for {@code type} out of the pool, creating one if the pool is empty.
+     * The marshaller must be returned to the pool after use.
+     */
+    private static Marshaller borrowMarshaller(Class<?> type) throws JAXBException {
+        Marshaller m = marshallers.computeIfAbsent(type, unused -> new ConcurrentLinkedQueue<>()).poll();
+        if (m == null) {
+            m = getContext(type).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
+        return m;
+    }
+
+    /**
+     * Takes an unmarshaller for {@code type} out of the pool, creating one if the pool is empty.
+     * The unmarshaller must be returned to the pool after use.
+     */
+    private static Unmarshaller borrowUnmarshaller(Class<?> type) throws JAXBException {
+        Unmarshaller um = unmarshallers.computeIfAbsent(type, unused -> new ConcurrentLinkedQueue<>()).poll();
+        if (um == null) {
+            um = getContext(type).createUnmarshaller();
+        }
+        return um;
     }
 
 }
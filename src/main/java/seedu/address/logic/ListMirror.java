@@ -0,0 +1,178 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of a list of the model which is only changed on the thread that reads it, such as the JavaFX thread.
+ * The model is changed on the model thread, so its lists cannot be shown by the UI directly.
+ *
+ * Changes to the list are noted on the model thread, and once the task that made them is done, the list is copied
+ * and passed to the reading thread. Readers therefore see the list as it was between two tasks of the model thread,
+ * never halfway through a command.
+ * Elements that are changed in place, such as machines whose jobs change, are passed through a function that
+ * returns a copy of them. Elements are copied again whenever the list held by an element changes, or when asked
+ * to by {@link #refresh()}, and only the elements whose copies differ from those shown are replaced.
+ *
+ * @param <T> the type of the elements of the list
+ * @param <C> the type of the elements of the lists held by each element
+ */
+public class ListMirror<T, C> {
+
+    // Read and changed on the reading thread only
+    private final ObservableList<T> items = FXCollections.observableArrayList();
+    private final ObservableList<T> unmodifiableItems = FXCollections.unmodifiableObservableList(items);
+
+    // Read and changed on the model thread only
+    private final ObservableList<T> source;
+    private final Function<T, ObservableList<C>> childrenOf;
+    private final Function<T, T> copyOf;
+    private final Map<T, ObservableList<C>> sourceChildren = new IdentityHashMap<>();
+    private final Map<T, ListChangeListener<C>> childListeners = new IdentityHashMap<>();
+    private List<T> shownCopies = Collections.emptyList();
+    private boolean isSourceChanged = true;
+    private boolean isUpdateScheduled = false;
+
+    private final Executor modelThread;
+    private final Executor readingThread;
+
+    /**
+     * Creates a copy of {@code source}, whose elements are not changed in place,
+     * which is read and changed on {@code modelThread}, to be read on {@code readingThread}.
+     */
+    public ListMirror(ObservableList<T> source, Executor modelThread, Executor readingThread) {
+        this(source, null, Function.identity(), modelThread, readingThread);
+    }
+
+    /**
+     * Creates a copy of {@code source}, which is read and changed on {@code modelThread}, to be read on
+     * {@code readingThread}. Each element is passed to the reading thread as the copy returned by {@code copyOf},
+     * which is called on {@code modelThread} and should return the same copy for as long as the element is not
+     * changed. Elements are copied again whenever the list returned by {@code childrenOf} for any element changes.
+     */
+    public ListMirror(ObservableList<T> source, Function<T, ObservableList<C>> childrenOf, Function<T, T> copyOf,
+                      Executor modelThread, Executor readingThread) {
+        requireAllNonNull(source, copyOf, modelThread, readingThread);
+        this.source = source;
+        this.childrenOf = childrenOf;
+        this.copyOf = copyOf;
+        this.modelThread = modelThread;
+        this.readingThread = readingThread;
+        modelThread.execute(() -> {
+            source.addListener((ListChangeListener<T>) change -> {
+                isSourceChanged = true;
+                scheduleUpdate();
+            });
+            scheduleUpdate();
+        });
+    }
+
+    /**
+     * Returns an unmodifiable copy of the list, to be read on the reading thread.
+     */
+    public ObservableList<T> getItems() {
+        return unmodifiableItems;
+    }
+
+    /**
+     * Copies the list once the task running on the model thread is done, if not already scheduled to.
+     */
+    private void scheduleUpdate() {
+        if (isUpdateScheduled) {
+            return;
+        }
+        isUpdateScheduled = true;
+        modelThread.execute(this::update);
+    }
+
+    /**
+     * Copies the elements again once the task running on the model thread is done, for when elements may have
+     * been changed in place. Must be called on the model thread.
+     */
+    public void refresh() {
+        scheduleUpdate();
+    }
+
+    /**
+     * Copies the elements of the list and passes the list to the reading thread if it changed,
+     * or else the elements whose copies changed.
+     */
+    private void update() {
+        isUpdateScheduled = false;
+        List<T> copies = new ArrayList<>(source.size());
+        for (T item : source) {
+            copies.add(copyOf.apply(item));
+        }
+
+        List<T> newItems = null;
+        Map<Integer, T> changedItemCopies = new HashMap<>();
+        if (isSourceChanged) {
+            isSourceChanged = false;
+            newItems = copies;
+            if (childrenOf != null) {
+                followChildrenOf(source);
+            }
+        } else {
+            for (int i = 0; i < copies.size(); i++) {
+                if (copies.get(i) != shownCopies.get(i)) {
+                    changedItemCopies.put(i, copies.get(i));
+                }
+            }
+            if (changedItemCopies.isEmpty()) {
+                return;
+            }
+        }
+        shownCopies = copies;
+
+        List<T> itemsCopy = newItems;
+        readingThread.execute(() -> show(itemsCopy, changedItemCopies));
+    }
+
+    /**
+     * Starts following the lists held by the elements newly in {@code newItems},
+     * and stops following those of the elements no longer in it.
+     */
+    private void followChildrenOf(List<T> newItems) {
+        Set<T> newItemSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        newItemSet.addAll(newItems);
+        for (T item : new ArrayList<>(sourceChildren.keySet())) {
+            if (!newItemSet.contains(item)) {
+                sourceChildren.remove(item).removeListener(childListeners.remove(item));
+            }
+        }
+        for (T item : newItemSet) {
+            if (sourceChildren.containsKey(item)) {
+                continue;
+            }
+            ObservableList<C> childList = childrenOf.apply(item);
+            ListChangeListener<C> listener = change -> scheduleUpdate();
+            childList.addListener(listener);
+            sourceChildren.put(item, childList);
+            childListeners.put(item, listener);
+        }
+    }
+
+    /**
+     * Shows the copies made on the model thread, either the whole list or the elements at the given positions.
+     * As the list has not changed since the elements were copied, the positions are those in the list shown.
+     */
+    private void show(List<T> newItems, Map<Integer, T> changedItemCopies) {
+        if (newItems != null) {
+            items.setAll(newItems);
+        }
+        changedItemCopies.forEach(items::set);
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.logic;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.admin.Admin;
+import seedu.address.model.job.Job;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.person.Person;
 
@@ -21,12 +24,28 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the model thread, after the commands entered before it.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, which completes exceptionally with a {@code CommandException}
+     *     or a {@code ParseException} if the command could not be executed.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /*
+     * The lists below are copies of the lists of the model, which are only changed on the UI thread
+     * and should only be read on it.
+     */
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
     /** Returns an unmodifiable view of the filtered list of machines */
     ObservableList<Machine> getFilteredMachineList();
 
+    /** Returns an unmodifiable view of the filtered list of jobs of {@code machine} */
+    ObservableList<Job> getFilteredJobList(Machine machine);
+
     /** Returns an unmodifiable vie wof the filtered list of admins */
     ObservableList<Admin> getFilteredAdminList();
 
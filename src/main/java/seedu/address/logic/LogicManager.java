@@ -1,7 +1,12 @@
 package seedu.address.logic;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
@@ -12,6 +17,7 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.admin.Admin;
+import seedu.address.model.job.Job;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.person.Person;
 
@@ -24,11 +30,42 @@ public class LogicManager extends ComponentManager implements Logic {
     private final Model model;
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
+    private final Executor commandThread;
+    private final ListMirror<Person, Void> persons;
+    private final ListMirror<Machine, Job> machines;
+    private final ListMirror<Admin, Void> admins;
 
+    /**
+     * Creates a LogicManager whose commands are run, and whose lists are read, on the calling thread.
+     */
     public LogicManager(Model model) {
+        this(model, Runnable::run, Runnable::run);
+    }
+
+    /**
+     * Creates a LogicManager which runs every command on {@code modelThread}, the single thread that changes
+     * {@code model}, and whose lists are copies of the lists of {@code model} kept up to date on {@code uiThread}.
+     * The machines in the copies are those published in the snapshots of {@code model}.
+     */
+    public LogicManager(Model model, Executor modelThread, Executor uiThread) {
+        this(model, modelThread, uiThread, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Creates a LogicManager like {@link #LogicManager(Model, Executor, Executor)} which holds the commands
+     * it is given until {@code modelLoaded} completes, such as while the data of {@code model} is still being read.
+     */
+    public LogicManager(Model model, Executor modelThread, Executor uiThread, CompletableFuture<?> modelLoaded) {
         this.model = model;
+        this.commandThread = new HoldUntilDone(modelThread, modelLoaded);
         history = new CommandHistory();
         addressBookParser = new AddressBookParser();
+        persons = new ListMirror<>(model.getFilteredPersonList(), modelThread, uiThread);
+        machines = new ListMirror<>(model.getFilteredMachineList(), Machine::getJobsAsFilteredObservableList,
+                model::getPublishedCopy, modelThread, uiThread);
+        admins = new ListMirror<>(model.getFilteredAdminList(), modelThread, uiThread);
+        // jobs are changed in place, so the machines are copied again whenever a snapshot is published
+        modelThread.execute(() -> model.addSnapshotListener(machines::refresh));
     }
 
     @Override
@@ -42,23 +79,72 @@ public class LogicManager extends ComponentManager implements Logic {
         }
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandThread.execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return persons.getItems();
     }
 
     @Override
     public ObservableList<Machine> getFilteredMachineList() {
-        return model.getFilteredMachineList();
+        return machines.getItems();
+    }
+
+    @Override
+    public ObservableList<Job> getFilteredJobList(Machine machine) {
+        // the machines shown are the copies published in the snapshots, which are never changed
+        return FXCollections.unmodifiableObservableList(machine.getJobsAsFilteredObservableList());
     }
 
     @Override
     public ObservableList<Admin> getFilteredAdminList() {
-        return model.getFilteredAdminList();
+        return admins.getItems();
     }
 
     @Override
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
     }
+
+    /**
+     * Passes tasks on to an executor in the order they are given, holding them until a future completes.
+     */
+    private static class HoldUntilDone implements Executor {
+        private final Executor executor;
+        private List<Runnable> heldTasks = new ArrayList<>(); // null once the tasks are no longer held
+
+        HoldUntilDone(Executor executor, CompletableFuture<?> future) {
+            this.executor = executor;
+            future.whenComplete((result, error) -> release());
+        }
+
+        @Override
+        public synchronized void execute(Runnable task) {
+            if (heldTasks != null) {
+                heldTasks.add(task);
+            } else {
+                executor.execute(task);
+            }
+        }
+
+        /**
+         * Passes on the held tasks, and every task given after them straight away.
+         */
+        private synchronized void release() {
+            heldTasks.forEach(executor::execute);
+            heldTasks = null;
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.csv.CsvLabDataWriter;
+
+/**
+ * Writes the persons, machines and jobs of the address book to a CSV file, which can be imported again.
+ * The file is written from the snapshot published last, so it holds the address book as every earlier
+ * command left it.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the persons, machines and jobs "
+            + "to a CSV file, replacing what the file held before.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/lab.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d records to %2$s";
+    public static final String MESSAGE_CANNOT_WRITE = "Cannot write to %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    private final Path file;
+
+    public ExportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        try {
+            int recordCount = CsvLabDataWriter.write(model.getSnapshot(), file);
+            return new CommandResult(String.format(MESSAGE_SUCCESS, recordCount, file));
+        } catch (IOException ioe) {
+            logger.warning("Failed to write " + file + ": " + ioe);
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE, file));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && file.equals(((ExportCommand) other).file));
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.person.Person;
+import seedu.address.storage.csv.CsvLabData;
+import seedu.address.storage.csv.CsvLabDataReader;
+
+/**
+ * Adds the persons, machines and jobs in a CSV file to the address book, all at once.
+ * The file is read and checked before anything is added, so either every record in it is added or none is.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the persons, machines and jobs in a CSV file "
+            + "as a single change that is undone at once. Nothing is added if any record in the file has an error.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/lab.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons, %2$d machines and %3$d jobs from %4$s";
+    public static final String MESSAGE_CANNOT_READ = "Cannot read %1$s, nothing was imported";
+    public static final String MESSAGE_INVALID_FILE = "%1$s has errors, nothing was imported:\n%2$s";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Person %1$s is already in MakerManager, "
+            + "nothing was imported";
+    public static final String MESSAGE_DUPLICATE_MACHINE = "Machine %1$s is already in MakerManager, "
+            + "nothing was imported";
+    public static final String MESSAGE_DUPLICATE_JOB = "Job %1$s is already in MakerManager, nothing was imported";
+    public static final String MESSAGE_UNKNOWN_MACHINE = "Job %1$s is for machine %2$s, which is neither in the file "
+            + "nor in MakerManager, nothing was imported";
+    public static final String MESSAGE_ACCESS_DENIED = "Non admin user is not allowed to import into MakerManager";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path file;
+
+    public ImportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (!model.isLoggedIn()) {
+            throw new CommandException(MESSAGE_ACCESS_DENIED);
+        }
+
+        CsvLabData data;
+        try {
+            data = new CsvLabDataReader().read(file);
+        } catch (IOException ioe) {
+            logger.warning("Failed to read " + file + ": " + ioe);
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, file));
+        } catch (DataConversionException dce) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, file, dce.getCause().getMessage()));
+        }
+        requireNoneInModel(model, data);
+
+        model.transaction(transaction -> {
+            transaction.addAll(data.getPersons(), data.getMachines(), data.getJobs());
+            transaction.commitAddressBook();
+        });
+        return new CommandResult(String.format(MESSAGE_SUCCESS, data.getPersons().size(),
+                data.getMachines().size(), data.getJobs().size(), file));
+    }
+
+    /**
+     * Checks that none of the records in {@code data} is already in {@code model}, and that the machine
+     * of every job is either in {@code data} or in {@code model}.
+     */
+    private static void requireNoneInModel(Model model, CsvLabData data) throws CommandException {
+        for (Person person : data.getPersons()) {
+            if (model.hasPerson(person)) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_PERSON, person.getName()));
+            }
+        }
+
+        Set<MachineName> machineNames = new HashSet<>();
+        for (Machine machine : data.getMachines()) {
+            if (model.findMachine(machine.getName()) != null) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_MACHINE, machine.getName()));
+            }
+            machineNames.add(machine.getName());
+        }
+
+        for (Job job : data.getJobs()) {
+            if (model.findJob(job.getJobName()) != null) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_JOB, job.getJobName()));
+            }
+            if (!machineNames.contains(job.getMachineName()) && model.findMachine(job.getMachineName()) == null) {
+                throw new CommandException(String.format(MESSAGE_UNKNOWN_MACHINE, job.getJobName(),
+                        job.getMachineName()));
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && file.equals(((ImportCommand) other).file));
+    }
+}
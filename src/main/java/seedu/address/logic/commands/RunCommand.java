@@ -0,0 +1,165 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line, as a single change to the address book.
+ * The commands are run in one transaction of the model, so the address book is committed for undo/redo
+ * and saved once, after every command has run. The file is read a line at a time, so scripts of any length
+ * can be run.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String OPTION_STOP_ON_ERROR = "-s";
+    public static final String COMMENT_START = "#";
+    public static final int FAILURES_SHOWN = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a file, one per line, "
+            + "as a single change that is undone at once. "
+            + "Blank lines and lines starting with " + COMMENT_START + " are skipped. "
+            + "Commands that fail are reported and skipped, unless " + OPTION_STOP_ON_ERROR + " is given, "
+            + "in which case the first command that fails stops the script and no change is made.\n"
+            + "Parameters: [" + OPTION_STOP_ON_ERROR + "] FILE\n"
+            + "Example: " + COMMAND_WORD + " " + OPTION_STOP_ON_ERROR + " data/newMachines.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_FAILURES = "%1$d of %2$d commands from %3$s failed and were skipped:";
+    public static final String MESSAGE_MORE_FAILURES = "... and %1$d more";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_STOPPED = "Stopped at line %1$d of %2$s, no changes were made: %3$s";
+    public static final String MESSAGE_CANNOT_READ = "Cannot read %1$s, no changes were made";
+    public static final String MESSAGE_NOT_IN_SCRIPT = "This command cannot be run from a script";
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path scriptPath;
+    private final boolean isStopOnError;
+
+    /**
+     * Creates a RunCommand to run the commands in {@code scriptPath}, stopping at the first command that fails
+     * if {@code isStopOnError}.
+     */
+    public RunCommand(Path scriptPath, boolean isStopOnError) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+        this.isStopOnError = isStopOnError;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        logger.info("Running script " + scriptPath);
+        Script script = new Script();
+        model.transaction(transaction -> script.run(transaction, history));
+        return new CommandResult(script.getReport());
+    }
+
+    /**
+     * A run of the script, which counts the commands run and keeps the failures to report.
+     */
+    private class Script {
+        private final AddressBookParser parser = new AddressBookParser();
+        private final List<String> failuresShown = new ArrayList<>();
+        private int commandCount = 0;
+        private int failureCount = 0;
+
+        /**
+         * Runs every command of the script on {@code model}.
+         *
+         * @throws CommandException if the script cannot be read, or a command fails and the script stops on errors
+         */
+        void run(Model model, CommandHistory history) throws CommandException {
+            try (BufferedReader reader = Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+                int lineNumber = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    String commandText = line.trim();
+                    if (commandText.isEmpty() || commandText.startsWith(COMMENT_START)) {
+                        continue;
+                    }
+                    commandCount++;
+                    runLine(model, history, lineNumber, commandText);
+                }
+            } catch (IOException e) {
+                logger.warning("Cannot read script " + scriptPath + ": " + e);
+                throw new CommandException(String.format(MESSAGE_CANNOT_READ, scriptPath));
+            }
+        }
+
+        /**
+         * Runs the command on line {@code lineNumber} of the script, noting its failure if it fails.
+         */
+        private void runLine(Model model, CommandHistory history, int lineNumber, String commandText)
+                throws CommandException {
+            try {
+                Command command = parser.parseCommand(commandText);
+                if (!isAllowedInScript(command)) {
+                    throw new CommandException(MESSAGE_NOT_IN_SCRIPT);
+                }
+                command.execute(model, history);
+            } catch (CommandException | ParseException e) {
+                if (isStopOnError) {
+                    throw new CommandException(String.format(MESSAGE_STOPPED, lineNumber, scriptPath,
+                            e.getMessage()));
+                }
+                logger.fine("Line " + lineNumber + " of script failed: " + e.getMessage());
+                failureCount++;
+                if (failuresShown.size() < FAILURES_SHOWN) {
+                    failuresShown.add(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+                }
+            }
+        }
+
+        /**
+         * Returns the result of running the script, with the first failures if any command failed.
+         */
+        String getReport() {
+            if (failureCount == 0) {
+                return String.format(MESSAGE_SUCCESS, commandCount, scriptPath);
+            }
+            StringBuilder report = new StringBuilder(String.format(MESSAGE_FAILURES, failureCount, commandCount,
+                    scriptPath));
+            failuresShown.forEach(failure -> report.append('\n').append(failure));
+            if (failureCount > failuresShown.size()) {
+                report.append('\n').append(String.format(MESSAGE_MORE_FAILURES,
+                        failureCount - failuresShown.size()));
+            }
+            return report.toString();
+        }
+    }
+
+    /**
+     * Returns true if {@code command} can be run from a script. Commands that undo or redo changes, run another
+     * script or exit the app cannot, as the script is run as a single change.
+     */
+    private static boolean isAllowedInScript(Command command) {
+        return !(command instanceof RunCommand || command instanceof UndoCommand || command instanceof RedoCommand
+                || command instanceof ExitCommand);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && scriptPath.equals(((RunCommand) other).scriptPath)
+                && isStopOnError == ((RunCommand) other).isStopOnError);
+    }
+}
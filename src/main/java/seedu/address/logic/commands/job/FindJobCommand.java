@@ -2,11 +2,14 @@ package seedu.address.logic.commands.job;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
+import seedu.address.model.job.Job;
 import seedu.address.model.job.JobNameContainsKeywordsPredicate;
 
 /**
@@ -20,7 +23,8 @@ public class FindJobCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all jobs whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + FindSimilarJobsCommand.MESSAGE_USAGE;
 
     private final JobNameContainsKeywordsPredicate predicate;
 
@@ -31,7 +35,8 @@ public class FindJobCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredJobListInAllMachines(predicate);
+        Set<Job> matchingJobs = model.findJobsByNameKeywords(predicate.getKeywords());
+        model.updateFilteredJobListInAllMachines(matchingJobs::contains);
         return new CommandResult(
                 String.format(Messages.MESSAGE_JOBS_LISTED_OVERVIEW, model.getTotalNumberOfJobsDisplayed()));
     }
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobMatch;
+
+/**
+ * Finds and lists all jobs whose name, or the name of whose machine, has a word that starts with any of
+ * the argument terms, or that is only a few typing mistakes away from it.
+ * Matching is case insensitive, and the best matches are named in the result.
+ */
+public class FindSimilarJobsCommand extends Command {
+
+    public static final String OPTION_WORD = "-f";
+
+    public static final String MESSAGE_USAGE = FindJobCommand.COMMAND_WORD + " " + OPTION_WORD
+            + ": Finds all jobs whose names, or whose machines' names, start with any of the specified terms "
+            + "or are close to them (case-insensitive), and displays them as a list with index numbers.\n"
+            + "Parameters: " + OPTION_WORD + " TERM [MORE_TERMS]...\n"
+            + "Example: " + FindJobCommand.COMMAND_WORD + " " + OPTION_WORD + " brakt gea";
+
+    public static final String MESSAGE_BEST_MATCHES = "Best matches: %1$s";
+    public static final int BEST_MATCHES_SHOWN = 5;
+
+    private final List<String> terms;
+
+    public FindSimilarJobsCommand(List<String> terms) {
+        requireNonNull(terms);
+        this.terms = terms;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<JobMatch> matches = model.findJobsSimilarTo(terms);
+        Set<Job> matchingJobs = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.forEach(match -> matchingJobs.add(match.getJob()));
+        model.updateFilteredJobListInAllMachines(matchingJobs::contains);
+
+        String result = String.format(Messages.MESSAGE_JOBS_LISTED_OVERVIEW, model.getTotalNumberOfJobsDisplayed());
+        if (!matches.isEmpty()) {
+            result += "\n" + String.format(MESSAGE_BEST_MATCHES, matches.stream()
+                    .limit(BEST_MATCHES_SHOWN)
+                    .map(match -> match.getJob().getJobName().fullName)
+                    .collect(Collectors.joining(", ")));
+        }
+        return new CommandResult(result);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindSimilarJobsCommand // instanceof handles nulls
+                && terms.equals(((FindSimilarJobsCommand) other).terms)); // state check
+    }
+}
@@ -45,7 +45,6 @@ public class ManageJobCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        //TODO: Currently findJob is happening twice. Fix.
         if (model.findJob(this.name) == null) {
             throw new CommandException(MESSAGE_NO_SUCH_JOB);
         }
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands.job;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_UNTIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_OWNER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MACHINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobQuery;
+
+/**
+ * Lists all jobs that match every one of the attributes given.
+ */
+public class QueryJobsCommand extends Command {
+
+    public static final String COMMAND_WORD = "queryJobs";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all jobs that match every attribute given. "
+            + "An attribute given more than once matches any of its values. "
+            + "A priority followed by + also matches the more urgent priorities.\n"
+            + "Parameters: "
+            + "[" + PREFIX_JOB_STATUS + "STATUS]... "
+            + "[" + PREFIX_JOB_PRIORITY + "PRIORITY[+]]... "
+            + "[" + PREFIX_MACHINE + "MACHINE_NAME]... "
+            + "[" + PREFIX_JOB_OWNER + "OWNER_NAME]... "
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_ADDED_FROM + "yyyy-MM-dd[ HH:mm]] "
+            + "[" + PREFIX_ADDED_UNTIL + "yyyy-MM-dd[ HH:mm]]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_JOB_STATUS + "QUEUED "
+            + PREFIX_JOB_PRIORITY + "HIGH+ "
+            + PREFIX_ADDED_FROM + "2018-11-01";
+
+    private final JobQuery query;
+
+    public QueryJobsCommand(JobQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        Set<Job> matchingJobs = model.findJobs(query);
+        model.updateFilteredJobListInAllMachines(matchingJobs::contains);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_JOBS_LISTED_OVERVIEW, model.getTotalNumberOfJobsDisplayed()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryJobsCommand // instanceof handles nulls
+                && query.equals(((QueryJobsCommand) other).query)); // state check
+    }
+}
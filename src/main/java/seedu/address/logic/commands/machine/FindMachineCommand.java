@@ -2,11 +2,14 @@ package seedu.address.logic.commands.machine;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
+import seedu.address.model.machine.Machine;
 import seedu.address.model.machine.MachineNameContainsKeywordsPredicate;
 
 
@@ -34,7 +37,8 @@ public class FindMachineCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredMachineList(predicate);
+        Set<Machine> matchingMachines = model.findMachinesByNameKeywords(predicate.getKeywords());
+        model.updateFilteredMachineList(matchingMachines::contains);
         return new CommandResult(
                 String.format(Messages.MESSAGE_MACHINE_LISTED_OVERVIEW, model.getFilteredMachineList().size()));
     }
@@ -12,11 +12,14 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.admin.AddAdminCommand;
@@ -28,6 +31,7 @@ import seedu.address.logic.commands.job.AddJobCommand;
 import seedu.address.logic.commands.job.FindJobCommand;
 import seedu.address.logic.commands.job.ListJobsCommand;
 import seedu.address.logic.commands.job.ManageJobCommand;
+import seedu.address.logic.commands.job.QueryJobsCommand;
 import seedu.address.logic.commands.job.RequestDeletionCommand;
 import seedu.address.logic.commands.machine.AddMachineCommand;
 import seedu.address.logic.commands.machine.EditMachineCommand;
@@ -42,6 +46,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.job.AddJobCommandParser;
 import seedu.address.logic.parser.job.FindJobCommandParser;
 import seedu.address.logic.parser.job.ManageJobCommandParser;
+import seedu.address.logic.parser.job.QueryJobsCommandParser;
 import seedu.address.logic.parser.job.RequestDeletionCommandParser;
 import seedu.address.logic.parser.machine.AddMachineCommandParser;
 import seedu.address.logic.parser.machine.EditMachineCommandParser;
@@ -147,6 +152,9 @@ public class AddressBookParser {
         case ListJobsCommand.COMMAND_WORD:
             return new ListJobsCommand();
 
+        case QueryJobsCommand.COMMAND_WORD:
+            return new QueryJobsCommandParser().parse(arguments);
+
         case ManageJobCommand.COMMAND_WORD:
             return new ManageJobCommandParser().parse(arguments);
 
@@ -156,6 +164,15 @@ public class AddressBookParser {
         case RequestDeletionCommand.COMMAND_WORD:
             return new RequestDeletionCommandParser().parse(arguments);
 
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -18,4 +18,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_JOB_PRIORITY = new Prefix("pr/");
     public static final Prefix PREFIX_JOB_NOTE = new Prefix("jn/");
     public static final Prefix PREFIX_JOB_DURATION =  new Prefix("d/");
+    public static final Prefix PREFIX_JOB_STATUS = new Prefix("st/");
+    public static final Prefix PREFIX_ADDED_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_ADDED_UNTIL = new Prefix("to/");
 }
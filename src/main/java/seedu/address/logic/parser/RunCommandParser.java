@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * The option to stop on errors comes before the file, so that the path of the file may contain spaces.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String path = args.trim();
+        boolean isStopOnError = path.equals(RunCommand.OPTION_STOP_ON_ERROR)
+                || path.startsWith(RunCommand.OPTION_STOP_ON_ERROR + " ");
+        if (isStopOnError) {
+            path = path.substring(RunCommand.OPTION_STOP_ON_ERROR.length()).trim();
+        }
+        if (path.isEmpty() || !FileUtil.isValidPath(path)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        return new RunCommand(Paths.get(path), isStopOnError);
+    }
+}
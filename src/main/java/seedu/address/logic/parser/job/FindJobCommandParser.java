@@ -3,32 +3,44 @@ package seedu.address.logic.parser.job;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.job.FindJobCommand;
+import seedu.address.logic.commands.job.FindSimilarJobsCommand;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.job.JobNameContainsKeywordsPredicate;
 
 /**
- * Parses input arguments and creates a new FindJobCommand object
+ * Parses input arguments and creates a new FindJobCommand object,
+ * or a new FindSimilarJobsCommand object if the arguments start with {@code FindSimilarJobsCommand.OPTION_WORD}.
  */
-public class FindJobCommandParser implements Parser<FindJobCommand> {
+public class FindJobCommandParser implements Parser<Command> {
 
     /**
-     * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns an FindCommand object for execution.
+     * Parses the given {@code String} of arguments in the context of the FindJobCommand
+     * and returns a FindJobCommand or FindSimilarJobsCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindJobCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindJobCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> nameKeywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        if (nameKeywords.get(0).equals(FindSimilarJobsCommand.OPTION_WORD)) {
+            // job names are alphanumeric, so the option cannot be taken for a job name
+            if (nameKeywords.size() == 1) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSimilarJobsCommand.MESSAGE_USAGE));
+            }
+            return new FindSimilarJobsCommand(nameKeywords.subList(1, nameKeywords.size()));
+        }
 
-        return new FindJobCommand(new JobNameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindJobCommand(new JobNameContainsKeywordsPredicate(nameKeywords));
     }
 
 }
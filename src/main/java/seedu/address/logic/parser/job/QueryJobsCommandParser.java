@@ -0,0 +1,159 @@
+package seedu.address.logic.parser.job;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDED_UNTIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_OWNER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOB_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MACHINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import seedu.address.logic.commands.job.QueryJobsCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.job.JobQuery;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * Parses input arguments and creates a new QueryJobsCommand object
+ */
+public class QueryJobsCommandParser implements Parser<QueryJobsCommand> {
+
+    public static final String MESSAGE_INVALID_TIME = "Times should be given as yyyy-MM-dd, "
+            + "optionally followed by the time of day as HH:mm";
+    public static final String MESSAGE_EMPTY_OWNER = "Owner names should not be blank";
+
+    private static final String AT_LEAST_SUFFIX = "+";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryJobsCommand
+     * and returns a QueryJobsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryJobsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_JOB_STATUS, PREFIX_JOB_PRIORITY,
+                PREFIX_MACHINE, PREFIX_JOB_OWNER, PREFIX_TAG, PREFIX_ADDED_FROM, PREFIX_ADDED_UNTIL);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryJobsCommand.MESSAGE_USAGE));
+        }
+
+        JobQuery query = new JobQuery();
+        List<String> statuses = argMultimap.getAllValues(PREFIX_JOB_STATUS);
+        if (!statuses.isEmpty()) {
+            query.setStatuses(parseStatuses(statuses));
+        }
+        List<String> priorities = argMultimap.getAllValues(PREFIX_JOB_PRIORITY);
+        if (!priorities.isEmpty()) {
+            query.setPriorities(parsePriorities(priorities));
+        }
+        List<String> machineNames = argMultimap.getAllValues(PREFIX_MACHINE);
+        if (!machineNames.isEmpty()) {
+            Set<MachineName> names = new HashSet<>();
+            for (String machineName : machineNames) {
+                names.add(ParserUtil.parseMachineName(machineName.trim()));
+            }
+            query.setMachineNames(names);
+        }
+        List<String> ownerNames = argMultimap.getAllValues(PREFIX_JOB_OWNER);
+        if (!ownerNames.isEmpty()) {
+            if (ownerNames.stream().anyMatch(name -> name.trim().isEmpty())) {
+                throw new ParseException(MESSAGE_EMPTY_OWNER);
+            }
+            query.setOwnerNames(new HashSet<>(ownerNames));
+        }
+        List<String> tags = argMultimap.getAllValues(PREFIX_TAG);
+        if (!tags.isEmpty()) {
+            query.setTags(ParserUtil.parseTags(tags));
+        }
+        if (argMultimap.getValue(PREFIX_ADDED_FROM).isPresent()) {
+            query.setAddedFrom(parseTime(argMultimap.getValue(PREFIX_ADDED_FROM).get(), false));
+        }
+        if (argMultimap.getValue(PREFIX_ADDED_UNTIL).isPresent()) {
+            query.setAddedUntil(parseTime(argMultimap.getValue(PREFIX_ADDED_UNTIL).get(), true));
+        }
+
+        if (!query.isAnyAttributeFiltered()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryJobsCommand.MESSAGE_USAGE));
+        }
+        return new QueryJobsCommand(query);
+    }
+
+    /**
+     * Parses {@code statuses} into a set of statuses, ignoring case.
+     */
+    private static Set<Status> parseStatuses(List<String> statuses) throws ParseException {
+        Set<Status> statusSet = new HashSet<>();
+        for (String status : statuses) {
+            try {
+                statusSet.add(Status.valueOf(status.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException iae) {
+                throw new ParseException(Status.MESSAGE_STATUS_CONSTRAINTS);
+            }
+        }
+        return statusSet;
+    }
+
+    /**
+     * Parses {@code priorities} into a set of priorities, ignoring case.
+     * A priority followed by {@code AT_LEAST_SUFFIX} stands for itself and the more urgent priorities.
+     */
+    private static Set<Priority> parsePriorities(List<String> priorities) throws ParseException {
+        Set<Priority> prioritySet = new HashSet<>();
+        for (String priority : priorities) {
+            String trimmedPriority = priority.trim().toUpperCase(Locale.ROOT);
+            boolean isAtLeast = trimmedPriority.endsWith(AT_LEAST_SUFFIX);
+            if (isAtLeast) {
+                trimmedPriority = trimmedPriority.substring(0, trimmedPriority.length() - 1).trim();
+            }
+            Priority parsedPriority = ParserUtil.parseJobPriority(trimmedPriority);
+            prioritySet.add(parsedPriority);
+            if (isAtLeast) {
+                for (Priority other : Priority.values()) {
+                    if (Priority.rank(other) >= Priority.rank(parsedPriority)) {
+                        prioritySet.add(other);
+                    }
+                }
+            }
+        }
+        return prioritySet;
+    }
+
+    /**
+     * Parses {@code time} into milliseconds since the epoch, in the time zone of the clock that jobs are added by.
+     * A date without a time of day stands for the start of the day, or the end of the day if {@code isEndOfDay}.
+     */
+    private static long parseTime(String time, boolean isEndOfDay) throws ParseException {
+        String trimmedTime = time.trim();
+        LocalDateTime dateTime;
+        try {
+            if (trimmedTime.contains(" ")) {
+                dateTime = LocalDateTime.parse(trimmedTime.replaceAll("\\s+", " "), DATE_TIME_FORMATTER);
+            } else {
+                LocalDate date = LocalDate.parse(trimmedTime);
+                dateTime = isEndOfDay ? date.plusDays(1).atStartOfDay().minusNanos(1_000_000) : date.atStartOfDay();
+            }
+        } catch (DateTimeParseException dtpe) {
+            throw new ParseException(MESSAGE_INVALID_TIME, dtpe);
+        }
+        return dateTime.atZone(TimeStamp.getClock().getZone()).toInstant().toEpochMilli();
+    }
+}
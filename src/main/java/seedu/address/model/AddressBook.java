@@ -3,7 +3,12 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import org.mindrot.jbcrypt.BCrypt;
@@ -22,7 +27,9 @@ import seedu.address.model.job.Status;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.machine.MachineName;
 import seedu.address.model.machine.UniqueMachineList;
+import seedu.address.model.machine.exceptions.MachineNotFoundException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRegistry;
 import seedu.address.model.person.UniquePersonList;
 
 
@@ -38,6 +45,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueAdminList admins;
     private final UniqueMachineList machines;
     private final AdminSession adminSession;
+    private PersonRegistry owners = new PersonRegistry();
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to
@@ -82,9 +90,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Replaces the contents of the machine list with {@code machines}.
      * {@code machines} must not contain duplicate machines
+     * The owners of the jobs are interned in a new registry, so the owners of jobs that are gone are dropped.
      */
     public void setMachines(List<Machine> machines) {
         this.machines.setMachines(machines);
+        owners = new PersonRegistry();
+        machines.forEach(this::internOwners);
     }
 
     /**
@@ -114,6 +125,41 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     }
 
+    /**
+     * Adds {@code persons}, {@code machines} and {@code jobs} to this {@code AddressBook} in bulk, replacing
+     * each list once instead of adding them one at a time.
+     * None of them may already exist in the address book, and each job must be for one of {@code machines}
+     * or a machine already in the address book.
+     */
+    public void addAll(List<Person> persons, List<Machine> machines, List<Job> jobs) {
+        requireAllNonNull(persons, machines, jobs);
+        if (!persons.isEmpty()) {
+            List<Person> allPersons = new ArrayList<>(getPersonList());
+            allPersons.addAll(persons);
+            setPersons(allPersons);
+        }
+        if (machines.isEmpty() && jobs.isEmpty()) {
+            return;
+        }
+
+        List<Machine> allMachines = new ArrayList<>(getMachineList());
+        allMachines.addAll(machines);
+        Map<MachineName, Machine> machinesByName = new HashMap<>();
+        allMachines.forEach(machine -> machinesByName.put(machine.getName(), machine));
+        Map<Machine, List<Job>> jobsByMachine = new IdentityHashMap<>();
+        for (Job job : jobs) {
+            Machine machine = machinesByName.get(job.getMachineName());
+            if (machine == null) {
+                throw new MachineNotFoundException();
+            }
+            jobsByMachine.computeIfAbsent(machine, unused -> new ArrayList<>(machine.getJobs())).add(job);
+        }
+        // machines are replaced rather than changed, so that the saved states of the address book keep their jobs
+        allMachines.replaceAll(machine -> !jobsByMachine.containsKey(machine) ? machine
+                : new Machine(machine.getName(), jobsByMachine.get(machine), machine.getTags(), machine.getStatus()));
+        setMachines(allMachines);
+    }
+
     //======================== person methods ================================//
 
     /**
@@ -236,6 +282,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addMachine(Machine machine) {
         requireNonNull(machine);
         machines.add(machine);
+        internOwners(machine);
     }
 
     /**
@@ -256,6 +303,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedMachine);
 
         machines.setMachine(target, editedMachine);
+        internOwners(editedMachine);
     }
 
     /**
@@ -280,12 +328,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasJob(Job job) {
         requireNonNull(job);
-        for (Machine machine : getMachineList()) {
-            if (machine.hasJob(job)) {
-                return true;
-            }
-        }
-        return false;
+        return machines.findJob(job.getJobName()) != null;
     }
 
     /**
@@ -295,6 +338,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addJobToMachineList(Job jobToAdd) {
         requireAllNonNull(jobToAdd);
         machines.addJobToMachineList(jobToAdd);
+        jobToAdd.internOwner(owners);
     }
 
     /**
@@ -314,17 +358,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Returns the job, if present, according to JobName
+     * Returns the job, if present, according to JobName, together with the machine holding it.
+     * Returns null if no machine holds such a job.
      */
     public JobMachineTuple findJob(JobName name) {
         requireNonNull(name);
-        for (Machine machine : getMachineList()) {
-            Job jobToFind = machine.findJob(name);
-            if (!(jobToFind == null)) {
-                return new JobMachineTuple(jobToFind, machine);
-            }
-        }
-        return null;
+        return machines.findJob(name);
     }
 
     /**
@@ -343,7 +382,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void startJob(JobName name) {
         requireNonNull(name);
-        findJob(name).job.startJob();
+        machines.modifyJob(name, Job::startJob);
     }
 
     /**
@@ -353,7 +392,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void cancelJob(JobName name) {
         requireNonNull(name);
-        findJob(name).job.cancelJob();
+        machines.modifyJob(name, Job::cancelJob);
     }
 
     /**
@@ -363,7 +402,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void restartJob(JobName name) {
         requireNonNull(name);
-        findJob(name).job.restartJob();
+        machines.modifyJob(name, Job::restartJob);
     }
 
     /**
@@ -372,10 +411,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
 
     public void swapJobs(JobName jobName1, JobName jobName2) {
-        JobMachineTuple mj1 = findJob(jobName1);
-        JobMachineTuple mj2 = findJob(jobName2);
-        mj1.machine.replaceJob(mj1.job, mj2.job);
-        mj2.machine.replaceJob(mj2.job, mj1.job);
+        machines.swapJobs(jobName1, jobName2);
     }
 
     /**
@@ -385,15 +421,36 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void finishJob(Job job) {
         requireNonNull(job);
-        job.finishJob();
+        JobMachineTuple jobMachineTuple = findJob(job.getJobName());
+        if (jobMachineTuple != null && jobMachineTuple.job == job) {
+            machines.modifyJob(job.getJobName(), Job::finishJob);
+        } else {
+            job.finishJob();
+        }
     }
 
     /**
      * Request deletion of print job
      */
     public void requestDeletion(JobName jobName) {
-        Job toRequestDelete = findJob(jobName).job;
-        toRequestDelete.setStatus(Status.DELETING);
+        machines.modifyJob(jobName, job -> job.setStatus(Status.DELETING));
+    }
+
+    /**
+     * Applies {@code change} to the job named {@code name}, which must exist in the address book.
+     * Jobs held by the machines must only be changed through this method, so that the total duration
+     * of every machine stays up to date.
+     */
+    public void modifyJob(JobName name, Consumer<Job> change) {
+        requireAllNonNull(name, change);
+        machines.modifyJob(name, change);
+    }
+
+    /**
+     * Interns the owners of the jobs of {@code machine} in the registry of this address book.
+     */
+    private void internOwners(Machine machine) {
+        machine.getJobs().forEach(job -> job.internOwner(owners));
     }
 
     public int getTotalNumberOfStoredJobs() {
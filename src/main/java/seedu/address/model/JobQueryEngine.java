@@ -0,0 +1,222 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.JobMachineTuple;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobQuery;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.AttributeIndex;
+import seedu.address.model.util.KeywordIndex;
+
+/**
+ * Finds the jobs in an address book that match a {@link JobQuery}.
+ * Instead of testing every job, the jobs with the most selective attribute value of the query are looked up,
+ * and only those are tested against the rest of the query.
+ * Jobs are looked up by status and by priority in indexes kept here, by tag in the keyword index of the model,
+ * and by machine through the machines themselves. A query on none of those attributes tests every job.
+ */
+class JobQueryEngine {
+    static final String INDEX_STATUS = "status";
+    static final String INDEX_PRIORITY = "priority";
+    static final String INDEX_MACHINE = "machine";
+    static final String INDEX_TAG = "tag";
+    static final String FULL_SCAN = "all jobs";
+
+    private static final Logger logger = LogsCenter.getLogger(JobQueryEngine.class);
+
+    private final AddressBook addressBook;
+    private final KeywordIndex<Job> keywordIndex;
+    private final AttributeIndex<Job, Status> statusIndex = new AttributeIndex<>(Job::getStatus);
+    private final AttributeIndex<Job, Priority> priorityIndex = new AttributeIndex<>(Job::getPriority);
+
+    /**
+     * Creates an engine for the jobs of {@code addressBook}, which are indexed by name and tag in
+     * {@code keywordIndex}. The engine follows the changes to the machines and jobs of {@code addressBook},
+     * except for changes to the status of a job, which must be {@link #refresh(Job) refreshed}.
+     */
+    JobQueryEngine(AddressBook addressBook, KeywordIndex<Job> keywordIndex) {
+        requireNonNull(addressBook);
+        requireNonNull(keywordIndex);
+        this.addressBook = addressBook;
+        this.keywordIndex = keywordIndex;
+        statusIndex.attachChildren(addressBook.getMachineList(), Machine::getJobsAsObservableList);
+        priorityIndex.attachChildren(addressBook.getMachineList(), Machine::getJobsAsObservableList);
+    }
+
+    /**
+     * Indexes {@code job} by its current status and priority.
+     */
+    void refresh(Job job) {
+        statusIndex.refresh(job);
+        priorityIndex.refresh(job);
+    }
+
+    /**
+     * Indexes every job by its current status and priority.
+     */
+    void refreshAll() {
+        for (Machine machine : addressBook.getMachineList()) {
+            machine.getJobs().forEach(this::refresh);
+        }
+    }
+
+    /**
+     * Returns the jobs that match {@code query}. The set returned compares jobs by identity.
+     */
+    Set<Job> find(JobQuery query) {
+        Plan plan = plan(query);
+        logger.fine("Finding " + query + " through " + plan.getIndexUsed() + ", estimated to hold "
+                + plan.getEstimatedSize() + " jobs");
+        return plan.execute();
+    }
+
+    /**
+     * Returns how to find the jobs that match {@code query}, through the index with the fewest jobs to test.
+     */
+    Plan plan(JobQuery query) {
+        requireNonNull(query);
+        List<AccessPath> paths = new ArrayList<>();
+        query.getStatuses().ifPresent(statuses -> paths.add(lookUp(INDEX_STATUS, statusIndex, statuses)));
+        query.getPriorities().ifPresent(priorities -> paths.add(lookUp(INDEX_PRIORITY, priorityIndex, priorities)));
+        query.getMachineNames().ifPresent(machineNames -> paths.add(lookUpMachines(machineNames)));
+        query.getTags().ifPresent(tags -> paths.add(lookUpTags(tags)));
+
+        AccessPath chosen = paths.stream().min(Comparator.comparingInt(path -> path.estimatedSize))
+                .orElseGet(this::scanAll);
+        return new Plan(chosen, query);
+    }
+
+    /**
+     * Returns the way of finding the jobs with any of {@code keys} in {@code index}.
+     */
+    private static <K> AccessPath lookUp(String name, AttributeIndex<Job, K> index, Set<K> keys) {
+        Supplier<Collection<Job>> jobs = () -> union(keys.stream().map(index::get).collect(Collectors.toList()));
+        return new AccessPath(name, index.count(keys), jobs);
+    }
+
+    /**
+     * Returns the way of finding the jobs held by the machines named any of {@code machineNames}.
+     */
+    private AccessPath lookUpMachines(Set<MachineName> machineNames) {
+        List<Machine> machines = machineNames.stream().map(addressBook::findMachine).filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        int jobCount = machines.stream().mapToInt(machine -> machine.getJobs().size()).sum();
+        Supplier<Collection<Job>> jobs = () -> union(machines.stream().map(Machine::getJobs)
+                .collect(Collectors.toList()));
+        return new AccessPath(INDEX_MACHINE, jobCount, jobs);
+    }
+
+    /**
+     * Returns the way of finding the jobs tagged with any of {@code tags}.
+     */
+    private AccessPath lookUpTags(Set<Tag> tags) {
+        List<String> tagNames = tags.stream().map(tag -> tag.tagName).collect(Collectors.toList());
+        return new AccessPath(INDEX_TAG, keywordIndex.countByTags(tagNames), () -> keywordIndex.findByTags(tagNames));
+    }
+
+    /**
+     * Returns the way of finding every job, to test them all.
+     */
+    private AccessPath scanAll() {
+        return new AccessPath(FULL_SCAN, addressBook.getTotalNumberOfStoredJobs(), () -> {
+            List<Job> jobs = new ArrayList<>();
+            addressBook.getMachineList().forEach(machine -> jobs.addAll(machine.getJobs()));
+            return jobs;
+        });
+    }
+
+    /**
+     * Returns the jobs in any of {@code postings}.
+     */
+    private static Collection<Job> union(List<? extends Collection<Job>> postings) {
+        if (postings.size() == 1) {
+            return postings.get(0);
+        }
+        Set<Job> jobs = Collections.newSetFromMap(new IdentityHashMap<>());
+        postings.forEach(jobs::addAll);
+        return jobs;
+    }
+
+    /**
+     * A way of finding some jobs, with the number of jobs it is expected to find.
+     */
+    private static class AccessPath {
+        private final String name;
+        private final int estimatedSize;
+        private final Supplier<Collection<Job>> jobs;
+
+        AccessPath(String name, int estimatedSize, Supplier<Collection<Job>> jobs) {
+            this.name = name;
+            this.estimatedSize = estimatedSize;
+            this.jobs = jobs;
+        }
+    }
+
+    /**
+     * How to find the jobs matching a query: the jobs found through one index, tested against the whole query.
+     */
+    class Plan {
+        private final AccessPath path;
+        private final JobQuery query;
+
+        private Plan(AccessPath path, JobQuery query) {
+            this.path = path;
+            this.query = query;
+        }
+
+        /**
+         * Returns the name of the index the jobs are found through.
+         */
+        String getIndexUsed() {
+            return path.name;
+        }
+
+        int getEstimatedSize() {
+            return path.estimatedSize;
+        }
+
+        /**
+         * Returns the jobs found through the index that match the whole query.
+         */
+        Set<Job> execute() {
+            Set<Job> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Job job : path.jobs.get()) {
+                if (query.matchesAttributesOf(job) && isOnMachineQueried(job)) {
+                    matches.add(job);
+                }
+            }
+            return matches;
+        }
+
+        /**
+         * Returns true if {@code job} is held by one of the machines queried, if the query is on machines.
+         */
+        private boolean isOnMachineQueried(Job job) {
+            if (!query.getMachineNames().isPresent()) {
+                return true;
+            }
+            Set<MachineName> machineNames = query.getMachineNames().get();
+            JobMachineTuple jobMachineTuple = addressBook.findJob(job.getJobName());
+            return jobMachineTuple != null && jobMachineTuple.job == job
+                    && machineNames.contains(jobMachineTuple.machine.getName());
+        }
+    }
+}
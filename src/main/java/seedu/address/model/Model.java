@@ -1,18 +1,24 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.Username;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.JobMatch;
 import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobQuery;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.machine.MachineName;
 import seedu.address.model.person.Person;
 
 /**
  * The API of the Model component.
+ * The model is changed on a single thread, the model thread, and its methods must only be called on that thread.
+ * Other threads read the model through {@link #getSnapshot()}.
  */
 public interface Model {
     /** {@code Predicate} that always evaluate to true */
@@ -25,12 +31,58 @@ public interface Model {
     /** {@code Predicate} that always eveluate to true for jobs */
     Predicate<Job> PREDICATE_SHOW_ALL_JOBS = unused -> true;
 
+    /**
+     * Changes to make to a model together, as one transaction.
+     *
+     * @param <E> the type of exception thrown when the changes cannot be made
+     */
+    @FunctionalInterface
+    interface Transaction<E extends Exception> {
+        void run(Model model) throws E;
+    }
+
     /** Clears existing backing model and replaces with the provided new data. */
     void resetData(ReadOnlyAddressBook newData);
 
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Adds {@code persons}, {@code machines} and {@code jobs} in bulk, changing each list once.
+     * None of them may already exist in the model, and each job must be for one of {@code machines}
+     * or a machine already in the model.
+     */
+    void addAll(List<Person> persons, List<Machine> machines, List<Job> jobs);
+
+    /**
+     * Makes the changes of {@code transaction} to the model as one change: the state of the address book is saved
+     * for undo/redo once, and a single event is raised for all the changes, once they are all made.
+     * The events the changes would raise on their own are not raised, and any commit of the address book they
+     * request is made once at the end. If {@code transaction} throws, every change it made is taken back
+     * without raising any event, and the exception is rethrown.
+     * A transaction run within another joins it, and is committed or taken back along with it.
+     * The address book cannot be undone or redone within a transaction.
+     */
+    <E extends Exception> void transaction(Transaction<E> transaction) throws E;
+
+    /**
+     * Returns a read-only copy of the address book as it was after the last change made on the model thread,
+     * which may be read on any thread. Its machines and jobs are copies, which must not be changed.
+     */
+    ReadOnlyAddressBook getSnapshot();
+
+    /**
+     * Returns the copy of {@code machine}, one of the machines of the address book, in the snapshot published
+     * once the task running on the model thread is done. Its jobs are filtered as the jobs of {@code machine} are.
+     * The copy may be read on any thread, and must not be changed.
+     */
+    Machine getPublishedCopy(Machine machine);
+
+    /**
+     * Adds {@code listener}, which is run on the model thread every time a snapshot is published.
+     */
+    void addSnapshotListener(Runnable listener);
+
     // ============================== Person methods ======================================= //
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
@@ -182,6 +234,11 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a word, ignoring case,
+     * looked up in an index of the words in their names. The set returned compares persons by identity.
+     */
+    Set<Person> findPersonsByNameKeywords(List<String> keywords);
 
     //=========== Filtered Admin List Accessors =============================================================
     ObservableList<Admin> getFilteredAdminList();
@@ -195,9 +252,29 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredMachineList(Predicate<Machine> predicate);
+    /**
+     * Returns the machines whose name contains any of {@code keywords} as a word, ignoring case,
+     * looked up in an index of the words in their names. The set returned compares machines by identity.
+     */
+    Set<Machine> findMachinesByNameKeywords(List<String> keywords);
     //=========== Filtered Job List Accessors =============================================================
 
     void updateFilteredJobListInAllMachines(Predicate<Job> predicate);
+    /**
+     * Returns the jobs on any machine whose name contains any of {@code keywords} as a word, ignoring case,
+     * looked up in an index of the words in their names. The set returned compares jobs by identity.
+     */
+    Set<Job> findJobsByNameKeywords(List<String> keywords);
+    /**
+     * Returns the jobs whose name, or the name of whose machine, has a word that starts with any of {@code terms}
+     * or is only a few typing mistakes away from it, ignoring case. The jobs are ranked best match first.
+     */
+    List<JobMatch> findJobsSimilarTo(List<String> terms);
+    /**
+     * Returns the jobs that match {@code query}, looked up through the most selective of the indexes of the jobs.
+     * The set returned compares jobs by identity.
+     */
+    Set<Job> findJobs(JobQuery query);
 
     //================================= AddressBook methods ===================================//
     /**
@@ -242,4 +319,10 @@ public interface Model {
      */
     boolean isUndoLogin();
 
+    /**
+     * Stops the work the model does in the background, such as finishing jobs that are due.
+     * The model must not be changed after this.
+     */
+    void close();
+
 }
@@ -3,8 +3,14 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,20 +18,27 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.JobMachineTuple;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.AdminListChangedEvent;
 import seedu.address.commons.events.model.JobListChangedEvent;
+import seedu.address.commons.events.model.JobStatusChangedEvent;
 import seedu.address.commons.events.model.MachineListChangedEvent;
+import seedu.address.commons.events.model.TransactionCommittedEvent;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.Username;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.JobCompletionScheduler;
+import seedu.address.model.job.JobMatch;
 import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobQuery;
 import seedu.address.model.job.Status;
 import seedu.address.model.job.exceptions.JobNotStartedException;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.machine.MachineName;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.KeywordIndex;
 
 
 /**
@@ -38,48 +51,49 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Admin> filteredAdmins;
     private final FilteredList<Machine> filteredMachines;
-
+    private final JobCompletionScheduler jobCompletionScheduler;
+    private final KeywordIndex<Person> personIndex = new KeywordIndex<>(person -> person.getName().fullName,
+            Person::getTags);
+    private final KeywordIndex<Machine> machineIndex = new KeywordIndex<>(machine -> machine.getName().fullName,
+            Machine::getTags);
+    private final KeywordIndex<Job> jobIndex = new KeywordIndex<>(job -> job.getJobName().fullName, Job::getTags);
+    private final JobQueryEngine jobQueryEngine;
+    private final SnapshotPublisher snapshotPublisher;
+    private TransactionLog transaction;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Jobs that are due to finish are finished on the thread that notices they are due.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) {
+        this(addressBook, userPrefs, Runnable::run);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Jobs that are due to finish are finished by running a task on {@code modelThread},
+     * which should be the thread that all other changes to the model are made on.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs, Executor modelThread) {
         super();
-        requireAllNonNull(addressBook, userPrefs);
+        requireAllNonNull(addressBook, userPrefs, modelThread);
 
         logger.fine(
             "Initializing with address book: " + addressBook + " and user prefs " + userPrefs + "and initial admin");
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryLimit());
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
         filteredMachines = new FilteredList<>(versionedAddressBook.getMachineList());
         filteredAdmins = new FilteredList<>(versionedAddressBook.getAdminList());
         //TODO find a better way to change the data according to sorted jobs based on comparator
+        personIndex.attach(versionedAddressBook.getPersonList());
+        machineIndex.attach(versionedAddressBook.getMachineList());
+        jobIndex.attachChildren(versionedAddressBook.getMachineList(), Machine::getJobsAsObservableList);
+        jobQueryEngine = new JobQueryEngine(versionedAddressBook, jobIndex);
+        snapshotPublisher = new SnapshotPublisher(versionedAddressBook, modelThread);
 
-        // Timer for auto print cleanup
-        // credit: https://dzone.com/articles/how-schedule-task-run-interval
-        TimerTask task = new TimerTask() {
-            @Override
-            public void run() {
-                for (Machine machine : versionedAddressBook.getMachineList()) {
-                    for (Job job : machine.getJobs()) {
-                        try {
-                            if (job.getStatus() == Status.ONGOING && job.isFinished()) {
-                                finishJob(job);
-                            }
-                        } catch (JobNotStartedException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                }
-            }
-        };
-
-        Timer timer = new Timer();
-        long delay = 60000;
-        long intervalPeriod = 60000;
-        timer.scheduleAtFixedRate(task, delay, intervalPeriod);
-
+        jobCompletionScheduler = new JobCompletionScheduler(job -> modelThread.execute(() -> finishDueJob(job)));
+        scheduleOngoingJobs();
     }
 
     public ModelManager() {
@@ -88,19 +102,177 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
+        beforeChange(log -> {
+            log.rememberPersons(versionedAddressBook);
+            log.rememberAdmins(versionedAddressBook);
+            log.rememberMachines(versionedAddressBook);
+            log.rememberLogin(versionedAddressBook);
+            log.noteAdminListChanged();
+            log.noteMachineListChanged();
+        });
         versionedAddressBook.resetData(newData);
+        scheduleOngoingJobs();
+        jobQueryEngine.refreshAll();
         indicateAddressBookChanged();
     }
 
+    /**
+     * Replaces the persons with {@code persons} that have only now been read from storage.
+     * The persons are not saved again, and are kept when undoing changes made before they were read.
+     */
+    public void setLoadedPersons(List<Person> persons) {
+        versionedAddressBook.setLoadedPersons(persons);
+    }
+
+    /**
+     * Replaces the admins with {@code admins} that have only now been read from storage.
+     * The admins are not saved again, and are kept when undoing changes made before they were read.
+     */
+    public void setLoadedAdmins(List<Admin> admins) {
+        versionedAddressBook.setLoadedAdmins(admins);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return versionedAddressBook;
     }
 
+    @Override
+    public void addAll(List<Person> persons, List<Machine> machines, List<Job> jobs) {
+        requireAllNonNull(persons, machines, jobs);
+        beforeChange(log -> {
+            log.rememberPersons(versionedAddressBook);
+            log.rememberMachines(versionedAddressBook);
+        });
+        versionedAddressBook.addAll(persons, machines, jobs);
+        jobs.forEach(jobCompletionScheduler::schedule);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredMachineList(PREDICATE_SHOW_ALL_MACHINES);
+        if (!persons.isEmpty()) {
+            indicateAddressBookChanged();
+        }
+        if (!machines.isEmpty() || !jobs.isEmpty()) {
+            indicateMachineListChanged();
+        }
+    }
+
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return snapshotPublisher.getLatest();
+    }
+
+    @Override
+    public Machine getPublishedCopy(Machine machine) {
+        requireNonNull(machine);
+        return snapshotPublisher.getCopy(machine);
+    }
+
+    @Override
+    public void addSnapshotListener(Runnable listener) {
+        requireNonNull(listener);
+        snapshotPublisher.addListener(listener);
+    }
+
+    /**
+     * Schedules every ongoing job in the address book to be finished when it is due, forgetting earlier schedules.
+     */
+    private void scheduleOngoingJobs() {
+        jobCompletionScheduler.clear();
+        for (Machine machine : versionedAddressBook.getMachineList()) {
+            for (Job job : machine.getJobs()) {
+                jobCompletionScheduler.schedule(job);
+            }
+        }
+    }
+
+    @Override
+    public <E extends Exception> void transaction(Transaction<E> changes) throws E {
+        requireNonNull(changes);
+        if (transaction != null) {
+            // joins the transaction running, which commits or rolls back these changes along with its own
+            changes.run(this);
+            return;
+        }
+
+        TransactionLog log = new TransactionLog();
+        transaction = log;
+        boolean isDone = false;
+        try {
+            changes.run(this);
+            isDone = true;
+        } finally {
+            transaction = null;
+            if (!isDone) {
+                rollBack(log);
+            }
+        }
+        commit(log);
+    }
+
+    /**
+     * Runs {@code remember} on the log of the transaction running, if any, before the address book is changed.
+     */
+    private void beforeChange(Consumer<TransactionLog> remember) {
+        if (transaction != null) {
+            remember.accept(transaction);
+        }
+    }
+
+    /**
+     * Returns the machine holding the job named {@code name}, or null if there is no such job.
+     */
+    private Machine machineHolding(JobName name) {
+        JobMachineTuple jobMachineTuple = versionedAddressBook.findJob(name);
+        return jobMachineTuple == null ? null : jobMachineTuple.machine;
+    }
+
+    /**
+     * Saves the state of the address book changed by the transaction of {@code log} for undo/redo,
+     * and raises a single event for all of its changes.
+     */
+    private void commit(TransactionLog log) {
+        if (!log.isAnyChangeMade()) {
+            return;
+        }
+        log.commit(versionedAddressBook);
+        snapshotPublisher.markChanged();
+        raise(new TransactionCommittedEvent(versionedAddressBook, log.isPersonListChanged(),
+                log.isAdminListChanged(), log.isMachineListChanged()));
+    }
+
+    /**
+     * Takes back the changes made by the transaction of {@code log}, without raising any event.
+     */
+    private void rollBack(TransactionLog log) {
+        logger.info("Rolling back transaction");
+        log.rollBack(versionedAddressBook);
+        scheduleOngoingJobs();
+        jobQueryEngine.refreshAll();
+        snapshotPublisher.markChanged();
+    }
+
+    /**
+     * Finishes {@code job} if it is still ongoing and has run for its full duration.
+     */
+    private void finishDueJob(Job job) {
+        try {
+            if (job.getStatus() == Status.ONGOING && job.isFinished()) {
+                finishJob(job);
+            }
+        } catch (JobNotStartedException e) {
+            logger.warning("Job " + job.getJobName() + " was due to finish but is not ongoing");
+        }
+    }
+
     /**
      * Raises an event to indicate the model has changed
      */
     private void indicateAddressBookChanged() {
+        if (transaction != null) {
+            transaction.notePersonListChanged();
+            return;
+        }
+        snapshotPublisher.markChanged();
         raise(new AddressBookChangedEvent(versionedAddressBook));
     }
 
@@ -108,6 +280,11 @@ public class ModelManager extends ComponentManager implements Model {
      * Raises an event to indicate the model has changed
      */
     private void indicateAdminListChanged() {
+        if (transaction != null) {
+            transaction.noteAdminListChanged();
+            return;
+        }
+        snapshotPublisher.markChanged();
         raise(new AdminListChangedEvent(versionedAddressBook));
     }
 
@@ -115,15 +292,38 @@ public class ModelManager extends ComponentManager implements Model {
      * Raises an event to indicate the model has changed
      */
     private void indicateMachineListChanged() {
+        if (transaction != null) {
+            transaction.noteMachineListChanged();
+            return;
+        }
+        snapshotPublisher.markChanged();
         raise(new MachineListChangedEvent(versionedAddressBook));
     }
 
+    /**
+     * Raises an event to indicate that only the status of the job {@code name} has changed
+     */
+    private void indicateJobStatusChanged(JobName name) {
+        jobQueryEngine.refresh(findJob(name));
+        if (transaction != null) {
+            transaction.noteMachineListChanged();
+            return;
+        }
+        snapshotPublisher.markChanged();
+        raise(new JobStatusChangedEvent(versionedAddressBook, findJob(name)));
+    }
+
     // TODO: 11/3/2018 REMOVE UNUSED METHOD
 
     /**
      * Raises an event to indicate the model has changed
      */
     private void indicateJobListChanged() {
+        if (transaction != null) {
+            transaction.noteMachineListChanged();
+            return;
+        }
+        snapshotPublisher.markChanged();
         raise(new JobListChangedEvent(versionedAddressBook));
         /**
          * Since when job changes, it implicitly implies that machine list will change too
@@ -140,12 +340,14 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        beforeChange(log -> log.rememberPersons(versionedAddressBook));
         versionedAddressBook.removePerson(target);
         indicateAddressBookChanged();
     }
 
     @Override
     public void addPerson(Person person) {
+        beforeChange(log -> log.rememberPersons(versionedAddressBook));
         versionedAddressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         indicateAddressBookChanged();
@@ -154,6 +356,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updatePerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
+        beforeChange(log -> log.rememberPersons(versionedAddressBook));
         versionedAddressBook.updatePerson(target, editedPerson);
         indicateAddressBookChanged();
     }
@@ -169,6 +372,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void addJob(Job job) {
         requireAllNonNull(job);
+        beforeChange(log -> log.rememberJobsOf(versionedAddressBook.findMachine(job.getMachineName())));
         versionedAddressBook.addJobToMachineList(job);
         indicateMachineListChanged();
     }
@@ -176,6 +380,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void deleteJob(JobName job) {
         requireAllNonNull(job);
+        beforeChange(log -> log.rememberJobsOf(machineHolding(job)));
         versionedAddressBook.removeJob(job);
         indicateMachineListChanged();
     }
@@ -183,53 +388,67 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateJob(Job oldJob, Job updatedJob) {
         requireAllNonNull(oldJob, updatedJob);
+        beforeChange(log -> log.rememberJobsOf(machineHolding(oldJob.getJobName())));
         versionedAddressBook.updateJob(oldJob, updatedJob);
+        jobCompletionScheduler.schedule(updatedJob);
         indicateMachineListChanged();
     }
 
     @Override
     public Job findJob(JobName name) {
         requireAllNonNull(name);
-        return versionedAddressBook.findJob(name).job;
+        JobMachineTuple jobMachineTuple = versionedAddressBook.findJob(name);
+        return jobMachineTuple == null ? null : jobMachineTuple.job;
     }
 
     @Override
     public void startJob(JobName name) {
         requireNonNull(name);
+        beforeChange(log -> log.rememberJobsOf(machineHolding(name)));
         versionedAddressBook.startJob(name);
-        indicateMachineListChanged();
+        jobCompletionScheduler.schedule(findJob(name));
+        indicateJobStatusChanged(name);
     }
 
     @Override
     public void cancelJob(JobName name) {
         requireAllNonNull();
+        beforeChange(log -> log.rememberJobsOf(machineHolding(name)));
         versionedAddressBook.cancelJob(name);
-        indicateMachineListChanged();
+        indicateJobStatusChanged(name);
     }
 
     @Override
     public void restartJob(JobName name) {
         requireAllNonNull();
+        beforeChange(log -> log.rememberJobsOf(machineHolding(name)));
         versionedAddressBook.restartJob(name);
-        indicateMachineListChanged();
+        jobCompletionScheduler.schedule(findJob(name));
+        indicateJobStatusChanged(name);
     }
 
     @Override
     public void swapJobs(JobName jobName1, JobName jobName2) {
+        beforeChange(log -> {
+            log.rememberJobsOf(machineHolding(jobName1));
+            log.rememberJobsOf(machineHolding(jobName2));
+        });
         versionedAddressBook.swapJobs(jobName1, jobName2);
         indicateMachineListChanged();
     }
 
     @Override
     public void finishJob(Job job) {
+        beforeChange(log -> log.rememberJobsOf(machineHolding(job.getJobName())));
         versionedAddressBook.finishJob(job);
-        indicateMachineListChanged();
+        indicateJobStatusChanged(job.getJobName());
     }
 
     @Override
     public void requestDeletion(JobName jobName) {
+        beforeChange(log -> log.rememberJobsOf(machineHolding(jobName)));
         versionedAddressBook.requestDeletion(jobName);
-        indicateMachineListChanged();
+        indicateJobStatusChanged(jobName);
     }
 
     @Override
@@ -239,6 +458,38 @@ public class ModelManager extends ComponentManager implements Model {
         }
     }
 
+    @Override
+    public Set<Job> findJobsByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return jobIndex.findByNameKeywords(keywords);
+    }
+
+    @Override
+    public List<JobMatch> findJobsSimilarTo(List<String> terms) {
+        requireNonNull(terms);
+        Map<Job, Integer> closenesses = new IdentityHashMap<>();
+        for (String term : terms) {
+            int maxEdits = JobMatch.getMaxEdits(term);
+            jobIndex.findByNameWordsSimilarTo(term, maxEdits)
+                    .forEach((job, closeness) -> closenesses.merge(job, closeness, Math::min));
+            machineIndex.findByNameWordsSimilarTo(term, maxEdits).forEach((machine, closeness) -> {
+                for (Job job : machine.getJobs()) {
+                    closenesses.merge(job, closeness + JobMatch.MACHINE_NAME_PENALTY, Math::min);
+                }
+            });
+        }
+        List<JobMatch> matches = new ArrayList<>(closenesses.size());
+        closenesses.forEach((job, closeness) -> matches.add(new JobMatch(job, closeness)));
+        Collections.sort(matches);
+        return matches;
+    }
+
+    @Override
+    public Set<Job> findJobs(JobQuery query) {
+        requireNonNull(query);
+        return jobQueryEngine.find(query);
+    }
+
     @Override
     public int getTotalNumberOfJobsDisplayed() {
         return getFilteredMachineList().stream().mapToInt(m -> m.getJobsAsFilteredObservableList().size()).sum();
@@ -249,6 +500,7 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void addMachine(Machine machine) {
+        beforeChange(log -> log.rememberMachines(versionedAddressBook));
         versionedAddressBook.addMachine(machine);
         updateFilteredMachineList(PREDICATE_SHOW_ALL_MACHINES);
         indicateMachineListChanged();
@@ -256,6 +508,7 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void removeMachine(Machine toRemove) {
+        beforeChange(log -> log.rememberMachines(versionedAddressBook));
         versionedAddressBook.removeMachine(toRemove);
         indicateMachineListChanged();
     }
@@ -270,6 +523,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateMachine(Machine target, Machine editedMachine) {
         requireAllNonNull(target, editedMachine);
+        beforeChange(log -> log.rememberMachines(versionedAddressBook));
         versionedAddressBook.updateMachine(target, editedMachine);
         indicateMachineListChanged();
     }
@@ -289,6 +543,7 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void addAdmin(Admin admin) {
+        beforeChange(log -> log.rememberAdmins(versionedAddressBook));
         versionedAddressBook.addAdmin(admin);
         indicateAdminListChanged();
     }
@@ -296,6 +551,7 @@ public class ModelManager extends ComponentManager implements Model {
     //TODO: add tests
     @Override
     public void removeAdmin(Admin admin) {
+        beforeChange(log -> log.rememberAdmins(versionedAddressBook));
         versionedAddressBook.removeAdmin(admin);
         indicateAdminListChanged();
     }
@@ -303,6 +559,7 @@ public class ModelManager extends ComponentManager implements Model {
     //TODO: add tests
     @Override
     public void updateAdmin(Admin admin, Admin updatedAdmin) {
+        beforeChange(log -> log.rememberAdmins(versionedAddressBook));
         versionedAddressBook.addAdmin(updatedAdmin);
         versionedAddressBook.removeAdmin(admin);
         indicateAdminListChanged();
@@ -310,12 +567,16 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void setLogin(Admin admin) {
+        beforeChange(log -> log.rememberLogin(versionedAddressBook));
         versionedAddressBook.setLoggedInAdmin(admin);
+        snapshotPublisher.markChanged();
     }
 
     @Override
     public void clearLogin() {
+        beforeChange(log -> log.rememberLogin(versionedAddressBook));
         versionedAddressBook.clearLogin();
+        snapshotPublisher.markChanged();
     }
 
     @Override
@@ -353,9 +614,19 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS
+                && filteredPersons.size() == filteredPersons.getSource().size()) {
+            return; // every person is shown already, so filtering them all again would change nothing
+        }
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public Set<Person> findPersonsByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return personIndex.findByNameKeywords(keywords);
+    }
+
     //=========== Filtered Machine List Accessors ============================================================
 
     /**
@@ -374,6 +645,12 @@ public class ModelManager extends ComponentManager implements Model {
         filteredMachines.setPredicate(predicate);
     }
 
+    @Override
+    public Set<Machine> findMachinesByNameKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return machineIndex.findByNameKeywords(keywords);
+    }
+
 
     //=========== Filtered Admins List Accessors ============================================================
 
@@ -418,34 +695,57 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void undoAddressBook() {
+        assert transaction == null : "Cannot undo in a transaction";
         versionedAddressBook.undo();
+        scheduleOngoingJobs();
+        jobQueryEngine.refreshAll();
         indicateAddressBookChanged();
     }
 
     @Override
     public void redoAddressBook() {
+        assert transaction == null : "Cannot redo in a transaction";
         versionedAddressBook.redo();
+        scheduleOngoingJobs();
+        jobQueryEngine.refreshAll();
         indicateAddressBookChanged();
     }
 
     @Override
     public void commitAddressBook() {
+        if (transaction != null) {
+            transaction.requestCommit(VersionedAddressBook::commit);
+            return;
+        }
         versionedAddressBook.commit();
         indicateAddressBookChanged();
     }
 
     @Override
     public void adminLoginCommitAddressBook() {
+        if (transaction != null) {
+            transaction.requestCommit(VersionedAddressBook::adminLoginCommit);
+            return;
+        }
         versionedAddressBook.adminLoginCommit();
         indicateAddressBookChanged();
     }
 
     @Override
     public void adminLogoutCommitAddressBook() {
+        if (transaction != null) {
+            transaction.requestCommit(VersionedAddressBook::adminLogoutCommit);
+            return;
+        }
         versionedAddressBook.adminLogoutCommit();
         indicateAddressBookChanged();
     }
 
+    @Override
+    public void close() {
+        jobCompletionScheduler.shutdown();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
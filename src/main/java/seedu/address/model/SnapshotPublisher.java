@@ -0,0 +1,286 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.AdminSession;
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Person;
+
+/**
+ * Publishes read-only copies of an address book that is only changed on the model thread,
+ * so that other threads can read the address book without waiting for the model thread or seeing a change
+ * halfway through.
+ *
+ * Once the task that changed the address book is done, a new snapshot is taken on the model thread and published.
+ * Machines are copied along with their jobs, as jobs are changed in place, but a snapshot reuses the copy of
+ * a machine from the previous snapshot if none of its jobs have changed since, so only the machines that changed
+ * are copied again. Persons and admins are not changed in place, so their lists are copied only when they change.
+ * The copies of the machines are also what the UI shows, see {@link Model#getPublishedCopy(Machine)}.
+ */
+class SnapshotPublisher {
+
+    private final ReadOnlyAddressBook addressBook;
+    private final Executor modelThread;
+    private volatile ReadOnlyAddressBook latest;
+    private final List<Runnable> listeners = new ArrayList<>();
+
+    // Read and changed on the model thread only
+    // References are kept as the views only hold weak listeners on the backing lists.
+    private final ObservableList<Person> observedPersons;
+    private final ObservableList<Admin> observedAdmins;
+    private final ObservableList<Machine> observedMachines;
+    private ObservableList<Person> personsCopy;
+    private ObservableList<Admin> adminsCopy;
+    private Map<Machine, MachineCopy> machineCopies = new IdentityHashMap<>();
+    private boolean isPersonListChanged = true;
+    private boolean isAdminListChanged = true;
+    private boolean isUpdateScheduled = false;
+
+    /**
+     * Creates a publisher of snapshots of {@code addressBook}, which is changed on {@code modelThread},
+     * and publishes the first snapshot.
+     */
+    SnapshotPublisher(ReadOnlyAddressBook addressBook, Executor modelThread) {
+        requireAllNonNull(addressBook, modelThread);
+        this.addressBook = addressBook;
+        this.modelThread = modelThread;
+
+        observedPersons = addressBook.getPersonList();
+        observedAdmins = addressBook.getAdminList();
+        observedMachines = addressBook.getMachineList();
+        observedPersons.addListener((ListChangeListener<Person>) change -> {
+            isPersonListChanged = true;
+            markChanged();
+        });
+        observedAdmins.addListener((ListChangeListener<Admin>) change -> {
+            isAdminListChanged = true;
+            markChanged();
+        });
+        observedMachines.addListener((ListChangeListener<Machine>) change -> markChanged());
+        latest = takeSnapshot();
+    }
+
+    /**
+     * Returns the snapshot published last, which may be read on any thread.
+     */
+    ReadOnlyAddressBook getLatest() {
+        return latest;
+    }
+
+    /**
+     * Returns the copy of {@code machine}, one of the machines of the address book, as it will be in the snapshot
+     * published once the task running on the model thread is done, unless {@code machine} changes again before.
+     * The copy may be read on any thread. Must be called on the model thread.
+     */
+    Machine getCopy(Machine machine) {
+        MachineCopy copy = getUpToDateCopy(machine);
+        machineCopies.put(machine, copy);
+        return copy.machine;
+    }
+
+    /**
+     * Notes that the address book has changed, so that a snapshot is published once the task running on
+     * the model thread is done. Must be called on the model thread.
+     */
+    void markChanged() {
+        if (isUpdateScheduled) {
+            return;
+        }
+        isUpdateScheduled = true;
+        modelThread.execute(() -> {
+            isUpdateScheduled = false;
+            latest = takeSnapshot();
+            listeners.forEach(Runnable::run);
+        });
+    }
+
+    /**
+     * Adds {@code listener}, which is run on the model thread every time a snapshot is published.
+     * Must be called on the model thread.
+     */
+    void addListener(Runnable listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns a copy of the address book as it is now, reusing the copies of the previous snapshot
+     * for what has not changed since.
+     */
+    private ReadOnlyAddressBook takeSnapshot() {
+        if (isPersonListChanged) {
+            personsCopy = copyOf(addressBook.getPersonList());
+            isPersonListChanged = false;
+        }
+        if (isAdminListChanged) {
+            adminsCopy = copyOf(addressBook.getAdminList());
+            isAdminListChanged = false;
+        }
+
+        Map<Machine, MachineCopy> newMachineCopies = new IdentityHashMap<>();
+        List<Machine> machines = new ArrayList<>();
+        for (Machine machine : addressBook.getMachineList()) {
+            MachineCopy copy = getUpToDateCopy(machine);
+            newMachineCopies.put(machine, copy);
+            machines.add(copy.machine);
+        }
+        machineCopies = newMachineCopies;
+
+        return new Snapshot(personsCopy, adminsCopy, copyOf(machines), addressBook.getAdminSession());
+    }
+
+    /**
+     * Returns the copy of {@code machine} made for an earlier snapshot if it has not changed since,
+     * the same copy filtered again if only the filter of its jobs has changed, or a new copy otherwise.
+     */
+    private MachineCopy getUpToDateCopy(Machine machine) {
+        MachineCopy copy = machineCopies.get(machine);
+        if (copy == null || !copy.hasSameJobsAs(machine)) {
+            return new MachineCopy(machine);
+        }
+        return copy.hasSameFilterAs(machine) ? copy : copy.withJobFilter(machine.getFilteredJobListPredicate());
+    }
+
+    private static <T> ObservableList<T> copyOf(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    /**
+     * A copy of a machine and its jobs, filtered as the jobs of the machine are, with what it was copied from.
+     * The filters of jobs test the jobs of the machine, so the copies of jobs are filtered by the jobs they were
+     * copied from, such as when a filter only matches a set of jobs.
+     */
+    private static class MachineCopy {
+        private final Machine machine;
+        private final Map<Job, Job> originalJobs;
+        private final long jobsVersion;
+        private final MachineStatus status;
+        private final Predicate<Job> jobFilter;
+
+        MachineCopy(Machine original) {
+            Machine unfiltered = new Machine(original);
+            originalJobs = new IdentityHashMap<>();
+            List<Job> jobCopies = unfiltered.getJobs();
+            for (int i = 0; i < jobCopies.size(); i++) {
+                originalJobs.put(jobCopies.get(i), original.getJobs().get(i));
+            }
+            jobsVersion = original.getJobsVersion();
+            status = original.getStatus();
+            jobFilter = original.getFilteredJobListPredicate();
+            machine = unfiltered.withJobFilter(toCopyFilter(jobFilter));
+        }
+
+        private MachineCopy(MachineCopy previous, Machine machine, Predicate<Job> jobFilter) {
+            this.machine = machine;
+            this.originalJobs = previous.originalJobs;
+            this.jobsVersion = previous.jobsVersion;
+            this.status = previous.status;
+            this.jobFilter = jobFilter;
+        }
+
+        /**
+         * Returns true if the jobs and status of {@code original} have not changed since it was copied.
+         */
+        boolean hasSameJobsAs(Machine original) {
+            return original.getJobsVersion() == jobsVersion && original.getStatus() == status;
+        }
+
+        /**
+         * Returns true if the jobs of {@code original} are filtered as they were when it was copied.
+         */
+        boolean hasSameFilterAs(Machine original) {
+            return original.getFilteredJobListPredicate() == jobFilter;
+        }
+
+        /**
+         * Returns this copy with its jobs filtered by {@code newJobFilter}, which tests the original jobs.
+         * The jobs are not copied again, and the machine is kept if the same jobs pass the filter.
+         */
+        MachineCopy withJobFilter(Predicate<Job> newJobFilter) {
+            Predicate<Job> copyFilter = toCopyFilter(newJobFilter);
+            List<Job> shownJobs = machine.getJobsAsFilteredObservableList();
+            int shownIndex = 0;
+            boolean isSameJobsShown = true;
+            for (Job job : machine.getJobs()) {
+                if (!copyFilter.test(job)) {
+                    continue;
+                }
+                if (shownIndex >= shownJobs.size() || shownJobs.get(shownIndex) != job) {
+                    isSameJobsShown = false;
+                    break;
+                }
+                shownIndex++;
+            }
+            isSameJobsShown = isSameJobsShown && shownIndex == shownJobs.size();
+            return new MachineCopy(this, isSameJobsShown ? machine : machine.withJobFilter(copyFilter), newJobFilter);
+        }
+
+        /**
+         * Returns a filter of the copies of jobs that tests the jobs they were copied from with {@code jobFilter}.
+         */
+        private Predicate<Job> toCopyFilter(Predicate<Job> jobFilter) {
+            return copy -> jobFilter.test(originalJobs.get(copy));
+        }
+    }
+
+    /**
+     * A read-only copy of the address book, which is never changed once taken.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Admin> admins;
+        private final ObservableList<Machine> machines;
+        private final AdminSession adminSession = new AdminSession();
+        private final int totalNumberOfStoredJobs;
+
+        Snapshot(ObservableList<Person> persons, ObservableList<Admin> admins, ObservableList<Machine> machines,
+                 AdminSession adminSession) {
+            this.persons = persons;
+            this.admins = admins;
+            this.machines = machines;
+            if (adminSession.isAdminLoggedIn()) {
+                this.adminSession.setLogin(adminSession.getLoggedInAdmin());
+            }
+            totalNumberOfStoredJobs = machines.stream().mapToInt(machine -> machine.getJobs().size()).sum();
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Admin> getAdminList() {
+            return admins;
+        }
+
+        @Override
+        public ObservableList<Machine> getMachineList() {
+            return machines;
+        }
+
+        @Override
+        public AdminSession getAdminSession() {
+            return adminSession;
+        }
+
+        @Override
+        public int getTotalNumberOfStoredJobs() {
+            return totalNumberOfStoredJobs;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import seedu.address.model.admin.Admin;
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
+
+/**
+ * What a transaction on the model has changed so far, and how to take the changes back.
+ * Each part of the address book is remembered just before the transaction first changes it, so a transaction
+ * only copies what it changes. Jobs are changed in place, so the jobs of a machine are remembered along with
+ * copies of their states before the transaction first changes any of them.
+ */
+class TransactionLog {
+
+    private List<Person> personsBefore;
+    private List<Admin> adminsBefore;
+    private List<Machine> machinesBefore;
+    private final Map<Machine, SavedJobs> jobsBefore = new IdentityHashMap<>();
+    private boolean isLoginRemembered = false;
+    private Admin loggedInAdminBefore;
+
+    private boolean isPersonListChanged = false;
+    private boolean isAdminListChanged = false;
+    private boolean isMachineListChanged = false;
+    private Consumer<VersionedAddressBook> commit;
+
+    /**
+     * Remembers the persons of {@code addressBook}, unless already remembered.
+     */
+    void rememberPersons(ReadOnlyAddressBook addressBook) {
+        if (personsBefore == null) {
+            personsBefore = new ArrayList<>(addressBook.getPersonList());
+        }
+    }
+
+    /**
+     * Remembers the admins of {@code addressBook}, unless already remembered.
+     */
+    void rememberAdmins(ReadOnlyAddressBook addressBook) {
+        if (adminsBefore == null) {
+            adminsBefore = new ArrayList<>(addressBook.getAdminList());
+        }
+    }
+
+    /**
+     * Remembers the machines of {@code addressBook}, unless already remembered.
+     */
+    void rememberMachines(ReadOnlyAddressBook addressBook) {
+        if (machinesBefore == null) {
+            machinesBefore = new ArrayList<>(addressBook.getMachineList());
+        }
+    }
+
+    /**
+     * Remembers the jobs of {@code machine} and their states, unless already remembered.
+     * Does nothing if {@code machine} is null.
+     */
+    void rememberJobsOf(Machine machine) {
+        if (machine != null) {
+            jobsBefore.computeIfAbsent(machine, SavedJobs::new);
+        }
+    }
+
+    /**
+     * Remembers the admin logged in to {@code addressBook}, unless already remembered.
+     */
+    void rememberLogin(ReadOnlyAddressBook addressBook) {
+        if (!isLoginRemembered) {
+            isLoginRemembered = true;
+            loggedInAdminBefore = addressBook.getAdminSession().getLoggedInAdmin();
+        }
+    }
+
+    void notePersonListChanged() {
+        isPersonListChanged = true;
+    }
+
+    void noteAdminListChanged() {
+        isAdminListChanged = true;
+    }
+
+    void noteMachineListChanged() {
+        isMachineListChanged = true;
+    }
+
+    /**
+     * Notes that the state of the address book is to be saved for undo/redo by {@code commit}
+     * once the transaction is committed. A later request replaces an earlier one.
+     */
+    void requestCommit(Consumer<VersionedAddressBook> commit) {
+        this.commit = commit;
+    }
+
+    boolean isPersonListChanged() {
+        return isPersonListChanged;
+    }
+
+    boolean isAdminListChanged() {
+        return isAdminListChanged;
+    }
+
+    boolean isMachineListChanged() {
+        return isMachineListChanged;
+    }
+
+    /**
+     * Returns true if the transaction changed any list of the address book.
+     */
+    boolean isAnyListChanged() {
+        return isPersonListChanged || isAdminListChanged || isMachineListChanged;
+    }
+
+    /**
+     * Returns true if the transaction changed the address book or the admin logged in, or requested a commit.
+     */
+    boolean isAnyChangeMade() {
+        return isAnyListChanged() || isLoginRemembered || commit != null;
+    }
+
+    /**
+     * Saves the state of {@code addressBook} for undo/redo as requested by the transaction,
+     * or as a plain commit if the transaction changed the address book without requesting one.
+     */
+    void commit(VersionedAddressBook addressBook) {
+        if (commit != null) {
+            commit.accept(addressBook);
+        } else if (isAnyListChanged()) {
+            addressBook.commit();
+        }
+    }
+
+    /**
+     * Takes back every change made to {@code addressBook} since the transaction started.
+     */
+    void rollBack(AddressBook addressBook) {
+        jobsBefore.forEach((machine, savedJobs) -> savedJobs.restoreTo(machine));
+        if (personsBefore != null) {
+            addressBook.setPersons(personsBefore);
+        }
+        if (adminsBefore != null) {
+            addressBook.setAdmins(adminsBefore);
+        }
+        if (machinesBefore != null || !jobsBefore.isEmpty()) {
+            // also rebuilds the index of jobs by name, which does not follow the jobs restored
+            addressBook.setMachines(machinesBefore != null
+                    ? machinesBefore
+                    : new ArrayList<>(addressBook.getMachineList()));
+        }
+        if (isLoginRemembered) {
+            if (loggedInAdminBefore == null) {
+                addressBook.clearLogin();
+            } else {
+                addressBook.setLoggedInAdmin(loggedInAdminBefore);
+            }
+        }
+    }
+
+    /**
+     * The jobs of a machine, with copies of their states.
+     */
+    private static class SavedJobs {
+        private final List<Job> jobs;
+        private final List<Job> states;
+
+        SavedJobs(Machine machine) {
+            jobs = new ArrayList<>(machine.getJobs());
+            states = jobs.stream().map(Job::new).collect(Collectors.toList());
+        }
+
+        /**
+         * Puts the jobs back on {@code machine} in the states they were saved in.
+         */
+        void restoreTo(Machine machine) {
+            for (int i = 0; i < jobs.size(); i++) {
+                Job job = jobs.get(i);
+                Job state = states.get(i);
+                job.setStatus(state.getStatus());
+                job.setStartTime(state.getStartTime());
+                job.setPriority(state.getPriority());
+                job.setDuration(state.getDuration());
+            }
+            machine.setJobs(jobs);
+        }
+    }
+}
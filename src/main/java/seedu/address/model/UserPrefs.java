@@ -11,11 +11,24 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    /**
+     * The formats that the address book data can be stored in.
+     */
+    public enum StorageFormat {
+        /** Separate xml files for the persons, machines and admins. */
+        XML,
+        /** A single binary snapshot file, which is much smaller and faster to save and load. */
+        BINARY
+    }
+
     private GuiSettings guiSettings;
     private Path addressBookFilePath;
     private Path makerManagerMachinesFilePath;
     private Path makerManagerAdminsFilePath;
     private Path makerManagerJobsFilePath;
+    private Path makerManagerSnapshotFilePath;
+    private StorageFormat storageFormat;
+    private int undoHistoryLimit;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -23,6 +36,9 @@ public class UserPrefs {
         this.makerManagerMachinesFilePath = Paths.get("data\\makerManagerMachines.xml");
         this.makerManagerAdminsFilePath = Paths.get("data\\makerManagerAdmins.xml");
         this.makerManagerJobsFilePath = Paths.get("data\\makerManagerJobs.xml");
+        this.makerManagerSnapshotFilePath = Paths.get("data\\makerManagerSnapshot.bin");
+        this.storageFormat = StorageFormat.XML;
+        this.undoHistoryLimit = VersionedAddressBook.DEFAULT_HISTORY_LIMIT;
     }
 
     public GuiSettings getGuiSettings() {
@@ -60,7 +76,28 @@ public class UserPrefs {
     public void setMakerManagerJobsFilePath(Path makerManagerJobsFilePath) {
         this.makerManagerJobsFilePath = makerManagerJobsFilePath;
     }
+    public Path getMakerManagerSnapshotFilePath() {
+        return makerManagerSnapshotFilePath;
+    }
+    public void setMakerManagerSnapshotFilePath(Path makerManagerSnapshotFilePath) {
+        this.makerManagerSnapshotFilePath = makerManagerSnapshotFilePath;
+    }
 
+    // ================================ storage format methods ============================ //
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+    public void setStorageFormat(StorageFormat storageFormat) {
+        this.storageFormat = storageFormat;
+    }
+
+    // ================================ undo history methods ============================== //
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
 
     // ================================ others =========================================== //
 
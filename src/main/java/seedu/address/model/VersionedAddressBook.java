@@ -1,23 +1,62 @@
 package seedu.address.model;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.AdminSession;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ * States are kept as immutable snapshots. A snapshot shares the lists of the previous snapshot
+ * for every list that has not changed in between, so committing only copies what has changed.
+ * At most {@code historyLimit} undoable states are kept; older states are discarded.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+
+    private final List<AddressBookSnapshot> addressBookStateList;
+    private final int historyLimit;
     private int currentStatePointer;
     private int lastAdminLogoutPointer;
     private int lastAdminLoginPointer;
 
+    // Views that are observed to find out which lists have changed since the last snapshot.
+    // References are kept as the views only hold weak listeners on the backing lists.
+    private final ObservableList<Person> observedPersons;
+    private final ObservableList<Admin> observedAdmins;
+    private final ObservableList<Machine> observedMachines;
+    private boolean isPersonListChanged;
+    private boolean isAdminListChanged;
+    private boolean isMachineListChanged;
+
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, DEFAULT_HISTORY_LIMIT);
+    }
+
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyLimit) {
         super(initialState);
+        checkArgument(historyLimit > 0, "History limit must be positive");
+        this.historyLimit = historyLimit;
+
+        observedPersons = getPersonList();
+        observedAdmins = getAdminList();
+        observedMachines = getMachineList();
+        observedPersons.addListener((ListChangeListener<Person>) change -> isPersonListChanged = true);
+        observedAdmins.addListener((ListChangeListener<Admin>) change -> isAdminListChanged = true);
+        observedMachines.addListener((ListChangeListener<Machine>) change -> isMachineListChanged = true);
 
         addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
+        addressBookStateList.add(new AddressBookSnapshot(this));
         currentStatePointer = 0;
         lastAdminLogoutPointer = -1;
         lastAdminLoginPointer = -1;
@@ -28,9 +67,7 @@ public class VersionedAddressBook extends AddressBook {
      * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
+        saveCurrentState();
         if (currentStatePointer == lastAdminLoginPointer) {
             lastAdminLoginPointer = -1;
         }
@@ -41,9 +78,7 @@ public class VersionedAddressBook extends AddressBook {
      * Undone states are removed from the state list.
      */
     public void adminLoginCommit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
+        saveCurrentState();
         lastAdminLoginPointer = currentStatePointer;
     }
 
@@ -52,16 +87,67 @@ public class VersionedAddressBook extends AddressBook {
      * Undone states are removed from the state list.
      */
     public void adminLogoutCommit() {
+        saveCurrentState();
+        lastAdminLogoutPointer = currentStatePointer;
+    }
+
+    /**
+     * Appends a snapshot of the current state after the current pointer, sharing unchanged lists
+     * with the snapshot at the current pointer, and discards the oldest states beyond the history limit.
+     */
+    private void saveCurrentState() {
+        AddressBookSnapshot currentState = addressBookStateList.get(currentStatePointer);
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
+        addressBookStateList.add(new AddressBookSnapshot(currentState, this,
+            isPersonListChanged, isAdminListChanged, isMachineListChanged));
         currentStatePointer++;
-        lastAdminLogoutPointer = currentStatePointer;
+        clearListChanges();
+        removeStatesBeyondHistoryLimit();
     }
 
     private void removeStatesAfterCurrentPointer() {
         addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
     }
 
+    /**
+     * Discards the oldest states until at most {@code historyLimit} states can be undone.
+     */
+    private void removeStatesBeyondHistoryLimit() {
+        while (addressBookStateList.size() > historyLimit + 1) {
+            addressBookStateList.remove(0);
+            currentStatePointer--;
+            lastAdminLogoutPointer = Math.max(lastAdminLogoutPointer - 1, -1);
+            lastAdminLoginPointer = Math.max(lastAdminLoginPointer - 1, -1);
+        }
+    }
+
+    private void clearListChanges() {
+        isPersonListChanged = false;
+        isAdminListChanged = false;
+        isMachineListChanged = false;
+    }
+
+    /**
+     * Replaces the persons with {@code persons} that have only now been read from storage,
+     * in the current state and in every state in the history, since they were there before any of the states.
+     */
+    public void setLoadedPersons(List<Person> persons) {
+        setPersons(persons);
+        ObservableList<Person> loadedPersons = AddressBookSnapshot.copyOf(persons);
+        addressBookStateList.replaceAll(state -> state.withLists(loadedPersons, state.admins, state.machines));
+        isPersonListChanged = false;
+    }
+
+    /**
+     * Replaces the admins with {@code admins} that have only now been read from storage,
+     * in the current state and in every state in the history, since they were there before any of the states.
+     */
+    public void setLoadedAdmins(List<Admin> admins) {
+        setAdmins(admins);
+        ObservableList<Admin> loadedAdmins = AddressBookSnapshot.copyOf(admins);
+        addressBookStateList.replaceAll(state -> state.withLists(state.persons, loadedAdmins, state.machines));
+        isAdminListChanged = false;
+    }
 
     /**
      * Restores the address book to its previous state.
@@ -72,6 +158,7 @@ public class VersionedAddressBook extends AddressBook {
         }
         currentStatePointer--;
         resetData(addressBookStateList.get(currentStatePointer));
+        clearListChanges();
     }
 
     /**
@@ -83,6 +170,7 @@ public class VersionedAddressBook extends AddressBook {
         }
         currentStatePointer++;
         resetData(addressBookStateList.get(currentStatePointer));
+        clearListChanges();
     }
 
     /**
@@ -146,6 +234,96 @@ public class VersionedAddressBook extends AddressBook {
             && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
     }
 
+    /**
+     * An immutable state of the address book in the history.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Admin> admins;
+        private final ObservableList<Machine> machines;
+        private final AdminSession adminSession = new AdminSession();
+
+        /**
+         * Creates a snapshot that copies every list of {@code current}.
+         */
+        AddressBookSnapshot(ReadOnlyAddressBook current) {
+            this(null, current, true, true, true);
+        }
+
+        /**
+         * Creates a snapshot of {@code current} that reuses the lists of {@code previous}
+         * for every list that is not marked as changed.
+         */
+        AddressBookSnapshot(AddressBookSnapshot previous, ReadOnlyAddressBook current,
+                            boolean isPersonListChanged, boolean isAdminListChanged, boolean isMachineListChanged) {
+            persons = isPersonListChanged ? copyOf(current.getPersonList()) : previous.persons;
+            admins = isAdminListChanged ? copyOf(current.getAdminList()) : previous.admins;
+            machines = isMachineListChanged ? copyOf(current.getMachineList()) : previous.machines;
+            if (current.getAdminSession().isAdminLoggedIn()) {
+                adminSession.setLogin(current.getAdminSession().getLoggedInAdmin());
+            }
+        }
+
+        private AddressBookSnapshot(ObservableList<Person> persons, ObservableList<Admin> admins,
+                                    ObservableList<Machine> machines, AdminSession adminSession) {
+            this.persons = persons;
+            this.admins = admins;
+            this.machines = machines;
+            if (adminSession.isAdminLoggedIn()) {
+                this.adminSession.setLogin(adminSession.getLoggedInAdmin());
+            }
+        }
+
+        /**
+         * Returns a copy of this snapshot with the given lists instead.
+         */
+        AddressBookSnapshot withLists(ObservableList<Person> persons, ObservableList<Admin> admins,
+                                      ObservableList<Machine> machines) {
+            return new AddressBookSnapshot(persons, admins, machines, adminSession);
+        }
+
+        private static <T> ObservableList<T> copyOf(List<T> list) {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Admin> getAdminList() {
+            return admins;
+        }
+
+        @Override
+        public ObservableList<Machine> getMachineList() {
+            return machines;
+        }
+
+        @Override
+        public AdminSession getAdminSession() {
+            return adminSession;
+        }
+
+        @Override
+        public int getTotalNumberOfStoredJobs() {
+            return machines.stream().mapToInt(machine -> machine.getJobs().size()).sum();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                || (other instanceof AddressBookSnapshot // instanceof handles nulls
+                && persons.equals(((AddressBookSnapshot) other).persons));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(persons);
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
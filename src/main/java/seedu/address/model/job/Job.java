@@ -1,5 +1,6 @@
 package seedu.address.model.job;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.job.Status.ONGOING;
 import static seedu.address.model.job.Status.PAUSED;
@@ -14,6 +15,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.job.exceptions.JobNotStartedException;
 import seedu.address.model.machine.MachineName;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRegistry;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -37,6 +39,8 @@ public class Job {
     private MachineName machineName;
     private TimeStamp startTime;
     private Person owner;
+    private PersonRegistry ownerRegistry; // the registry that ownerId is from, if any
+    private int ownerId;
     private final TimeStamp addedTime;
 
     //Data field
@@ -84,6 +88,23 @@ public class Job {
         this.tags.addAll(tags);
     }
 
+    /**
+     * Creates a copy of {@code toCopy}, which is not changed by changes to {@code toCopy}.
+     */
+    public Job(Job toCopy) {
+        this.name = toCopy.name;
+        this.machineName = toCopy.machineName;
+        this.owner = toCopy.owner;
+        this.ownerRegistry = toCopy.ownerRegistry;
+        this.ownerId = toCopy.ownerId;
+        this.addedTime = toCopy.addedTime;
+        this.priority = toCopy.priority;
+        this.status = toCopy.status;
+        this.duration = toCopy.duration;
+        this.jobNote = toCopy.jobNote == null ? null : new JobNote(toCopy.jobNote.toString());
+        this.startTime = toCopy.startTime;
+        this.tags.addAll(toCopy.tags);
+    }
 
     /**
      * returns the job note
@@ -91,8 +112,7 @@ public class Job {
     public boolean isFinished() throws JobNotStartedException {
 
         if (this.status == ONGOING) {
-            TimeStamp current = new TimeStamp();
-            return TimeStamp.timeDifference(startTime, current) > this.duration;
+            return TimeStamp.currentTimeMillis() - startTime.getTimeInMillis() > this.duration;
         } else {
             throw new JobNotStartedException();
         }
@@ -218,6 +238,13 @@ public class Job {
         return startTime;
     }
 
+    /**
+     * sets the timestamp of the job being executed, e.g. when recovering the job from storage
+     */
+    public void setStartTime(TimeStamp startTime) {
+        this.startTime = startTime;
+    }
+
     /**
      * returns the owner object of the job
      */
@@ -225,6 +252,27 @@ public class Job {
         return owner;
     }
 
+    /**
+     * Interns the owner of the job in {@code registry}, so that the job shares its owner with the other jobs
+     * of the same owner in {@code registry} and is compared with them by id.
+     */
+    public void internOwner(PersonRegistry registry) {
+        requireNonNull(registry);
+        ownerId = registry.intern(owner);
+        owner = registry.getPerson(ownerId);
+        ownerRegistry = registry;
+    }
+
+    /**
+     * Returns true if both jobs have equal owners, comparing their ids if both owners are from the same registry.
+     */
+    private boolean hasSameOwner(Job otherJob) {
+        if (ownerRegistry != null && ownerRegistry == otherJob.ownerRegistry) {
+            return ownerId == otherJob.ownerId;
+        }
+        return owner == otherJob.owner || owner.equals(otherJob.owner);
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -257,7 +305,11 @@ public class Job {
      * @param newOwner
      */
     public void setOwner(Person newOwner) {
+        requireNonNull(newOwner);
         owner = newOwner;
+        if (ownerRegistry != null) {
+            internOwner(ownerRegistry);
+        }
     }
 
 
@@ -299,7 +351,7 @@ public class Job {
 
         return otherJob != null && otherJob.getJobName().equals(getJobName()) && (
             otherJob.getMachineName().equals(getMachineName()) || otherJob.getAddedTime().equals(getAddedTime())
-                || otherJob.getOwner().equals(getOwner()));
+                || hasSameOwner(otherJob));
     }
 
     /**
@@ -350,8 +402,8 @@ public class Job {
 
 
         return otherJob.getJobName().equals(getJobName()) && otherJob.getMachineName().equals(getMachineName())
-            && otherJob.getOwner().equals(getOwner())
-            && otherJob.getAddedTime().showTime().equals(getAddedTime().showTime());
+            && hasSameOwner(otherJob)
+            && otherJob.getAddedTime().isSameSecond(getAddedTime());
     }
 
     /**
@@ -0,0 +1,168 @@
+package seedu.address.model.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Notifies when ongoing jobs are due to finish.
+ * Each scheduled job is kept in a queue ordered by the time it is due to finish, and the scheduler
+ * only wakes up when the earliest of them is due, so nothing is done while no job is running.
+ * A job that is no longer ongoing, or has been restarted or changed since it was scheduled, is skipped when due.
+ * The scheduler's thread is only started once a job is scheduled, and ends once no job has been waiting for
+ * a while, so a scheduler that is not shut down does not keep a thread.
+ */
+public class JobCompletionScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(JobCompletionScheduler.class);
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 5;
+
+    private final ScheduledThreadPoolExecutor timer;
+    private final Consumer<Job> onJobDue;
+
+    private final PriorityQueue<Deadline> deadlines = new PriorityQueue<>();
+    private ScheduledFuture<?> nextWakeUp;
+    private long nextWakeUpMillis = Long.MAX_VALUE;
+
+    /**
+     * Creates a scheduler that calls {@code onJobDue} with every scheduled job once it is due to finish.
+     * {@code onJobDue} is called on the scheduler's own thread.
+     */
+    public JobCompletionScheduler(Consumer<Job> onJobDue) {
+        requireNonNull(onJobDue);
+        this.onJobDue = onJobDue;
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "job-completion-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setKeepAliveTime(IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        timer.allowCoreThreadTimeOut(true);
+        // a wake-up that is replaced by an earlier one must not keep the thread waiting for it
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Schedules {@code job} to be notified when it is due to finish, if it is ongoing.
+     */
+    public synchronized void schedule(Job job) {
+        requireNonNull(job);
+        if (job.getStatus() != Status.ONGOING) {
+            return;
+        }
+
+        Deadline deadline = new Deadline(job);
+        deadlines.add(deadline);
+        if (deadline.dueMillis < nextWakeUpMillis) {
+            wakeUpAt(deadline.dueMillis);
+        }
+    }
+
+    /**
+     * Forgets all scheduled jobs.
+     */
+    public synchronized void clear() {
+        deadlines.clear();
+        if (nextWakeUp != null) {
+            nextWakeUp.cancel(false);
+            nextWakeUp = null;
+        }
+        nextWakeUpMillis = Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of jobs waiting to be due.
+     */
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * Stops the scheduler and ends its thread. No job is notified after this.
+     */
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * Schedules the scheduler to wake up at {@code dueMillis}, replacing the previous wake-up.
+     */
+    private void wakeUpAt(long dueMillis) {
+        if (nextWakeUp != null) {
+            nextWakeUp.cancel(false);
+        }
+        long delay = Math.max(0, dueMillis - TimeStamp.currentTimeMillis());
+        nextWakeUp = timer.schedule(this::notifyDueJobs, delay, TimeUnit.MILLISECONDS);
+        nextWakeUpMillis = dueMillis;
+    }
+
+    /**
+     * Notifies every job that is due, then sleeps until the next job is due.
+     */
+    private void notifyDueJobs() {
+        List<Job> dueJobs = new ArrayList<>();
+        synchronized (this) {
+            long now = TimeStamp.currentTimeMillis();
+            while (!deadlines.isEmpty() && deadlines.peek().dueMillis <= now) {
+                Deadline deadline = deadlines.poll();
+                if (deadline.isStillValid()) {
+                    dueJobs.add(deadline.job);
+                }
+            }
+
+            nextWakeUp = null;
+            nextWakeUpMillis = Long.MAX_VALUE;
+            if (!deadlines.isEmpty()) {
+                wakeUpAt(deadlines.peek().dueMillis);
+            }
+        }
+
+        for (Job job : dueJobs) {
+            try {
+                onJobDue.accept(job);
+            } catch (RuntimeException e) {
+                logger.warning("Failed to finish job " + job.getJobName() + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * The time an ongoing job is due to finish.
+     */
+    private static class Deadline implements Comparable<Deadline> {
+        private final Job job;
+        private final TimeStamp startTime;
+        private final long duration;
+        private final long dueMillis;
+
+        Deadline(Job job) {
+            this.job = job;
+            this.startTime = job.getStartTime();
+            this.duration = job.getDuration();
+            // a job is only finished once strictly more than its duration has passed
+            this.dueMillis = startTime.getTimeInMillis() + job.getDuration() + 1;
+        }
+
+        /**
+         * Returns true if the job is still ongoing with the start time and duration this deadline was computed from.
+         */
+        boolean isStillValid() {
+            return job.getStatus() == Status.ONGOING && job.getStartTime() == startTime
+                    && job.getDuration() == duration;
+        }
+
+        @Override
+        public int compareTo(Deadline other) {
+            return Long.compare(dueMillis, other.dueMillis);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.job;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.util.WordTrie;
+
+/**
+ * A job found by searching for jobs with a name similar to some terms, with how closely it matched.
+ * Matches are ordered best first: by closeness, then by priority, then by job name.
+ * A job found by the name of its machine matches less closely than one found by its own name.
+ *
+ * @see WordTrie#findSimilar(String, int)
+ */
+public class JobMatch implements Comparable<JobMatch> {
+
+    /** Added to the closeness of the jobs found by the name of their machine. */
+    public static final int MACHINE_NAME_PENALTY = 1;
+
+    private final Job job;
+    private final int closeness;
+
+    public JobMatch(Job job, int closeness) {
+        requireNonNull(job);
+        this.job = job;
+        this.closeness = closeness;
+    }
+
+    /**
+     * Returns how many typing mistakes to allow in {@code term}, so that short terms do not match every job.
+     */
+    public static int getMaxEdits(String term) {
+        int length = term.trim().length();
+        return length <= 2 ? 0 : length <= 5 ? 1 : 2;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public int getCloseness() {
+        return closeness;
+    }
+
+    @Override
+    public int compareTo(JobMatch other) {
+        int byCloseness = Integer.compare(closeness, other.closeness);
+        if (byCloseness != 0) {
+            return byCloseness;
+        }
+        int byPriority = Integer.compare(Priority.rank(other.job.getPriority()), Priority.rank(job.getPriority()));
+        if (byPriority != 0) {
+            return byPriority;
+        }
+        return job.getJobName().fullName.compareTo(other.job.getJobName().fullName);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof JobMatch // instanceof handles nulls
+                && job.equals(((JobMatch) other).job)
+                && closeness == ((JobMatch) other).closeness);
+    }
+
+    @Override
+    public int hashCode() {
+        return job.hashCode() * 31 + closeness;
+    }
+
+    @Override
+    public String toString() {
+        return job.getJobName() + " (closeness " + closeness + ")";
+    }
+}
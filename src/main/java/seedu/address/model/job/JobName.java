@@ -3,6 +3,8 @@ package seedu.address.model.job;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Job's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidJobName(String)}
@@ -17,6 +19,7 @@ public class JobName {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String JOBNAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum}]*";
+    private static final Pattern JOBNAME_VALIDATION_PATTERN = Pattern.compile(JOBNAME_VALIDATION_REGEX);
 
     public final String fullName;
 
@@ -35,7 +38,7 @@ public class JobName {
      * Returns true if a given string is a valid job name.
      */
     public static boolean isValidJobName(String test) {
-        return test.matches(JOBNAME_VALIDATION_REGEX);
+        return JOBNAME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -15,6 +15,10 @@ public class JobNameContainsKeywordsPredicate implements Predicate<Job> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Job job) {
         return keywords.stream()
@@ -1,5 +1,7 @@
 package seedu.address.model.job;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Note Object for Job.
  */
@@ -14,6 +16,7 @@ public class JobNote {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String JOBNOTE_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern JOBNOTE_VALIDATION_PATTERN = Pattern.compile(JOBNOTE_VALIDATION_REGEX);
 
     private String note;
 
@@ -22,7 +25,7 @@ public class JobNote {
     }
 
     public static boolean isValidJobNote(String test) {
-        return test.matches(JOBNOTE_VALIDATION_REGEX);
+        return JOBNOTE_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public String toString() {
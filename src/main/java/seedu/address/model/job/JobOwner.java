@@ -1,7 +1,5 @@
 package seedu.address.model.job;
 
-import static seedu.address.model.person.Name.NAME_VALIDATION_REGEX;
-
 import java.util.Set;
 
 import seedu.address.model.person.Address;
@@ -46,6 +44,6 @@ public class JobOwner extends Person {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidJobOwner(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return Name.isValidName(test);
     }
 }
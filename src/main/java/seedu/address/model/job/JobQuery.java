@@ -0,0 +1,199 @@
+package seedu.address.model.job;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Describes the jobs to find by the values of their attributes.
+ * A job matches the query if it matches every attribute filtered by, and it matches an attribute
+ * if the attribute has any of the values given for it. Attributes that are not set are not filtered by.
+ * Owner names and tags are matched ignoring case.
+ */
+public class JobQuery {
+    private Set<Status> statuses;
+    private Set<Priority> priorities;
+    private Set<MachineName> machineNames;
+    private Set<String> ownerNames;
+    private Set<Tag> tags;
+    private Long addedFrom;
+    private Long addedUntil;
+
+    public JobQuery() {}
+
+    /**
+     * Returns true if at least one attribute is filtered by.
+     */
+    public boolean isAnyAttributeFiltered() {
+        return CollectionUtil.isAnyNonNull(statuses, priorities, machineNames, ownerNames, tags, addedFrom,
+                addedUntil);
+    }
+
+    /**
+     * Sets the statuses to find. A defensive copy of {@code statuses} is used internally.
+     */
+    public void setStatuses(Set<Status> statuses) {
+        this.statuses = (statuses != null) ? new HashSet<>(statuses) : null;
+    }
+
+    /**
+     * Returns an unmodifiable set of the statuses to find, if filtered by status.
+     */
+    public Optional<Set<Status>> getStatuses() {
+        return Optional.ofNullable(statuses).map(Collections::unmodifiableSet);
+    }
+
+    /**
+     * Sets the priorities to find. A defensive copy of {@code priorities} is used internally.
+     */
+    public void setPriorities(Set<Priority> priorities) {
+        this.priorities = (priorities != null) ? new HashSet<>(priorities) : null;
+    }
+
+    /**
+     * Returns an unmodifiable set of the priorities to find, if filtered by priority.
+     */
+    public Optional<Set<Priority>> getPriorities() {
+        return Optional.ofNullable(priorities).map(Collections::unmodifiableSet);
+    }
+
+    /**
+     * Sets the names of the machines to find the jobs of. A defensive copy of {@code machineNames} is used internally.
+     */
+    public void setMachineNames(Set<MachineName> machineNames) {
+        this.machineNames = (machineNames != null) ? new HashSet<>(machineNames) : null;
+    }
+
+    /**
+     * Returns an unmodifiable set of the names of the machines to find the jobs of, if filtered by machine.
+     */
+    public Optional<Set<MachineName>> getMachineNames() {
+        return Optional.ofNullable(machineNames).map(Collections::unmodifiableSet);
+    }
+
+    /**
+     * Sets the full names of the owners to find the jobs of, which are kept in lower case.
+     */
+    public void setOwnerNames(Set<String> ownerNames) {
+        this.ownerNames = (ownerNames != null)
+                ? ownerNames.stream().map(JobQuery::normalize).collect(Collectors.toSet())
+                : null;
+    }
+
+    /**
+     * Returns an unmodifiable set of the full names of the owners to find the jobs of, in lower case,
+     * if filtered by owner.
+     */
+    public Optional<Set<String>> getOwnerNames() {
+        return Optional.ofNullable(ownerNames).map(Collections::unmodifiableSet);
+    }
+
+    /**
+     * Sets the tags to find. A defensive copy of {@code tags} is used internally.
+     */
+    public void setTags(Set<Tag> tags) {
+        this.tags = (tags != null) ? new HashSet<>(tags) : null;
+    }
+
+    /**
+     * Returns an unmodifiable set of the tags to find, if filtered by tag.
+     */
+    public Optional<Set<Tag>> getTags() {
+        return Optional.ofNullable(tags).map(Collections::unmodifiableSet);
+    }
+
+    /**
+     * Sets the earliest time, in milliseconds since the epoch, that the jobs to find were added at.
+     */
+    public void setAddedFrom(Long addedFrom) {
+        this.addedFrom = addedFrom;
+    }
+
+    public Optional<Long> getAddedFrom() {
+        return Optional.ofNullable(addedFrom);
+    }
+
+    /**
+     * Sets the latest time, in milliseconds since the epoch, that the jobs to find were added at.
+     */
+    public void setAddedUntil(Long addedUntil) {
+        this.addedUntil = addedUntil;
+    }
+
+    public Optional<Long> getAddedUntil() {
+        return Optional.ofNullable(addedUntil);
+    }
+
+    /**
+     * Returns true if {@code job} matches every attribute filtered by, other than its machine.
+     * Which machine holds a job is known to the model rather than the job, so the model matches the machine.
+     */
+    public boolean matchesAttributesOf(Job job) {
+        return (statuses == null || statuses.contains(job.getStatus()))
+                && (priorities == null || priorities.contains(job.getPriority()))
+                && (ownerNames == null || ownerNames.contains(normalize(job.getOwner().getName().fullName)))
+                && (tags == null || job.getTags().stream().anyMatch(this::isTagFound))
+                && (addedFrom == null || job.getAddedTime().getTimeInMillis() >= addedFrom)
+                && (addedUntil == null || job.getAddedTime().getTimeInMillis() <= addedUntil);
+    }
+
+    /**
+     * Returns true if {@code tag} is one of the tags to find, ignoring case.
+     */
+    private boolean isTagFound(Tag tag) {
+        return tags.stream().anyMatch(tagToFind -> tagToFind.tagName.equalsIgnoreCase(tag.tagName));
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JobQuery)) {
+            return false;
+        }
+
+        // state check
+        JobQuery query = (JobQuery) other;
+        return getStatuses().equals(query.getStatuses())
+                && getPriorities().equals(query.getPriorities())
+                && getMachineNames().equals(query.getMachineNames())
+                && getOwnerNames().equals(query.getOwnerNames())
+                && getTags().equals(query.getTags())
+                && getAddedFrom().equals(query.getAddedFrom())
+                && getAddedUntil().equals(query.getAddedUntil());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(statuses, priorities, machineNames, ownerNames, tags, addedFrom, addedUntil);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Jobs");
+        getStatuses().ifPresent(value -> builder.append(" Statuses: ").append(value));
+        getPriorities().ifPresent(value -> builder.append(" Priorities: ").append(value));
+        getMachineNames().ifPresent(value -> builder.append(" Machines: ").append(value));
+        getOwnerNames().ifPresent(value -> builder.append(" Owners: ").append(value));
+        getTags().ifPresent(value -> builder.append(" Tags: ").append(value));
+        getAddedFrom().ifPresent(value -> builder.append(" Added from: ").append(value));
+        getAddedUntil().ifPresent(value -> builder.append(" Added until: ").append(value));
+        return builder.toString();
+    }
+}
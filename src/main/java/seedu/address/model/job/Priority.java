@@ -23,15 +23,20 @@ public enum Priority {
 
     /**
      * Checks if {@code priority1} is of higher priority than {@code priority2}
-     * if it return true
-     * else return false
+     * returns 1 if it is, 0 if both are of the same priority
+     * else return -1
      */
 
     public static int isHigherPriority(Priority priority1, Priority priority2) {
-        Integer priority1value = priority1 == URGENT ? 2 : priority1 == HIGH ? 1 : priority1 == NORMAL ? 0 : -1;
-        Integer priority2value = priority2 == URGENT ? 2 : priority2 == HIGH ? 1 : priority2 == NORMAL ? 0 : -1;
+        return Integer.compare(rank(priority1), rank(priority2));
+    }
 
-        return priority1value > priority2value ? 1 : priority1value.equals(priority2value) ? 0 : -1;
+    /**
+     * Returns how urgent {@code priority} is, where a larger rank is more urgent
+     * and a null priority is the least urgent.
+     */
+    public static int rank(Priority priority) {
+        return priority == URGENT ? 2 : priority == HIGH ? 1 : priority == NORMAL ? 0 : -1;
     }
 
 }
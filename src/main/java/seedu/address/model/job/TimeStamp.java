@@ -1,50 +1,84 @@
 package seedu.address.model.job;
 
-import java.util.Calendar;
-import java.util.Date;
-import java.util.TimeZone;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
 
 /**
- * Timestamp for modelling time
+ * Timestamp for modelling time.
+ * Guarantees: immutable; stored as milliseconds since the epoch.
  */
 public class TimeStamp {
+    private static final long MILLIS_IN_MINUTES = 60000;
     private static final long MILLIS_IN_HOURS = 3600000;
     private static final long MILLIS_IN_DAYS = MILLIS_IN_HOURS * 24;
     private static final long MILLIS_IN_YEARS = MILLIS_IN_DAYS * 365;
-    private Calendar calendar;
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("d/M h:m:s");
 
+    /**
+     * Used for getting the current time. Can be changed for testing.
+     */
+    private static Clock clock = Clock.systemDefaultZone();
+
+    private final long millis;
+    private String shownTime;
+
+    /**
+     * Creates a timestamp of the current time of the clock in use.
+     */
     public TimeStamp() {
-        this.calendar = Calendar.getInstance();
+        this.millis = clock.millis();
     }
 
     public TimeStamp(long millis) {
-        this.calendar = Calendar.getInstance();
-        this.calendar.setTimeInMillis(millis);
+        this.millis = millis;
     }
 
-    public static long hoursToMillis(float hours) {
-        return (long) (hours * MILLIS_IN_HOURS);
+    /**
+     * Sets the clock used to determine the current time.
+     */
+    public static void setClock(Clock clock) {
+        TimeStamp.clock = clock;
     }
 
     /**
-     * Return the calendar
-     *
-     * @return
+     * Returns the clock currently in use.
      */
-    public Calendar getCalendar() {
-        return calendar;
+    public static Clock getClock() {
+        return clock;
     }
 
-    public Date getDate() {
-        return this.getCalendar().getTime();
+    /**
+     * Returns the current time of the clock in use as milliseconds since the epoch
+     */
+    public static long currentTimeMillis() {
+        return clock.millis();
+    }
+
+    public static long hoursToMillis(float hours) {
+        return (long) (hours * MILLIS_IN_HOURS);
+    }
+
+    /**
+     * Returns the time as milliseconds since the epoch
+     */
+    public long getTimeInMillis() {
+        return millis;
     }
 
     public static boolean compareTime(TimeStamp time1, TimeStamp time2) {
-        return time1.getDate().getTime() <= time2.getDate().getTime();
+        return time1.millis <= time2.millis;
     }
 
     public static long timeDifference(TimeStamp time1, TimeStamp time2) {
-        return time2.getDate().getTime() - time1.getDate().getTime();
+        return time2.millis - time1.millis;
+    }
+
+    /**
+     * Returns true if both timestamps fall within the same second.
+     */
+    public boolean isSameSecond(TimeStamp other) {
+        return Math.floorDiv(millis, 1000) == Math.floorDiv(other.millis, 1000);
     }
 
     /**
@@ -53,30 +87,30 @@ public class TimeStamp {
      * @return
      */
     public String showTime() {
-        return this.getCalendar().get(Calendar.DAY_OF_MONTH) + "/" + this.getCalendar().get(Calendar.MONTH) + 1 + " "
-            + this.getCalendar().get(Calendar.HOUR) + ":" + this.getCalendar().get(Calendar.MINUTE) + ":" + this
-            .getCalendar().get(Calendar.SECOND);
+        if (shownTime == null) {
+            shownTime = TIME_FORMATTER.format(Instant.ofEpochMilli(millis).atZone(clock.getZone()));
+        }
+        return shownTime;
     }
     /**
      * Shows the duration formatted
      * @return
      */
     public String showAsDuration() {
-        long duration = this.getDate().getTime();
-        calendar.setTimeZone(TimeZone.getTimeZone("GMT+0000"));
-        if (duration < MILLIS_IN_HOURS) {
-            return calendar.get(Calendar.MINUTE) + " Minutes";
-        } else if (duration < MILLIS_IN_HOURS * 2) {
-            return calendar.get(Calendar.HOUR_OF_DAY) + " Hour " + calendar.get(Calendar.MINUTE) + " Minutes";
-        } else if (duration < MILLIS_IN_DAYS) {
-            return calendar.get(Calendar.HOUR_OF_DAY) + " Hours " + calendar.get(Calendar.MINUTE) + " Minutes";
-        } else if (duration < MILLIS_IN_DAYS * 2) {
-            return (calendar.get(Calendar.DAY_OF_YEAR) - 1) + " Day " + calendar.get(Calendar.HOUR_OF_DAY) + " Hours ";
-        } else if (duration < MILLIS_IN_YEARS) {
-            return (calendar.get(Calendar.DAY_OF_YEAR) - 1) + " Days " + calendar.get(Calendar.HOUR_OF_DAY) + " Hours ";
+        long minutes = millis % MILLIS_IN_HOURS / MILLIS_IN_MINUTES;
+        long hours = millis % MILLIS_IN_DAYS / MILLIS_IN_HOURS;
+        if (millis < MILLIS_IN_HOURS) {
+            return minutes + " Minutes";
+        } else if (millis < MILLIS_IN_HOURS * 2) {
+            return hours + " Hour " + minutes + " Minutes";
+        } else if (millis < MILLIS_IN_DAYS) {
+            return hours + " Hours " + minutes + " Minutes";
+        } else if (millis < MILLIS_IN_DAYS * 2) {
+            return (millis / MILLIS_IN_DAYS) + " Day " + hours + " Hours ";
+        } else if (millis < MILLIS_IN_YEARS) {
+            return (millis / MILLIS_IN_DAYS) + " Days " + hours + " Hours ";
         } else {
-            return (calendar.get(Calendar.YEAR) - 1970) + " Years " + (calendar.get(Calendar.DAY_OF_YEAR) - 1)
-                + " Days ";
+            return (millis / MILLIS_IN_YEARS) + " Years " + (millis % MILLIS_IN_YEARS / MILLIS_IN_DAYS) + " Days ";
         }
     }
     /**
@@ -87,4 +121,21 @@ public class TimeStamp {
         return t.showAsDuration();
     }
 
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TimeStamp // instanceof handles nulls
+                && millis == ((TimeStamp) other).millis);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(millis);
+    }
+
+    @Override
+    public String toString() {
+        return showTime();
+    }
+
 }
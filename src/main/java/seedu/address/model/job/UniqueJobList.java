@@ -1,34 +1,57 @@
 package seedu.address.model.job;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.areAllUnique;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.job.exceptions.DuplicateJobException;
 import seedu.address.model.job.exceptions.JobNotFoundException;
 
 /**
- * A list of Jobs whose elements are not repeated
+ * A list of Jobs whose elements are not repeated, in the order they were added.
+ * The list is never sorted in place. Jobs are put in queue order with {@link JobComparator} where needed.
+ * The total duration of the jobs still to be printed is kept up to date as jobs are added, removed and changed,
+ * so jobs must only be changed through {@link #modifyJob(Job, Consumer)} while they are in the list.
+ * The list also counts its changes, including changes to its jobs, so that copies of it can tell when they are out
+ * of date.
  */
 public class UniqueJobList {
 
     private static final Logger logger = LogsCenter.getLogger(UniqueJobList.class);
     private final ObservableList<Job> internalList = FXCollections.observableArrayList();
-
+    private long totalTime = 0;
+    private long version = 0;
+    // The number of jobs in the list with each name, to check that a job is unique without comparing it to every job
+    private final Map<JobName, Integer> nameCounts = new HashMap<>();
+
+    public UniqueJobList() {
+        internalList.addListener((ListChangeListener<Job>) change -> {
+            version++;
+            while (change.next()) {
+                change.getRemoved().forEach(job -> nameCounts.computeIfPresent(job.getJobName(), (name, count) ->
+                    count == 1 ? null : count - 1));
+                change.getAddedSubList().forEach(job -> nameCounts.merge(job.getJobName(), 1, Integer::sum));
+            }
+        });
+    }
 
     /**
      * Returns true if the list contains an equivalent job as the given argument.
      */
     public boolean contains(Job toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameName);
-
+        return nameCounts.containsKey(toCheck.getJobName());
     }
 
     /**
@@ -41,6 +64,7 @@ public class UniqueJobList {
             throw new DuplicateJobException();
         }
         internalList.add(toAdd);
+        totalTime += getRemainingTime(toAdd);
     }
 
     /**
@@ -53,6 +77,7 @@ public class UniqueJobList {
         if (!internalList.remove(toRemove)) {
             throw new JobNotFoundException();
         }
+        totalTime -= getRemainingTime(toRemove);
     }
 
     /**
@@ -61,6 +86,7 @@ public class UniqueJobList {
     public void setJobs(UniqueJobList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        recomputeTotalTime();
     }
 
 
@@ -75,6 +101,7 @@ public class UniqueJobList {
         }
 
         internalList.setAll(jobs);
+        recomputeTotalTime();
     }
 
     /**
@@ -94,7 +121,7 @@ public class UniqueJobList {
             throw new DuplicateJobException();
         }
 
-        internalList.set(index, editedJob);
+        replaceAt(index, editedJob);
     }
 
     /**
@@ -124,26 +151,11 @@ public class UniqueJobList {
         return FXCollections.unmodifiableObservableList(internalList);
     }
 
-    /**
-     * Returns a sorted list based on custom comparator
-     */
-    public ObservableList<Job> asUnmodifiableObservableSortedList() {
-        FXCollections.sort(internalList, new JobComparator());
-        return FXCollections.unmodifiableObservableList(internalList);
-    }
-
     /**
      * Returns true if the list has no repetition
      */
     public boolean jobsAreUnique(List<Job> jobs) {
-        for (int i = 0; i < jobs.size() - 1; i++) {
-            for (int j = i + 1; j < jobs.size(); j++) {
-                if (jobs.get(i).isSameJob(jobs.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return areAllUnique(jobs, Job::getJobName, Job::isSameJob);
     }
 
     /**
@@ -168,10 +180,56 @@ public class UniqueJobList {
         return null;
     }
 
+    /**
+     * Returns the total duration of the jobs that are ongoing or queued.
+     */
     public long getTotalTime() {
-        return internalList.stream()
-            .filter(job -> (job.getStatus() == Status.ONGOING) || (job.getStatus() == Status.QUEUED))
-            .mapToLong(job -> job.getDuration()).sum();
+        return totalTime;
+    }
+
+    /**
+     * Recomputes the total duration of the jobs that are ongoing or queued from scratch,
+     * for when jobs in the list may have been changed without going through {@link #modifyJob(Job, Consumer)}.
+     */
+    public void recomputeTotalTime() {
+        totalTime = internalList.stream().mapToLong(UniqueJobList::getRemainingTime).sum();
+        version++;
+    }
+
+    /**
+     * Returns the number of changes made to the list and its jobs so far.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Applies {@code change} to {@code job}, which must be in the list, keeping the total duration up to date.
+     */
+    public void modifyJob(Job job, Consumer<Job> change) {
+        requireAllNonNull(job, change);
+        totalTime -= getRemainingTime(job);
+        try {
+            change.accept(job);
+        } finally {
+            totalTime += getRemainingTime(job);
+            version++;
+        }
+    }
+
+    /**
+     * Returns the time that {@code job} still adds to the queue.
+     */
+    private static long getRemainingTime(Job job) {
+        return (job.getStatus() == Status.ONGOING) || (job.getStatus() == Status.QUEUED) ? job.getDuration() : 0;
+    }
+
+    /**
+     * Replaces the job at {@code index} with {@code job}, keeping the total duration up to date.
+     */
+    private void replaceAt(int index, Job job) {
+        Job replaced = internalList.set(index, job);
+        totalTime += getRemainingTime(job) - getRemainingTime(replaced);
     }
 
     /**
@@ -191,7 +249,7 @@ public class UniqueJobList {
             throw new DuplicateJobException();
         }
 
-        internalList.set(index, editedJob);
+        replaceAt(index, editedJob);
     }
 
     /**
@@ -199,7 +257,7 @@ public class UniqueJobList {
      */
     public void startJob(JobName name) {
         requireAllNonNull();
-        findJob(name).startJob();
+        modifyJob(findJob(name), Job::startJob);
     }
 
     /**
@@ -207,8 +265,7 @@ public class UniqueJobList {
      */
     public void cancelJob(JobName name) {
         requireAllNonNull();
-        findJob(name).cancelJob();
-        ;
+        modifyJob(findJob(name), Job::cancelJob);
     }
 
     /**
@@ -216,11 +273,11 @@ public class UniqueJobList {
      */
     public void restartJob(JobName name) {
         requireAllNonNull();
-        findJob(name).restartJob();
+        modifyJob(findJob(name), Job::restartJob);
     }
 
     public void requestDeletion(JobName name) {
-        findJob(name).setStatus(Status.DELETING);
+        modifyJob(findJob(name), job -> job.setStatus(Status.DELETING));
     }
 
 
@@ -237,23 +294,32 @@ public class UniqueJobList {
         if (targetIndex == -1 || targetIndex > size()) {
             throw new JobNotFoundException();
         }
-        internalList.set(targetIndex, replaceWith);
+        replaceAt(targetIndex, replaceWith);
     }
 
     public void finishJob(Job job) {
-        job.finishJob();
+        modifyJob(job, Job::finishJob);
     }
 
     //============================= queue operations =======================================//
 
     /**
-     * Queue comparator for job
+     * Queue comparator for job, which compares primitive fields only.
+     * Orders jobs of higher priority first, then jobs that were added earlier, then by job name.
      */
-    class JobComparator implements Comparator<Job> {
+    static class JobComparator implements Comparator<Job> {
 
         @Override
         public int compare(Job j1, Job j2) {
-            return j2.hasHigherPriority(j1);
+            int byPriority = Integer.compare(Priority.rank(j2.getPriority()), Priority.rank(j1.getPriority()));
+            if (byPriority != 0) {
+                return byPriority;
+            }
+            int byAddedTime = Long.compare(j1.getAddedTime().getTimeInMillis(), j2.getAddedTime().getTimeInMillis());
+            if (byAddedTime != 0) {
+                return byAddedTime;
+            }
+            return j1.getJobName().fullName.compareTo(j2.getJobName().fullName);
         }
     }
 }
@@ -9,7 +9,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -34,6 +37,7 @@ public class Machine {
         "Names should only contain alphanumeric characters and spaces, " + "and it should not be blank";
     public static final String MESSAGE_WRONG_STATUS =
         "Status can only contain 'ENABLED' or 'DISABLED'" + "and should not be blank";
+    private static final Pattern NAME_VALIDATION_PATTERN = Pattern.compile(NAME_VALIDATION_REGEX);
     // Identity fields
     private MachineName machineName;
     //TODO make status be more diverse, like enum
@@ -41,7 +45,7 @@ public class Machine {
 
     // Data fields
     //Name is a placeholder. To be replaced by Job class in the future
-    private final UniqueJobList jobs = new UniqueJobList();
+    private final UniqueJobList jobs;
     private final Set<Tag> tags = new HashSet<>();
 
     //Display fields
@@ -53,17 +57,47 @@ public class Machine {
     public Machine(MachineName name, List<Job> jobs, Set<Tag> tags, MachineStatus status) {
         requireAllNonNull(name, jobs, tags);
         this.machineName = name;
+        this.jobs = new UniqueJobList();
         this.jobs.setJobs(jobs);
         this.tags.addAll(tags);
         this.status = status;
         this.filteredJobs = new FilteredList<>(this.jobs.asUnmodifiableObservableList());
     }
 
+    /**
+     * Creates a copy of {@code toCopy}, with copies of its jobs, which is not changed by changes to {@code toCopy}.
+     */
+    public Machine(Machine toCopy) {
+        this(toCopy.machineName, toCopy.getJobs().stream().map(Job::new).collect(Collectors.toList()),
+            toCopy.tags, toCopy.status);
+    }
+
+    /**
+     * Creates a machine that shares the jobs of {@code toShare}, with its jobs filtered by {@code jobFilter}.
+     */
+    private Machine(Machine toShare, Predicate<Job> jobFilter) {
+        this.machineName = toShare.machineName;
+        this.jobs = toShare.jobs;
+        this.tags.addAll(toShare.tags);
+        this.status = toShare.status;
+        this.filteredJobs = new FilteredList<>(jobs.asUnmodifiableObservableList(), jobFilter);
+    }
+
+    /**
+     * Returns a machine with the same jobs as this machine, filtered by {@code jobFilter} instead.
+     * The jobs are shared rather than copied, so this is only for machines whose jobs are no longer changed,
+     * such as the copies published for readers.
+     */
+    public Machine withJobFilter(Predicate<Job> jobFilter) {
+        requireNonNull(jobFilter);
+        return new Machine(this, jobFilter);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidMachine(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return NAME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public MachineName getName() {
@@ -82,10 +116,28 @@ public class Machine {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the total duration of the jobs on this machine that are ongoing or queued.
+     */
     public long getTotalDuration() {
         return jobs.getTotalTime();
     }
 
+    /**
+     * Recomputes the total duration of the jobs on this machine from scratch,
+     * for when its jobs may have been changed through another machine holding them.
+     */
+    public void recomputeTotalDuration() {
+        jobs.recomputeTotalTime();
+    }
+
+    /**
+     * Returns the number of changes made to the jobs of this machine so far.
+     */
+    public long getJobsVersion() {
+        return jobs.getVersion();
+    }
+
     /**
      * Returns true if both machines of the same name.
      * This defines a weakest notion of equality between two machines.
@@ -159,7 +211,7 @@ public class Machine {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return NAME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     //======================== job list methods ================================//
@@ -172,6 +224,13 @@ public class Machine {
         return Collections.unmodifiableList(jobs.asUnmodifiableObservableList());
     }
 
+    /**
+     * Returns the jobs of this machine as an unmodifiable {@code ObservableList}, in the order they were added.
+     */
+    public ObservableList<Job> getJobsAsObservableList() {
+        return jobs.asUnmodifiableObservableList();
+    }
+
     public Job findJob(JobName jobName) {
         return jobs.findJob(jobName);
     }
@@ -199,6 +258,13 @@ public class Machine {
         jobs.add(job);
     }
 
+    /**
+     * Replaces the jobs of the machine with {@code jobs}, which must not contain duplicate jobs.
+     */
+    public void setJobs(List<Job> jobs) {
+        this.jobs.setJobs(jobs);
+    }
+
     /**
      * updates the FilteredJobList with a predicate
      */
@@ -214,6 +280,14 @@ public class Machine {
         return (Predicate<Job>) filteredJobs.getPredicate();
     }
 
+    /**
+     * Applies {@code change} to {@code job}, which must be on this machine.
+     * Jobs on a machine must only be changed through this method so that its total duration stays up to date.
+     */
+    public void modifyJob(Job job, Consumer<Job> change) {
+        jobs.modifyJob(job, change);
+    }
+
     public void replaceJob(Job jobToBeReplaced, Job replaceWith) {
         jobs.replaceJob(jobToBeReplaced, replaceWith);
     }
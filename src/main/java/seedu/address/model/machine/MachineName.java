@@ -3,6 +3,8 @@ package seedu.address.model.machine;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 
 /**
  * Represents a Machine's name in the address book.
@@ -18,6 +20,7 @@ public class MachineName {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern NAME_VALIDATION_PATTERN = Pattern.compile(NAME_VALIDATION_REGEX);
 
     public final String fullName;
 
@@ -36,7 +39,7 @@ public class MachineName {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return NAME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override public boolean equals(Object other) {
@@ -15,6 +15,10 @@ public class MachineNameContainsKeywordsPredicate implements Predicate<Machine>
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Machine machine) {
         return keywords.stream()
@@ -1,25 +1,46 @@
 package seedu.address.model.machine;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.areAllUnique;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.JobMachineTuple;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
 import seedu.address.model.machine.exceptions.DuplicateMachineException;
 import seedu.address.model.machine.exceptions.MachineNotFoundException;
 
 
 /**
- * A list of machines that ensures uniqueness in Machine names
+ * A list of machines that ensures uniqueness in Machine names.
+ * Also keeps an index of the machines by name, and of every job in every machine by its {@code JobName},
+ * so that a machine, or a job and the machine holding it, can be found without scanning all machines,
+ * and keeps the machines ordered by the total duration of their jobs, so that the most free machine
+ * can be found without adding up the jobs of all machines.
  */
 public class UniqueMachineList {
     private static final Logger logger = LogsCenter.getLogger(UniqueMachineList.class);
     private final ObservableList<Machine> internalList = FXCollections.observableArrayList();
+    private final Map<MachineName, Machine> machinesByName = new HashMap<>();
+    private final Map<JobName, JobMachineTuple> jobIndex = new HashMap<>();
+
+    // Ties in total duration go to the machine that was added first
+    private final Map<Machine, Long> additionOrder = new IdentityHashMap<>();
+    private final TreeSet<Machine> machinesByTotalDuration = new TreeSet<>(
+        Comparator.comparingLong(Machine::getTotalDuration).thenComparingLong(additionOrder::get));
+    private long nextAdditionOrder = 0;
 
     /**
      * Returns true if the list contains an equivalent machine
@@ -40,6 +61,10 @@ public class UniqueMachineList {
         }
 
         internalList.setAll(machines);
+        machinesByName.clear();
+        machines.forEach(machine -> machinesByName.put(machine.getName(), machine));
+        rebuildJobIndex();
+        rebuildMachinesByTotalDuration();
     }
 
     /**
@@ -59,7 +84,15 @@ public class UniqueMachineList {
             throw new DuplicateMachineException();
         }
 
+        Machine replaced = internalList.get(index);
+        machinesByTotalDuration.remove(replaced);
+        additionOrder.put(editedMachine, additionOrder.remove(replaced));
         internalList.set(index, editedMachine);
+        machinesByName.remove(replaced.getName());
+        machinesByName.put(editedMachine.getName(), editedMachine);
+        machinesByTotalDuration.add(editedMachine);
+        unindexJobs(replaced);
+        indexJobs(editedMachine);
     }
 
     /**
@@ -69,12 +102,7 @@ public class UniqueMachineList {
      * @return
      */
     public Machine findMachine(MachineName machineName) {
-        for (Machine machine : internalList) {
-            if (machine.getName().equals(machineName)) {
-                return machine;
-            }
-        }
-        return null;
+        return machinesByName.get(machineName);
     }
 
     /**
@@ -89,7 +117,42 @@ public class UniqueMachineList {
             throw new MachineNotFoundException();
         }
 
-        target.addJob(job);
+        changeTotalDuration(target, machine -> machine.addJob(job));
+        jobIndex.putIfAbsent(job.getJobName(), new JobMachineTuple(job, target));
+    }
+
+    /**
+     * Returns the job with the given {@code jobName} together with the machine holding it,
+     * or null if no machine holds such a job.
+     */
+    public JobMachineTuple findJob(JobName jobName) {
+        requireNonNull(jobName);
+        return jobIndex.get(jobName);
+    }
+
+    /**
+     * Swaps the job named {@code jobName1} with the job named {@code jobName2}
+     * in the queues of the machines holding them.
+     * Both jobs must exist in the list.
+     */
+    public void swapJobs(JobName jobName1, JobName jobName2) {
+        requireAllNonNull(jobName1, jobName2);
+        JobMachineTuple mj1 = findJob(jobName1);
+        JobMachineTuple mj2 = findJob(jobName2);
+        changeTotalDuration(mj1.machine, machine -> machine.replaceJob(mj1.job, mj2.job));
+        changeTotalDuration(mj2.machine, machine -> machine.replaceJob(mj2.job, mj1.job));
+        jobIndex.put(jobName1, new JobMachineTuple(mj1.job, mj2.machine));
+        jobIndex.put(jobName2, new JobMachineTuple(mj2.job, mj1.machine));
+    }
+
+    /**
+     * Applies {@code change} to the job named {@code jobName}, keeping the order of the machines by total duration
+     * up to date. The job must exist in the list.
+     */
+    public void modifyJob(JobName jobName, Consumer<Job> change) {
+        requireAllNonNull(jobName, change);
+        JobMachineTuple jobMachineTuple = findJob(jobName);
+        changeTotalDuration(jobMachineTuple.machine, machine -> machine.modifyJob(jobMachineTuple.job, change));
     }
 
     /**
@@ -105,6 +168,10 @@ public class UniqueMachineList {
         }
 
         internalList.add(toAdd);
+        machinesByName.put(toAdd.getName(), toAdd);
+        additionOrder.put(toAdd, nextAdditionOrder++);
+        machinesByTotalDuration.add(toAdd);
+        indexJobs(toAdd);
     }
 
     /**
@@ -113,9 +180,15 @@ public class UniqueMachineList {
      */
     public void remove(Machine toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new MachineNotFoundException();
         }
+        Machine removed = internalList.remove(index);
+        machinesByName.remove(removed.getName());
+        machinesByTotalDuration.remove(removed);
+        additionOrder.remove(removed);
+        unindexJobs(removed);
     }
 
     public Machine get(String machineName) {
@@ -145,29 +218,81 @@ public class UniqueMachineList {
      * Returns true if {@code machines} contains only unique machines
      */
     private boolean machinesAreUnique(List<Machine> machines) {
-        for (int i = 0; i < machines.size() - 1; i++) {
-            for (int j = i + 1; j < machines.size(); j++) {
-                if (machines.get(i).isSameMachine(machines.get(j))) {
-                    return false;
-                }
+        return areAllUnique(machines, Machine::getName, Machine::isSameMachine);
+    }
+
+
+    //============================= job index operations =======================================//
+
+    /**
+     * Rebuilds the job index from the jobs currently held by the machines in the list.
+     * If several machines hold a job with the same name, the first machine in the list wins.
+     */
+    private void rebuildJobIndex() {
+        jobIndex.clear();
+        for (Machine machine : internalList) {
+            indexJobs(machine);
+        }
+    }
+
+    /**
+     * Adds every job of {@code machine} to the job index.
+     */
+    private void indexJobs(Machine machine) {
+        for (Job job : machine.getJobs()) {
+            jobIndex.putIfAbsent(job.getJobName(), new JobMachineTuple(job, machine));
+        }
+    }
+
+    /**
+     * Removes every job of {@code machine} that is indexed against {@code machine} from the job index.
+     */
+    private void unindexJobs(Machine machine) {
+        for (Job job : machine.getJobs()) {
+            JobMachineTuple indexed = jobIndex.get(job.getJobName());
+            if (indexed != null && indexed.machine == machine) {
+                jobIndex.remove(job.getJobName());
             }
         }
-        return true;
     }
 
+    //============================= total duration operations =======================================//
 
+    /**
+     * Returns the machine whose ongoing and queued jobs have the least total duration,
+     * or null if the list is empty.
+     */
     public Machine getMostFreeMachine() {
-        float minimumTime = 999999;
-        Machine mostFreeMachine = null;
+        return machinesByTotalDuration.isEmpty() ? null : machinesByTotalDuration.first();
+    }
 
-        for (Machine machine : internalList) {
-            if (machine.getTotalDuration() < minimumTime) {
-                minimumTime = machine.getTotalDuration();
-                mostFreeMachine = machine;
+    /**
+     * Applies {@code change}, which may change the total duration of {@code machine}, to {@code machine},
+     * keeping the order of the machines by total duration up to date.
+     */
+    private void changeTotalDuration(Machine machine, Consumer<Machine> change) {
+        boolean isOrdered = machinesByTotalDuration.remove(machine);
+        try {
+            change.accept(machine);
+        } finally {
+            if (isOrdered) {
+                machinesByTotalDuration.add(machine);
             }
         }
+    }
 
-        return mostFreeMachine;
+    /**
+     * Recomputes the total durations of the machines in the list, in case their jobs were changed through
+     * other machines sharing them, and orders the machines by them again.
+     */
+    private void rebuildMachinesByTotalDuration() {
+        machinesByTotalDuration.clear();
+        additionOrder.clear();
+        for (Machine machine : internalList) {
+            machine.recomputeTotalDuration();
+            additionOrder.put(machine, nextAdditionOrder++);
+            machinesByTotalDuration.add(machine);
+        }
     }
 
 }
@@ -0,0 +1,40 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns the persons that own jobs, so that equal persons are kept only once and are referred to by the same id.
+ * Two persons have the same id in a registry if and only if they are equal, so jobs can compare their owners by id.
+ * Each address book has its own registry, which is only changed by the model's writer, so it is not thread-safe.
+ * Ids are only meaningful within one registry; storage refers to owners by their position in the saved file instead.
+ */
+public class PersonRegistry {
+    private final Map<Person, Integer> ids = new HashMap<>();
+    private final List<Person> persons = new ArrayList<>();
+
+    /**
+     * Returns the id of {@code person}, registering it if no equal person has been registered yet.
+     */
+    public int intern(Person person) {
+        requireNonNull(person);
+        Integer id = ids.get(person);
+        if (id == null) {
+            id = persons.size();
+            persons.add(person);
+            ids.put(person, id);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the person registered with {@code id}.
+     */
+    public Person getPerson(int id) {
+        return persons.get(id);
+    }
+}
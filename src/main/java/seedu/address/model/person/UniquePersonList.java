@@ -1,10 +1,15 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.areAllUnique;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +23,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The persons are also kept by name, so that only the persons with the same name are compared with a person
+ * to check that it is unique.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -25,13 +33,15 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final Map<Name, List<Person>> personsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.getOrDefault(toCheck.getName(), Collections.emptyList()).stream()
+                .anyMatch(toCheck::isSamePerson);
     }
 
     /**
@@ -44,6 +54,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -63,7 +74,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        unindex(internalList.set(index, editedPerson));
+        index(editedPerson);
     }
 
     /**
@@ -72,14 +84,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        unindex(internalList.remove(index));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex();
     }
 
     /**
@@ -93,6 +108,33 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        reindex();
+    }
+
+    /**
+     * Keeps {@code person} by its name.
+     */
+    private void index(Person person) {
+        personsByName.computeIfAbsent(person.getName(), unused -> new ArrayList<>(1)).add(person);
+    }
+
+    /**
+     * Stops keeping {@code person}, which is no longer in the list, by its name.
+     */
+    private void unindex(Person person) {
+        List<Person> sameName = personsByName.get(person.getName());
+        sameName.removeIf(indexed -> indexed == person);
+        if (sameName.isEmpty()) {
+            personsByName.remove(person.getName());
+        }
+    }
+
+    /**
+     * Keeps every person in the list by its name, forgetting the persons kept before.
+     */
+    private void reindex() {
+        personsByName.clear();
+        internalList.forEach(this::index);
     }
 
     /**
@@ -123,13 +165,6 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return areAllUnique(persons, Person::getName, Person::isSamePerson);
     }
 }
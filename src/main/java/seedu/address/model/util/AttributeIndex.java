@@ -0,0 +1,89 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index from the value of one attribute of the elements of observable lists to the elements with that value,
+ * such as from a status to the jobs with that status.
+ * Elements whose attribute is changed while they are in an attached list must be {@link #refresh(Object) refreshed}.
+ *
+ * @param <T> the type of the elements indexed
+ * @param <K> the type of the attribute
+ */
+public class AttributeIndex<T, K> extends ListIndex<T> {
+
+    private final Function<? super T, K> keyOf;
+    private final Map<K, Set<T>> postings = new HashMap<>();
+    /** The value each element is indexed by, which is its value when it was last indexed or refreshed. */
+    private final Map<T, K> indexedKeys = new IdentityHashMap<>();
+
+    public AttributeIndex(Function<? super T, K> keyOf) {
+        requireNonNull(keyOf);
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns a view of the elements whose attribute is {@code key}, which compares elements by identity
+     * and changes with the index.
+     */
+    public Set<T> get(K key) {
+        return Collections.unmodifiableSet(postings.getOrDefault(key, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the number of elements whose attribute is any of {@code keys}.
+     */
+    public int count(Collection<K> keys) {
+        requireNonNull(keys);
+        int count = 0;
+        for (K key : keys) {
+            count += get(key).size();
+        }
+        return count;
+    }
+
+    /**
+     * Indexes {@code element} by the current value of its attribute, if it is indexed.
+     */
+    public void refresh(T element) {
+        requireNonNull(element);
+        if (!contains(element)) {
+            return;
+        }
+        K key = keyOf.apply(element);
+        K indexedKey = indexedKeys.get(element);
+        if (key == null ? indexedKey == null : key.equals(indexedKey)) {
+            return;
+        }
+        unindex(element);
+        index(element);
+    }
+
+    @Override
+    protected void index(T element) {
+        K key = keyOf.apply(element);
+        indexedKeys.put(element, key);
+        postings.computeIfAbsent(key, unused -> newIdentitySet()).add(element);
+    }
+
+    @Override
+    protected void unindex(T element) {
+        K key = indexedKeys.remove(element);
+        Set<T> posting = postings.get(key);
+        if (posting == null) {
+            return;
+        }
+        posting.remove(element);
+        if (posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+}
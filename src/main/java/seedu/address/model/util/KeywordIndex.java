@@ -0,0 +1,163 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the words in the names, and from the tags, of the elements of observable lists
+ * to the elements themselves. The index follows every change to the lists that it is attached to,
+ * so that finding the elements with a word in their name does not go through the whole of the lists.
+ * Words and tags are matched ignoring case, the same as {@link seedu.address.commons.util.StringUtil
+ * #containsWordIgnoreCase(String, String)} matches words.
+ * The words of the names are also kept in a {@link WordTrie}, to find the elements with a word that is similar
+ * to a search term.
+ *
+ * Elements must not change their name or tags while they are in an attached list.
+ *
+ * @param <T> the type of the elements indexed
+ */
+public class KeywordIndex<T> extends ListIndex<T> {
+
+    private static final String WORD_SEPARATOR = "\\s+";
+
+    private final Function<? super T, String> nameOf;
+    private final Function<? super T, Set<Tag>> tagsOf;
+
+    private final Map<String, Set<T>> nameWordPostings = new HashMap<>();
+    private final Map<String, Set<T>> tagPostings = new HashMap<>();
+    private final WordTrie nameWords = new WordTrie();
+
+    public KeywordIndex(Function<? super T, String> nameOf, Function<? super T, Set<Tag>> tagsOf) {
+        requireAllNonNull(nameOf, tagsOf);
+        this.nameOf = nameOf;
+        this.tagsOf = tagsOf;
+    }
+
+    /**
+     * Returns the elements with any of {@code keywords} as a word of their name, ignoring case.
+     * The set returned compares elements by identity, and is not changed by later changes to the index.
+     */
+    public Set<T> findByNameKeywords(Collection<String> keywords) {
+        return union(nameWordPostings, keywords);
+    }
+
+    /**
+     * Returns the elements with a word of their name that is similar to {@code term}, ignoring case,
+     * each with the closeness of its closest word to {@code term}.
+     * The map returned compares elements by identity.
+     *
+     * @see WordTrie#findSimilar(String, int)
+     */
+    public Map<T, Integer> findByNameWordsSimilarTo(String term, int maxEdits) {
+        requireNonNull(term);
+        Map<T, Integer> matches = new IdentityHashMap<>();
+        nameWords.findSimilar(normalize(term.trim()), maxEdits).forEach((word, closeness) -> {
+            for (T element : nameWordPostings.getOrDefault(word, Collections.emptySet())) {
+                matches.merge(element, closeness, Math::min);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Returns the elements tagged with any of {@code tagNames}, ignoring case.
+     * The set returned compares elements by identity, and is not changed by later changes to the index.
+     */
+    public Set<T> findByTags(Collection<String> tagNames) {
+        return union(tagPostings, tagNames);
+    }
+
+    /**
+     * Returns the number of elements tagged with any of {@code tagNames}, ignoring case, without finding them.
+     * Elements with more than one of the tags are counted once for each, so the count may be more than the number
+     * of elements {@link #findByTags(Collection)} returns.
+     */
+    public int countByTags(Collection<String> tagNames) {
+        requireNonNull(tagNames);
+        int count = 0;
+        for (String tagName : tagNames) {
+            count += tagPostings.getOrDefault(normalize(tagName.trim()), Collections.emptySet()).size();
+        }
+        return count;
+    }
+
+    @Override
+    protected void index(T element) {
+        for (String word : nameWordsOf(element)) {
+            nameWordPostings.computeIfAbsent(word, newWord -> {
+                nameWords.add(newWord);
+                return newIdentitySet();
+            }).add(element);
+        }
+        for (Tag tag : tagsOf.apply(element)) {
+            tagPostings.computeIfAbsent(normalize(tag.tagName), unused -> newIdentitySet()).add(element);
+        }
+    }
+
+    @Override
+    protected void unindex(T element) {
+        for (String word : nameWordsOf(element)) {
+            if (removePosting(nameWordPostings, word, element)) {
+                nameWords.remove(word);
+            }
+        }
+        for (Tag tag : tagsOf.apply(element)) {
+            removePosting(tagPostings, normalize(tag.tagName), element);
+        }
+    }
+
+    /**
+     * Returns the words in the name of {@code element}, in the form they are indexed by.
+     */
+    private String[] nameWordsOf(T element) {
+        String[] words = nameOf.apply(element).trim().split(WORD_SEPARATOR);
+        for (int i = 0; i < words.length; i++) {
+            words[i] = normalize(words[i]);
+        }
+        return words;
+    }
+
+    /**
+     * Removes {@code element} from the posting of {@code key}, removing the posting too once it is empty.
+     * Returns true if the posting was removed.
+     */
+    private boolean removePosting(Map<String, Set<T>> postings, String key, T element) {
+        Set<T> posting = postings.get(key);
+        if (posting == null) {
+            return false;
+        }
+        posting.remove(element);
+        if (posting.isEmpty()) {
+            postings.remove(key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the elements in the postings of any of {@code keys}.
+     */
+    private Set<T> union(Map<String, Set<T>> postings, Collection<String> keys) {
+        requireNonNull(keys);
+        Set<T> result = newIdentitySet();
+        for (String key : keys) {
+            result.addAll(postings.getOrDefault(normalize(key.trim()), Collections.emptySet()));
+        }
+        return result;
+    }
+
+    private static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,220 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobNote;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates a print lab of any size, for load testing and benchmarks.
+ * The same seed and sizes always generate the same data, so runs against the generated data can be compared.
+ * Job and machine names only depend on their position, see {@link #getJobName(int)} and {@link #getMachineName(int)}.
+ */
+public class LabDataGenerator {
+
+    public static final int DEFAULT_MACHINE_COUNT = 1000;
+    public static final int DEFAULT_JOBS_PER_MACHINE = 100;
+    public static final int DEFAULT_PERSON_COUNT = 500;
+    public static final long DEFAULT_SEED = 2113;
+
+    private static final String[] MACHINE_KINDS = {"Ultimaker", "Prusa", "Form", "Laser Cutter", "CNC Mill"};
+    private static final String[] PROJECT_WORDS = {"Bracket", "Gear", "Hinge", "Enclosure", "Prototype", "Drone",
+        "Robot", "Mount", "Case", "Nozzle", "Pulley", "Chassis", "Lens", "Frame", "Clip", "Spacer"};
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Tian",
+        "Yuan", "Wei", "Priya", "Nur", "Ahmad", "Siti", "Kumar", "Mei", "Jun"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Wong", "Lee", "Chua", "Goh", "Teo", "Ong", "Koh"};
+    private static final String[] TAGS = {"iDCP", "FYP", "urgent", "hackathon", "club", "research", "course"};
+
+    // Jobs are added within the 30 days before this time: 1 Oct 2018, 00:00 UTC
+    private static final long LATEST_ADDED_MILLIS = 1538352000000L;
+    private static final long ADDED_TIME_SPREAD_MILLIS = 30L * 24 * 3600000;
+    private static final long MILLIS_IN_QUARTER_HOUR = 15 * 60000;
+
+    private int machineCount = DEFAULT_MACHINE_COUNT;
+    private int jobsPerMachine = DEFAULT_JOBS_PER_MACHINE;
+    private int personCount = DEFAULT_PERSON_COUNT;
+    private long seed = DEFAULT_SEED;
+
+    /**
+     * Sets the number of machines to generate.
+     */
+    public LabDataGenerator withMachineCount(int machineCount) {
+        checkArgument(machineCount >= 0, "Machine count must not be negative");
+        this.machineCount = machineCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of jobs in every generated machine.
+     */
+    public LabDataGenerator withJobsPerMachine(int jobsPerMachine) {
+        checkArgument(jobsPerMachine >= 0, "Jobs per machine must not be negative");
+        this.jobsPerMachine = jobsPerMachine;
+        return this;
+    }
+
+    /**
+     * Sets the number of persons that own the generated jobs.
+     */
+    public LabDataGenerator withPersonCount(int personCount) {
+        checkArgument(personCount > 0, "Person count must be positive");
+        this.personCount = personCount;
+        return this;
+    }
+
+    /**
+     * Sets the seed that the generated data is derived from.
+     */
+    public LabDataGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Returns the name of the {@code jobIndex}-th generated job, counting across all machines.
+     * The jobs of the {@code m}-th machine are numbered from {@code m * jobsPerMachine}.
+     */
+    public static JobName getJobName(int jobIndex) {
+        return new JobName(PROJECT_WORDS[jobIndex % PROJECT_WORDS.length] + jobIndex);
+    }
+
+    /**
+     * Returns the name of the {@code machineIndex}-th generated machine.
+     */
+    public static MachineName getMachineName(int machineIndex) {
+        return new MachineName(MACHINE_KINDS[machineIndex % MACHINE_KINDS.length] + " " + machineIndex);
+    }
+
+    /**
+     * Generates the persons and the machines, together with their jobs, of the lab.
+     */
+    public AddressBook generate() {
+        Random random = new Random(seed);
+
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(generatePerson(i, random));
+        }
+
+        List<Machine> machines = new ArrayList<>(machineCount);
+        for (int m = 0; m < machineCount; m++) {
+            machines.add(generateMachine(m, persons, random));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.setMachines(machines);
+        return addressBook;
+    }
+
+    /**
+     * Generates the {@code index}-th person. Names only repeat with a number appended, so that persons are unique.
+     */
+    private Person generatePerson(int index, Random random) {
+        String firstName = FIRST_NAMES[index % FIRST_NAMES.length];
+        String lastName = LAST_NAMES[index / FIRST_NAMES.length % LAST_NAMES.length];
+        int round = index / (FIRST_NAMES.length * LAST_NAMES.length);
+        String name = firstName + " " + lastName + (round == 0 ? "" : " " + round);
+        String phone = String.valueOf(80000000 + random.nextInt(20000000));
+        String email = firstName.toLowerCase() + "." + lastName.toLowerCase() + index + "@example.com";
+        String address = "Blk " + (1 + random.nextInt(999)) + " Clementi Ave " + (1 + random.nextInt(6))
+                + ", #" + (1 + random.nextInt(20)) + "-" + (1 + random.nextInt(99));
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                generateTags(random));
+    }
+
+    /**
+     * Generates the {@code index}-th machine with its jobs, owned by persons drawn from {@code persons}.
+     * A machine is printing at most one job at a time.
+     */
+    private Machine generateMachine(int index, List<Person> persons, Random random) {
+        MachineName machineName = getMachineName(index);
+        List<Job> jobs = new ArrayList<>(jobsPerMachine);
+        boolean hasOngoingJob = false;
+        for (int j = 0; j < jobsPerMachine; j++) {
+            Status status = generateStatus(random);
+            if (status == Status.ONGOING) {
+                status = hasOngoingJob ? Status.QUEUED : Status.ONGOING;
+                hasOngoingJob = true;
+            }
+            jobs.add(generateJob(index * jobsPerMachine + j, machineName, status,
+                    persons.get(random.nextInt(persons.size())), random));
+        }
+        MachineStatus machineStatus = random.nextInt(20) == 0 ? MachineStatus.DISABLED : MachineStatus.ENABLED;
+        return new Machine(machineName, jobs, generateTags(random), machineStatus);
+    }
+
+    /**
+     * Generates the {@code jobIndex}-th job.
+     */
+    private Job generateJob(int jobIndex, MachineName machineName, Status status, Person owner, Random random) {
+        JobName name = getJobName(jobIndex);
+        TimeStamp addedTime = new TimeStamp(LATEST_ADDED_MILLIS - (long) (random.nextDouble()
+                * ADDED_TIME_SPREAD_MILLIS));
+        TimeStamp startTime = status == Status.QUEUED ? addedTime
+                : new TimeStamp(addedTime.getTimeInMillis() + random.nextInt(24) * MILLIS_IN_QUARTER_HOUR);
+        long duration = (1 + random.nextInt(96)) * MILLIS_IN_QUARTER_HOUR;
+        JobNote note = new JobNote(name.fullName + " for " + owner.getName().fullName);
+        return new Job(name, machineName, owner, addedTime, startTime, generatePriority(random), status, duration,
+                note, generateTags(random));
+    }
+
+    /**
+     * Returns a priority, most of them normal.
+     */
+    private static Priority generatePriority(Random random) {
+        int roll = random.nextInt(10);
+        return roll == 0 ? Priority.URGENT : roll < 4 ? Priority.HIGH : Priority.NORMAL;
+    }
+
+    /**
+     * Returns a status, most of them queued or finished.
+     */
+    private static Status generateStatus(Random random) {
+        int roll = random.nextInt(20);
+        if (roll < 9) {
+            return Status.QUEUED;
+        } else if (roll < 16) {
+            return Status.FINISHED;
+        } else if (roll < 18) {
+            return Status.CANCELLED;
+        } else if (roll < 19) {
+            return Status.ONGOING;
+        } else {
+            return Status.DELETING;
+        }
+    }
+
+    /**
+     * Returns up to two tags.
+     */
+    private static Set<Tag> generateTags(Random random) {
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = random.nextInt(3);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(TAGS[random.nextInt(TAGS.length)]));
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An index of the elements of observable lists, which follows every change to the lists that it is attached to.
+ * Subclasses decide how an element is indexed. Each element is indexed once, however many attached lists it is in,
+ * and is only removed from the index once it is in none of them, as an element may be moved from one list
+ * to another in either order.
+ *
+ * Elements are indexed by identity.
+ *
+ * @param <T> the type of the elements indexed
+ */
+public abstract class ListIndex<T> {
+
+    /** The number of attached lists each element is in. */
+    private final Map<T, Integer> occurrences = new IdentityHashMap<>();
+
+    /** The lists followed, which must be kept as unmodifiable views only weakly hold on to their listeners. */
+    private final Map<ObservableList<? extends T>, ListChangeListener<T>> attachedLists = new IdentityHashMap<>();
+    private final List<ObservableList<?>> parentLists = new ArrayList<>();
+
+    /**
+     * Indexes the elements of {@code list}, and keeps the index up to date with every change to {@code list}.
+     */
+    public void attach(ObservableList<? extends T> list) {
+        requireNonNull(list);
+        if (attachedLists.containsKey(list)) {
+            return;
+        }
+        ListChangeListener<T> listener = this::onChanged;
+        attachedLists.put(list, listener);
+        list.forEach(this::add);
+        list.addListener(listener);
+    }
+
+    /**
+     * Stops following the changes to {@code list}, and removes its elements from the index.
+     */
+    public void detach(ObservableList<? extends T> list) {
+        requireNonNull(list);
+        ListChangeListener<T> listener = attachedLists.remove(list);
+        if (listener == null) {
+            return;
+        }
+        list.removeListener(listener);
+        list.forEach(this::remove);
+    }
+
+    /**
+     * Attaches the lists returned by {@code childrenOf} for each element of {@code parents},
+     * and keeps attaching and detaching them as elements are added to and removed from {@code parents}.
+     */
+    public <P> void attachChildren(ObservableList<P> parents, Function<? super P, ObservableList<? extends T>>
+            childrenOf) {
+        requireAllNonNull(parents, childrenOf);
+        Map<P, ObservableList<? extends T>> childLists = new IdentityHashMap<>();
+        parentLists.add(parents);
+        parents.forEach(parent -> attachChild(childLists, parent, childrenOf));
+        parents.addListener((ListChangeListener<P>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(parent -> detachChild(childLists, parent));
+                change.getAddedSubList().forEach(parent -> attachChild(childLists, parent, childrenOf));
+            }
+        });
+    }
+
+    /**
+     * Returns the number of distinct elements indexed.
+     */
+    public int size() {
+        return occurrences.size();
+    }
+
+    /**
+     * Returns true if {@code element} is indexed.
+     */
+    public boolean contains(T element) {
+        return occurrences.containsKey(element);
+    }
+
+    /**
+     * Adds {@code element}, which is not indexed yet, to the index.
+     */
+    protected abstract void index(T element);
+
+    /**
+     * Removes {@code element}, which is no longer in any attached list, from the index.
+     */
+    protected abstract void unindex(T element);
+
+    /**
+     * Returns a new empty set that compares its elements by identity.
+     */
+    protected static <E> Set<E> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Attaches the list of children of {@code parent}, remembering it in {@code childLists} to detach it later.
+     */
+    private <P> void attachChild(Map<P, ObservableList<? extends T>> childLists, P parent,
+                                 Function<? super P, ObservableList<? extends T>> childrenOf) {
+        ObservableList<? extends T> children = childrenOf.apply(parent);
+        childLists.put(parent, children);
+        attach(children);
+    }
+
+    /**
+     * Detaches the list of children of {@code parent} that was attached when it was added.
+     */
+    private <P> void detachChild(Map<P, ObservableList<? extends T>> childLists, P parent) {
+        ObservableList<? extends T> children = childLists.remove(parent);
+        if (children != null) {
+            detach(children);
+        }
+    }
+
+    /**
+     * Applies {@code change} to one of the attached lists to the index.
+     */
+    private void onChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Indexes {@code element}, unless it is already indexed as it is in another attached list.
+     */
+    private void add(T element) {
+        if (occurrences.merge(element, 1, Integer::sum) == 1) {
+            index(element);
+        }
+    }
+
+    /**
+     * Removes {@code element} from the index, unless it is still in another attached list.
+     */
+    private void remove(T element) {
+        Integer count = occurrences.get(element);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            occurrences.put(element, count - 1);
+            return;
+        }
+        occurrences.remove(element);
+        unindex(element);
+    }
+}
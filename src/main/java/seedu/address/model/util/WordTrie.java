@@ -0,0 +1,260 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A trie of words, to find the words that start with a term or that are only a few typing mistakes away from it.
+ * How closely a word matches a term is given as its closeness, where smaller is closer:
+ * <pre>
+ *     0              the word is the term
+ *     1              the word starts with the term
+ *     2 * edits      the word is {@code edits} insertions, deletions or substitutions away from the term
+ *     2 * edits + 1  the word starts with a word that is {@code edits} edits away from the term
+ * </pre>
+ * Words are matched as they are given, so they should be normalized before they are added and searched for.
+ */
+public class WordTrie {
+
+    public static final int EXACT = 0;
+    public static final int PREFIX = 1;
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node();
+    private int size = 0;
+
+    /**
+     * Adds {@code word} to the trie, if it is not in the trie already.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.getOrAddChild(word.charAt(i));
+        }
+        if (!node.isWord) {
+            node.isWord = true;
+            size++;
+        }
+    }
+
+    /**
+     * Removes {@code word} from the trie, if it is in the trie, along with the nodes that only led to it.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        Node[] path = new Node[word.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < word.length(); i++) {
+            path[i + 1] = path[i].getChild(word.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        Node node = path[word.length()];
+        if (!node.isWord) {
+            return;
+        }
+        node.isWord = false;
+        size--;
+        for (int i = word.length(); i > 0 && !path[i].isWord && path[i].keys.length == 0; i--) {
+            path[i - 1].removeChild(word.charAt(i - 1));
+        }
+    }
+
+    /**
+     * Returns true if {@code word} is in the trie.
+     */
+    public boolean contains(String word) {
+        requireNonNull(word);
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.getChild(word.charAt(i));
+        }
+        return node != null && node.isWord;
+    }
+
+    /**
+     * Returns the number of words in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the words in the trie that start with {@code term}, or with a word at most {@code maxEdits} edits
+     * away from {@code term}, each with its closeness to {@code term}.
+     * Only the branches of the trie that can still match are visited, by computing the edit distance
+     * to {@code term} of every prefix along a branch from the distances of the prefix one shorter.
+     */
+    public Map<String, Integer> findSimilar(String term, int maxEdits) {
+        requireNonNull(term);
+        if (maxEdits < 0) {
+            throw new IllegalArgumentException("maxEdits cannot be negative");
+        }
+
+        Map<String, Integer> matches = new HashMap<>();
+        int[] firstRow = new int[term.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        int prefixEdits = firstRow[term.length()];
+        if (root.isWord && prefixEdits <= maxEdits) {
+            matches.put("", 2 * prefixEdits);
+        }
+        new Search(term, maxEdits, matches).visitChildren(root, firstRow, prefixEdits);
+        return matches;
+    }
+
+    /**
+     * A search for the words similar to one term, which keeps the word of the node it is at.
+     */
+    private static class Search {
+        private final String term;
+        private final int maxEdits;
+        private final Map<String, Integer> matches;
+        private final StringBuilder word = new StringBuilder();
+        private final List<int[]> rows = new ArrayList<>();
+
+        Search(String term, int maxEdits, Map<String, Integer> matches) {
+            this.term = term;
+            this.maxEdits = maxEdits;
+            this.matches = matches;
+        }
+
+        /**
+         * Visits the children of {@code node}, where {@code row} holds the edit distances from the prefixes of
+         * the term to the word of {@code node}, and the word of {@code node} starts with a word
+         * {@code prefixEdits} edits away from the term.
+         */
+        void visitChildren(Node node, int[] row, int prefixEdits) {
+            for (int i = 0; i < node.keys.length; i++) {
+                visit(node.children[i], node.keys[i], row, prefixEdits);
+            }
+        }
+
+        /**
+         * Visits {@code node}, which is reached from its parent by {@code key}.
+         */
+        private void visit(Node node, char key, int[] parentRow, int parentPrefixEdits) {
+            int depth = word.length();
+            int[] row = getRow(depth);
+            row[0] = parentRow[0] + 1;
+            int rowMinimum = row[0];
+            for (int i = 1; i < row.length; i++) {
+                int substitution = parentRow[i - 1] + (term.charAt(i - 1) == key ? 0 : 1);
+                row[i] = Math.min(substitution, Math.min(row[i - 1], parentRow[i]) + 1);
+                rowMinimum = Math.min(rowMinimum, row[i]);
+            }
+            int edits = row[row.length - 1];
+            int prefixEdits = Math.min(parentPrefixEdits, edits);
+            if (rowMinimum > maxEdits && prefixEdits > maxEdits) {
+                return; // no word below can match any more
+            }
+
+            word.append(key);
+            if (rowMinimum > maxEdits) {
+                // every word below only starts with a match, so there are no more distances to compute
+                addAllBelow(node, 2 * prefixEdits + 1);
+                word.setLength(depth);
+                return;
+            }
+            if (node.isWord) {
+                int closeness = Math.min(edits <= maxEdits ? 2 * edits : Integer.MAX_VALUE,
+                        prefixEdits <= maxEdits ? 2 * prefixEdits + 1 : Integer.MAX_VALUE);
+                if (closeness != Integer.MAX_VALUE) {
+                    matches.put(word.toString(), closeness);
+                }
+            }
+            visitChildren(node, row, prefixEdits);
+            word.setLength(depth);
+        }
+
+        /**
+         * Adds {@code node} and all the words below it as matches with {@code closeness}.
+         */
+        private void addAllBelow(Node node, int closeness) {
+            if (node.isWord) {
+                matches.put(word.toString(), closeness);
+            }
+            int depth = word.length();
+            for (int i = 0; i < node.keys.length; i++) {
+                word.append(node.keys[i]);
+                addAllBelow(node.children[i], closeness);
+                word.setLength(depth);
+            }
+        }
+
+        /**
+         * Returns the row of edit distances to reuse for the nodes at {@code depth}.
+         */
+        private int[] getRow(int depth) {
+            while (rows.size() <= depth) {
+                rows.add(new int[term.length() + 1]);
+            }
+            return rows.get(depth);
+        }
+    }
+
+    /**
+     * A node of the trie, which keeps its children in arrays sorted by the character leading to them,
+     * as most nodes only have a few children.
+     */
+    private static class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private boolean isWord;
+
+        Node getChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index < 0 ? null : children[index];
+        }
+
+        /**
+         * Returns the child of this node reached by {@code key}, adding it if there is none.
+         */
+        Node getOrAddChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = new Node();
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+
+        /**
+         * Removes the child of this node reached by {@code key}, if there is one.
+         */
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys.length == 0 ? NO_KEYS : newKeys;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+    }
+}
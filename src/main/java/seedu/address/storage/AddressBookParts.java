@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons, machines and admins of an address book that are being read from their files at the same time.
+ * Each part completes as soon as its own file has been read, so that the app can start with the machines
+ * before the other files have been read.
+ */
+public class AddressBookParts {
+
+    private final CompletableFuture<List<Person>> persons;
+    private final CompletableFuture<List<Machine>> machines;
+    private final CompletableFuture<List<Admin>> admins;
+
+    public AddressBookParts(CompletableFuture<List<Person>> persons, CompletableFuture<List<Machine>> machines,
+                            CompletableFuture<List<Admin>> admins) {
+        requireAllNonNull(persons, machines, admins);
+        this.persons = persons;
+        this.machines = machines;
+        this.admins = admins;
+    }
+
+    public CompletableFuture<List<Person>> getPersons() {
+        return persons;
+    }
+
+    public CompletableFuture<List<Machine>> getMachines() {
+        return machines;
+    }
+
+    public CompletableFuture<List<Admin>> getAdmins() {
+        return admins;
+    }
+
+    /**
+     * Waits until every part has been read, and returns all of them in one address book.
+     *
+     * @throws java.util.concurrent.CompletionException if a part could not be read.
+     */
+    public ReadOnlyAddressBook join() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons.join());
+        addressBook.setMachines(machines.join());
+        addressBook.setAdmins(admins.join());
+        return addressBook;
+    }
+}
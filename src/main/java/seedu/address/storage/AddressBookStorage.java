@@ -36,6 +36,13 @@ public interface AddressBookStorage {
      */
 
     Optional<ReadOnlyAddressBook> readAddressBook(UserPrefs userPrefs) throws DataConversionException, IOException;
+
+    /**
+     * Starts reading the entire address book, and returns its parts, each of which completes once it has been read.
+     * @see #readAddressBook(UserPrefs)
+     */
+    AddressBookParts readAddressBookInParts();
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -54,6 +61,14 @@ public interface AddressBookStorage {
 
     void saveAddressBook(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) throws IOException;
 
+    /**
+     * Captures the data of {@code addressBook} that belongs in {@code filePath} now, and returns
+     * the write of the captured data to {@code filePath}, to be carried out later.
+     * Later changes to {@code addressBook} do not affect what is written.
+     * @see #saveAddressBook(ReadOnlyAddressBook, Path)
+     */
+    WriteBehindQueue.PendingWrite prepareSaveAddressBook(ReadOnlyAddressBook addressBook, Path filePath);
+
     UserPrefs getUserPrefs();
 
 }
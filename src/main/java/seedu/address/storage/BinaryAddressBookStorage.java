@@ -0,0 +1,201 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.storage.binary.BinarySnapshot;
+
+/**
+ * A class to access AddressBook data stored as a single binary snapshot on the hard disk.
+ * The whole address book is saved whichever part of it has changed, as a snapshot is a single file.
+ * Job status changes are journalled next to the machines file, the same as with {@link XmlAddressBookStorage},
+ * and replayed onto the snapshot when it is read.
+ *
+ * @see BinarySnapshot
+ */
+public class BinaryAddressBookStorage extends ComponentManager implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final UserPrefs userPrefs;
+    private final Path snapshotFilePath;
+
+    private final AtomicLong snapshotsTaken = new AtomicLong();
+    private long latestSnapshotSaved = 0;
+
+    public BinaryAddressBookStorage(UserPrefs userPrefs) {
+        this.userPrefs = userPrefs;
+        this.snapshotFilePath = userPrefs.getMakerManagerSnapshotFilePath();
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(userPrefs);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but reads the snapshot as it was saved,
+     * without the journalled job status changes.
+     * @param filePath location of the snapshot. Cannot be null
+     * @throws DataConversionException if the file is not a readable snapshot.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 FileNotFoundException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("MakerManager snapshot "  + filePath + " not found");
+            return Optional.empty();
+        }
+
+        return Optional.of(BinarySnapshot.readFromFile(filePath));
+    }
+
+    /**
+     * Returns the full in-memory addressbook in the snapshot file of {@code userPrefs}.
+     * If there is no snapshot yet, the xml files of {@code userPrefs} are imported instead,
+     * so that switching to binary storage keeps the existing data.
+     * Default admins are created if there are no admins.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(UserPrefs userPrefs) throws DataConversionException,
+                                                                                        IOException {
+        requireNonNull(userPrefs);
+
+        Path snapshotFile = userPrefs.getMakerManagerSnapshotFilePath();
+        AddressBook addressBook;
+        boolean isChanged = false;
+        if (Files.exists(snapshotFile)) {
+            addressBook = BinarySnapshot.readFromFile(snapshotFile);
+            replayJobJournal(addressBook);
+        } else {
+            logger.info("MakerManager snapshot " + snapshotFile + " not found, importing xml data files");
+            addressBook = SnapshotConverter.readXml(userPrefs);
+            isChanged = true;
+        }
+
+        if (addressBook.getAdminList().isEmpty()) {
+            addressBook.addAdmin(new Admin(new Username("admin"), new Password("admin")));
+            logger.info("Creating new admin");
+            isChanged = true;
+        }
+        if (isChanged) {
+            saveAddressBook(addressBook, snapshotFile);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Starts reading the snapshot on a background thread. The parts of the address book all complete at once,
+     * as they are read from the same file.
+     * A snapshot that cannot be read is read as empty.
+     */
+    @Override
+    public AddressBookParts readAddressBookInParts() {
+        CompletableFuture<ReadOnlyAddressBook> whole = CompletableFuture.supplyAsync(() -> {
+            try {
+                return readAddressBook(userPrefs).get();
+            } catch (DataConversionException dce) {
+                logger.warning("Snapshot conversion error: " + dce.getMessage());
+                return new AddressBook();
+            } catch (IOException ioe) {
+                throw new CompletionException(ioe);
+            }
+        });
+        return new AddressBookParts(whole.thenApply(ReadOnlyAddressBook::getPersonList),
+                whole.thenApply(ReadOnlyAddressBook::getMachineList),
+                whole.thenApply(ReadOnlyAddressBook::getAdminList));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, snapshotFilePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the snapshot. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        BinarySnapshot.saveToFile(filePath, BinarySnapshot.toBytes(addressBook));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) throws IOException {
+        requireNonNull(userPrefs);
+        saveAddressBook(addressBook, userPrefs.getMakerManagerSnapshotFilePath());
+    }
+
+    /**
+     * Captures the whole of {@code addressBook} as a snapshot now, and returns the write of the snapshot
+     * to the snapshot file, whichever data file {@code filePath} is.
+     * A captured snapshot is not written if a snapshot captured after it has been written already,
+     * as the later snapshot holds all of its data.
+     */
+    @Override
+    public WriteBehindQueue.PendingWrite prepareSaveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        byte[] snapshot = BinarySnapshot.toBytes(addressBook);
+        long snapshotNumber = snapshotsTaken.incrementAndGet();
+        return () -> writeSnapshot(snapshotNumber, snapshot);
+    }
+
+    /**
+     * Saves the {@code snapshotNumber}-th captured snapshot to the snapshot file, unless a later one has been saved.
+     */
+    private synchronized void writeSnapshot(long snapshotNumber, byte[] snapshot) throws IOException {
+        if (snapshotNumber < latestSnapshotSaved) {
+            logger.fine("Skipping snapshot " + snapshotNumber + " as a later one has been saved");
+            return;
+        }
+        BinarySnapshot.saveToFile(snapshotFilePath, snapshot);
+        latestSnapshotSaved = snapshotNumber;
+    }
+
+    /**
+     * Applies the job status changes journalled since the snapshot was saved to the jobs in {@code addressBook}.
+     */
+    private void replayJobJournal(AddressBook addressBook) {
+        Path machinesFile = userPrefs.getMakerManagerMachinesFilePath();
+        try {
+            JobJournal.replay(JobJournal.getJournalFile(machinesFile), snapshotFilePath, addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Failed to replay job journal of " + machinesFile + ": " + ioe.getMessage());
+        }
+    }
+
+    @Override
+    public UserPrefs getUserPrefs() {
+        return userPrefs;
+    }
+
+}
@@ -0,0 +1,275 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.JobMachineTuple;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+
+/**
+ * An append-only log of job status changes, kept next to the machines data file.
+ * Each status change is appended to the log as a single line instead of saving all the machines again.
+ * The log is emptied whenever a full snapshot of the machines is saved,
+ * and a snapshot is due once the log holds {@code compactionThreshold} changes.
+ * When loading, the changes in the log are replayed over the machines loaded from the snapshot.
+ * <p>
+ * Before a snapshot is saved, a marker noting the snapshot file as it was is appended to the log.
+ * If the snapshot file has been replaced since a marker was appended, the changes before the marker
+ * are included in the snapshot and are not replayed, as they may undo later changes saved in the snapshot.
+ */
+public class JobJournal {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(JobJournal.class);
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+    private static final String JOURNAL_FILE_EXTENSION = ".journal";
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String COMPACTION_MARKER = "#compacting";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private final Path journalFile;
+    private final Path snapshotFile;
+    private final int compactionThreshold;
+
+    private final List<String> pendingRecords = new ArrayList<>();
+    private WriteBehindQueue.PendingWrite pendingSnapshot;
+    private int recordsCoveredBySnapshot;
+    private int recordsSinceSnapshot;
+
+    /**
+     * Creates a journal for the machines saved in {@code snapshotFile}.
+     */
+    public JobJournal(Path snapshotFile, int compactionThreshold) {
+        this(snapshotFile, snapshotFile, compactionThreshold);
+    }
+
+    /**
+     * Creates a journal kept next to {@code machinesFile} for the machines saved in {@code snapshotFile},
+     * which is a different file where the machines are saved together with the rest of the data.
+     */
+    public JobJournal(Path machinesFile, Path snapshotFile, int compactionThreshold) {
+        requireAllNonNull(machinesFile, snapshotFile);
+        this.journalFile = getJournalFile(machinesFile);
+        this.snapshotFile = snapshotFile;
+        this.compactionThreshold = compactionThreshold;
+        this.recordsSinceSnapshot = countRecords(journalFile);
+    }
+
+    /**
+     * Returns the path of the journal kept for the machines saved in {@code snapshotFile}.
+     */
+    public static Path getJournalFile(Path snapshotFile) {
+        return snapshotFile.resolveSibling(snapshotFile.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    /**
+     * Queues a change of the status of job {@code jobName} to be appended to the journal.
+     */
+    public synchronized void recordStatusChange(JobName jobName, Status status, TimeStamp startTime) {
+        requireAllNonNull(jobName, status, startTime);
+        pendingRecords.add(jobName.fullName + FIELD_SEPARATOR + status.name()
+                + FIELD_SEPARATOR + startTime.getTimeInMillis());
+        recordsSinceSnapshot++;
+    }
+
+    /**
+     * Queues a full snapshot of the machines to be saved, after which the journal is emptied.
+     * {@code snapshot} must already include every status change recorded so far.
+     */
+    public synchronized void recordSnapshot(WriteBehindQueue.PendingWrite snapshot) {
+        requireNonNull(snapshot);
+        pendingSnapshot = snapshot;
+        recordsCoveredBySnapshot = pendingRecords.size();
+        recordsSinceSnapshot = 0;
+    }
+
+    /**
+     * Returns true if the journal holds enough changes that a full snapshot should be saved instead.
+     */
+    public synchronized boolean isCompactionDue() {
+        return recordsSinceSnapshot >= compactionThreshold;
+    }
+
+    /**
+     * Saves the queued snapshot, if any, and replaces the journal with the queued status changes
+     * that the snapshot does not include. Otherwise, appends the queued status changes to the journal.
+     * If the snapshot cannot be saved, all queued status changes are appended to the journal instead.
+     */
+    public void write() throws IOException {
+        WriteBehindQueue.PendingWrite snapshot;
+        List<String> records;
+        int coveredBySnapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            records = new ArrayList<>(pendingRecords);
+            coveredBySnapshot = recordsCoveredBySnapshot;
+            pendingSnapshot = null;
+            pendingRecords.clear();
+            recordsCoveredBySnapshot = 0;
+        }
+
+        if (snapshot == null) {
+            appendRecords(records);
+            return;
+        }
+
+        appendRecords(Collections.singletonList(COMPACTION_MARKER + FIELD_SEPARATOR + identify(snapshotFile)));
+        try {
+            snapshot.write();
+        } catch (IOException ioe) {
+            appendRecords(records);
+            throw ioe;
+        }
+        replaceRecords(records.subList(coveredBySnapshot, records.size()));
+    }
+
+    /**
+     * Applies the status changes in {@code journalFile} to the jobs in {@code addressBook}, in order.
+     * Changes that are already included in {@code snapshotFile}, changes to jobs that are not in
+     * {@code addressBook} and lines that cannot be parsed, such as a line that was cut short by a crash,
+     * are skipped.
+     *
+     * @return the number of changes applied.
+     */
+    public static int replay(Path journalFile, Path snapshotFile, AddressBook addressBook) throws IOException {
+        requireAllNonNull(journalFile, snapshotFile, addressBook);
+        if (!Files.exists(journalFile)) {
+            return 0;
+        }
+
+        List<String> records = Files.readAllLines(journalFile, CHARSET);
+        String snapshotIdentity = identify(snapshotFile);
+        int firstUnsaved = 0;
+        for (int i = 0; i < records.size(); i++) {
+            String[] fields = records.get(i).split(FIELD_SEPARATOR, 2);
+            if (fields[0].equals(COMPACTION_MARKER) && !(fields.length == 2 && fields[1].equals(snapshotIdentity))) {
+                // the snapshot was saved after this marker, so it includes the changes before it
+                firstUnsaved = i + 1;
+            }
+        }
+        if (firstUnsaved > 0) {
+            logger.info("Skipping " + firstUnsaved + " journal records already saved in " + snapshotFile);
+        }
+
+        int applied = 0;
+        for (String record : records.subList(firstUnsaved, records.size())) {
+            if (record.startsWith(COMPACTION_MARKER)) {
+                continue;
+            }
+            String[] fields = record.split(FIELD_SEPARATOR);
+            try {
+                if (fields.length != 3 || !JobName.isValidJobName(fields[0])) {
+                    throw new IllegalArgumentException("wrong number of fields or invalid job name");
+                }
+                Status status = Status.valueOf(fields[1]);
+                TimeStamp startTime = new TimeStamp(Long.parseLong(fields[2]));
+
+                JobMachineTuple jobMachineTuple = addressBook.findJob(new JobName(fields[0]));
+                if (jobMachineTuple == null) {
+                    logger.warning("Skipping journal record for missing job: " + record);
+                    continue;
+                }
+                addressBook.modifyJob(jobMachineTuple.job.getJobName(), job -> {
+                    job.setStatus(status);
+                    job.setStartTime(startTime);
+                });
+                applied++;
+            } catch (IllegalArgumentException e) {
+                logger.warning("Skipping unreadable journal record \"" + record + "\": " + e.getMessage());
+            }
+        }
+        logger.fine("Replayed " + applied + " job status changes from " + journalFile);
+        return applied;
+    }
+
+    /**
+     * Appends {@code records} to the journal, one per line, and forces them to disk.
+     */
+    private void appendRecords(List<String> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        writeRecords(journalFile, records, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Replaces the journal with one holding only {@code records}, by an atomic rename where the file system
+     * supports it, so that the journal is never seen with only some of the records it is replaced with.
+     */
+    private void replaceRecords(List<String> records) throws IOException {
+        Path tempFile = journalFile.resolveSibling(journalFile.getFileName() + TEMP_FILE_EXTENSION);
+        writeRecords(tempFile, records, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            Files.move(tempFile, journalFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, journalFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes {@code records} to {@code file}, one per line, opening it with {@code mode}, and forces them to disk.
+     */
+    private static void writeRecords(Path file, List<String> records, StandardOpenOption mode) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (String record : records) {
+            lines.append(record).append(System.lineSeparator());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                mode)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns a description of {@code file} that changes whenever the file is replaced.
+     * A file replaced by a rename is a new file, so it has a different file key where the file system has them.
+     */
+    private static String identify(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return "none";
+        }
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return attributes.size() + ":" + attributes.lastModifiedTime().toMillis() + ":" + attributes.fileKey();
+    }
+
+    /**
+     * Returns the number of records already in {@code journalFile}.
+     */
+    private static int countRecords(Path journalFile) {
+        if (!Files.exists(journalFile)) {
+            return 0;
+        }
+        try (Stream<String> lines = Files.lines(journalFile, CHARSET)) {
+            return (int) lines.filter(line -> !line.startsWith(COMPACTION_MARKER)).count();
+        } catch (IOException ioe) {
+            logger.warning("Failed to read journal " + journalFile + ": " + ioe.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.LabDataGenerator;
+import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
+
+/**
+ * Writes a generated print lab to data files that the app can load,
+ * through the same serialization that the app saves its data with.
+ */
+public class LabDataWriter {
+
+    public static final String MESSAGE_USAGE = "Usage: LabDataWriter ADDRESS_BOOK_FILE MACHINES_FILE "
+            + "[MACHINE_COUNT JOBS_PER_MACHINE PERSON_COUNT SEED]";
+
+    private static final Logger logger = LogsCenter.getLogger(LabDataWriter.class);
+
+    private LabDataWriter() {} // prevents instantiation
+
+    /**
+     * Saves the persons of {@code data} to {@code addressBookFile} and its machines to {@code machinesFile}.
+     */
+    public static void write(ReadOnlyAddressBook data, Path addressBookFile, Path machinesFile) throws IOException {
+        requireAllNonNull(data, addressBookFile, machinesFile);
+        FileUtil.createIfMissing(addressBookFile);
+        FileUtil.createIfMissing(machinesFile);
+        XmlFileStorage.saveDataToFile(addressBookFile, new XmlSerializableAddressBook(data));
+        XmlFileStorage.saveDataToFile(machinesFile, new XmlSerializableMakerManagerMachines(data));
+    }
+
+    /**
+     * Generates a print lab and writes it to the given files.
+     * The sizes and seed are optional, and default to those of {@link LabDataGenerator}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2 && args.length != 6) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        LabDataGenerator generator = new LabDataGenerator();
+        if (args.length == 6) {
+            generator.withMachineCount(Integer.parseInt(args[2]))
+                    .withJobsPerMachine(Integer.parseInt(args[3]))
+                    .withPersonCount(Integer.parseInt(args[4]))
+                    .withSeed(Long.parseLong(args[5]));
+        }
+
+        ReadOnlyAddressBook data = generator.generate();
+        write(data, Paths.get(args[0]), Paths.get(args[1]));
+        logger.info("Wrote " + data.getPersonList().size() + " persons, " + data.getMachineList().size()
+                + " machines and " + data.getTotalNumberOfStoredJobs() + " jobs");
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.binary.BinarySnapshot;
+
+/**
+ * Imports the xml data files into a binary snapshot, and exports a binary snapshot back to xml data files,
+ * to switch an existing print lab between the storage formats in {@link UserPrefs.StorageFormat}.
+ */
+public class SnapshotConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: SnapshotConverter import ADDRESS_BOOK_FILE MACHINES_FILE "
+            + "ADMINS_FILE SNAPSHOT_FILE\n"
+            + "       SnapshotConverter export SNAPSHOT_FILE ADDRESS_BOOK_FILE MACHINES_FILE ADMINS_FILE";
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotConverter.class);
+    private static final String JOBS_FILE_NAME = "makerManagerJobs.xml";
+
+    private SnapshotConverter() {} // prevents instantiation
+
+    /**
+     * Returns the persons, machines and admins in the xml data files of {@code userPrefs},
+     * with the journalled job status changes applied to the machines.
+     * Data files that are missing or empty are read as having no data.
+     *
+     * @throws DataConversionException if a data file is not in the correct format.
+     */
+    public static AddressBook readXml(UserPrefs userPrefs) throws DataConversionException {
+        requireNonNull(userPrefs);
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            Path addressBookFile = userPrefs.getAddressBookFilePath();
+            if (hasData(addressBookFile)) {
+                addressBook.setPersons(XmlFileStorage.loadDataFromSaveFile(addressBookFile).toModelType()
+                        .getPersonList());
+            }
+
+            Path machinesFile = userPrefs.getMakerManagerMachinesFilePath();
+            if (hasData(machinesFile)) {
+                addressBook.setMachines(XmlFileStorage.loadMakerManagerMachinesFromSaveFile(machinesFile)
+                        .getMachineList());
+            }
+            JobJournal.replay(JobJournal.getJournalFile(machinesFile), machinesFile, addressBook);
+
+            Path adminsFile = userPrefs.getMakerManagerAdminsFilePath();
+            if (hasData(adminsFile)) {
+                addressBook.setAdmins(XmlFileStorage.loadMakerManagerAdminDataFromSaveFile(adminsFile).toModelType()
+                        .getAdminList());
+            }
+        } catch (IllegalValueException | IOException e) {
+            throw new DataConversionException(e);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Saves the persons, machines and admins of {@code addressBook} to the xml data files of {@code userPrefs}.
+     */
+    public static void writeXml(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(userPrefs);
+        new XmlAddressBookStorage(userPrefs).saveAddressBook(addressBook, userPrefs);
+    }
+
+    /**
+     * Saves the xml data files of {@code userPrefs} as a binary snapshot to its snapshot file.
+     */
+    public static void importXml(UserPrefs userPrefs) throws DataConversionException, IOException {
+        AddressBook addressBook = readXml(userPrefs);
+        BinarySnapshot.saveToFile(userPrefs.getMakerManagerSnapshotFilePath(), BinarySnapshot.toBytes(addressBook));
+        logger.info("Imported " + describe(addressBook) + " into " + userPrefs.getMakerManagerSnapshotFilePath());
+    }
+
+    /**
+     * Saves the binary snapshot in the snapshot file of {@code userPrefs} to its xml data files.
+     */
+    public static void exportXml(UserPrefs userPrefs) throws DataConversionException, IOException {
+        AddressBook addressBook = BinarySnapshot.readFromFile(userPrefs.getMakerManagerSnapshotFilePath());
+        writeXml(addressBook, userPrefs);
+        logger.info("Exported " + describe(addressBook) + " from " + userPrefs.getMakerManagerSnapshotFilePath());
+    }
+
+    /**
+     * Imports xml data files into a binary snapshot, or exports a binary snapshot to xml data files.
+     * The jobs file is kept next to the machines file.
+     */
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length != 5 || !(args[0].equals("import") || args[0].equals("export"))) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        boolean isImport = args[0].equals("import");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMakerManagerSnapshotFilePath(Paths.get(isImport ? args[4] : args[1]));
+        userPrefs.setAddressBookFilePath(Paths.get(isImport ? args[1] : args[2]));
+        userPrefs.setMakerManagerMachinesFilePath(Paths.get(isImport ? args[2] : args[3]));
+        userPrefs.setMakerManagerAdminsFilePath(Paths.get(isImport ? args[3] : args[4]));
+        userPrefs.setMakerManagerJobsFilePath(userPrefs.getMakerManagerMachinesFilePath()
+                .resolveSibling(JOBS_FILE_NAME));
+
+        if (isImport) {
+            importXml(userPrefs);
+        } else {
+            exportXml(userPrefs);
+        }
+    }
+
+    /**
+     * Returns true if {@code file} exists and is not empty. Missing data files are created empty by the app.
+     */
+    private static boolean hasData(Path file) throws IOException {
+        return Files.exists(file) && Files.size(file) > 0;
+    }
+
+    private static String describe(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().size() + " persons, " + addressBook.getMachineList().size()
+                + " machines and " + addressBook.getAdminList().size() + " admins";
+    }
+}
@@ -7,8 +7,11 @@ import java.util.Optional;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.AdminListChangedEvent;
 import seedu.address.commons.events.model.JobListChangedEvent;
+import seedu.address.commons.events.model.JobStatusChangedEvent;
 import seedu.address.commons.events.model.MachineListChangedEvent;
+import seedu.address.commons.events.model.TransactionCommittedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -35,30 +38,53 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Saves all changes that are still waiting to be saved, and waits for the saves to complete.
+     */
+    void flush();
+
+    /**
+     * Saves the current version of the Address Book to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
 
     /**
-     * Saves the current version of the Admin List to the hard disk.
+     * Saves the current version of the Admin List to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAdminListChangedEvent(AdminListChangedEvent alce);
 
     /**
-     * Saves the current version of the Machine List to the hard disk.
+     * Saves the current version of the Machine List to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleMachineListChangedEvent(MachineListChangedEvent mlce);
 
     /**
-     * Saves the current version of the Job List to the hard disk.
+     * Saves the current version of the Job List to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleJobListChangedEvent(JobListChangedEvent event);
+
+    /**
+     * Appends the new status of the job to the job journal on the hard disk in the background,
+     *   or saves the current version of the Machine List if the journal is due to be compacted.
+     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     */
+    void handleJobStatusChangedEvent(JobStatusChangedEvent event);
+
+    /**
+     * Saves each list changed by the transaction to the hard disk in the background, once.
+     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     */
+    void handleTransactionCommittedEvent(TransactionCommittedEvent event);
+
+    /**
+     * Saves all changes that are still waiting to be saved before the app exits.
+     */
+    void handleExitAppRequestEvent(ExitAppRequestEvent event);
 }
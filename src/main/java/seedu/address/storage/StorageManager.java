@@ -12,14 +12,19 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.AdminListChangedEvent;
 import seedu.address.commons.events.model.JobListChangedEvent;
+import seedu.address.commons.events.model.JobStatusChangedEvent;
 import seedu.address.commons.events.model.MachineListChangedEvent;
+import seedu.address.commons.events.model.TransactionCommittedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Changes to the data are saved in the background by a {@link WriteBehindQueue}.
+ * Changes to the status of a single job are appended to a {@link JobJournal} instead of saving all machines.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
@@ -27,6 +32,8 @@ public class StorageManager extends ComponentManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private UserPrefs userPrefs;
+    private final WriteBehindQueue writeBehindQueue;
+    private final JobJournal jobJournal;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
@@ -34,6 +41,19 @@ public class StorageManager extends ComponentManager implements Storage {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.userPrefs = addressBookStorage.getUserPrefs();
+        this.writeBehindQueue = new WriteBehindQueue(WriteBehindQueue.DEFAULT_FLUSH_DELAY_MILLIS,
+            e -> raise(new DataSavingExceptionEvent(e)));
+        this.jobJournal = new JobJournal(userPrefs.getMakerManagerMachinesFilePath(), getMachinesSnapshotFile(),
+            JobJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Returns the file that a save of the machines is written to in the storage format chosen in the preferences.
+     */
+    private Path getMachinesSnapshotFile() {
+        return userPrefs.getStorageFormat() == UserPrefs.StorageFormat.BINARY
+            ? userPrefs.getMakerManagerSnapshotFilePath()
+            : userPrefs.getMakerManagerMachinesFilePath();
     }
 
     // ================ UserPrefs methods ==============================
@@ -84,6 +104,12 @@ public class StorageManager extends ComponentManager implements Storage {
         return addressBookStorage.readAddressBook(userPrefs);
     }
 
+    @Override
+    public AddressBookParts readAddressBookInParts() {
+        logger.fine("Attempting to read data files in parallel");
+        return addressBookStorage.readAddressBookInParts();
+    }
+
     /**
      * Saves the entire addressbook to each of the relevant file
      * by marshalling the individual data correctly into its appropriate file
@@ -110,6 +136,32 @@ public class StorageManager extends ComponentManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, userPrefs);
     }
 
+    @Override
+    public WriteBehindQueue.PendingWrite prepareSaveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        return addressBookStorage.prepareSaveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void flush() {
+        writeBehindQueue.flush();
+    }
+
+    /**
+     * Queues the data of {@code addressBook} that belongs in {@code filePath} to be saved in the background.
+     */
+    private void saveInBackground(ReadOnlyAddressBook addressBook, Path filePath) {
+        writeBehindQueue.submit(filePath, prepareSaveAddressBook(addressBook, filePath));
+    }
+
+    /**
+     * Queues all machines in {@code addressBook} to be saved in the background, which also empties the job journal.
+     */
+    private void saveMachinesInBackground(ReadOnlyAddressBook addressBook) {
+        Path machinesFilePath = userPrefs.getMakerManagerMachinesFilePath();
+        jobJournal.recordSnapshot(prepareSaveAddressBook(addressBook, machinesFilePath));
+        writeBehindQueue.submit(machinesFilePath, jobJournal::write);
+    }
+
 
     //----------------------------Events---------------------------------//
     @Override
@@ -117,11 +169,7 @@ public class StorageManager extends ComponentManager implements Storage {
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
         logger.info("PersonsListChangedEvent triggered");
-        try {
-            saveAddressBook(event.data, userPrefs.getAddressBookFilePath());
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        saveInBackground(event.data, userPrefs.getAddressBookFilePath());
     }
 
     @Override
@@ -129,34 +177,56 @@ public class StorageManager extends ComponentManager implements Storage {
     public void handleAdminListChangedEvent(AdminListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
         logger.info("AdminListChangedEvent triggered");
-        try {
-            saveAddressBook(event.data, userPrefs.getMakerManagerAdminsFilePath());
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        saveInBackground(event.data, userPrefs.getMakerManagerAdminsFilePath());
     }
 
     @Override
     @Subscribe
     public void handleMachineListChangedEvent(MachineListChangedEvent event) {
-        try {
-            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-            logger.info("MachineListChangedEvent triggered");
-            saveAddressBook(event.data, userPrefs.getMakerManagerMachinesFilePath());
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        logger.info("MachineListChangedEvent triggered");
+        saveMachinesInBackground(event.data);
+    }
+
+    @Override
+    @Subscribe
+    public void handleJobStatusChangedEvent(JobStatusChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Job status changed, appending to journal"));
+        jobJournal.recordStatusChange(event.jobName, event.status, event.startTime);
+        if (jobJournal.isCompactionDue()) {
+            saveMachinesInBackground(event.data);
+        } else {
+            writeBehindQueue.submit(userPrefs.getMakerManagerMachinesFilePath(), jobJournal::write);
         }
     }
 
     @Override
     @Subscribe
     public void handleJobListChangedEvent(JobListChangedEvent event) {
-        try {
-            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-            logger.info("JobsListChangedEvent triggered");
-            saveAddressBook(event.data, userPrefs.getMakerManagerJobsFilePath());
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        logger.info("JobsListChangedEvent triggered");
+        saveInBackground(event.data, userPrefs.getMakerManagerJobsFilePath());
+    }
+
+    @Override
+    @Subscribe
+    public void handleTransactionCommittedEvent(TransactionCommittedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving changed files"));
+        if (event.isPersonListChanged) {
+            saveInBackground(event.data, userPrefs.getAddressBookFilePath());
+        }
+        if (event.isAdminListChanged) {
+            saveInBackground(event.data, userPrefs.getMakerManagerAdminsFilePath());
+        }
+        if (event.isMachineListChanged) {
+            saveMachinesInBackground(event.data);
         }
     }
+
+    @Override
+    @Subscribe
+    public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Saving pending changes before exit"));
+        flush();
+    }
 }
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Writes data files on a background thread.
+ * Writes to the same file that are submitted before the previous one has been carried out replace it,
+ * so a burst of changes results in a single write per file.
+ * A submitted write is carried out at most {@code flushDelayMillis} after the first write of a burst.
+ */
+public class WriteBehindQueue {
+
+    public static final long DEFAULT_FLUSH_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindQueue.class);
+
+    private final ScheduledExecutorService writer;
+    private final long flushDelayMillis;
+    private final Consumer<IOException> failureHandler;
+
+    private final Map<Path, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    private boolean isWriteScheduled = false;
+
+    /**
+     * Creates a queue that reports every failed write to {@code failureHandler}, on the writer thread.
+     */
+    public WriteBehindQueue(long flushDelayMillis, Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.flushDelayMillis = flushDelayMillis;
+        this.failureHandler = failureHandler;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues {@code write} to be carried out on {@code file}, replacing any write to {@code file}
+     * that has not been carried out yet.
+     */
+    public synchronized void submit(Path file, PendingWrite write) {
+        requireAllNonNull(file, write);
+        pendingWrites.put(file, write);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.schedule(this::writePendingWrites, flushDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Carries out all queued writes now and waits for them to complete.
+     */
+    public void flush() {
+        try {
+            writer.submit(this::writePendingWrites).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for pending writes");
+        } catch (ExecutionException e) {
+            logger.severe("Unexpected error while flushing pending writes: " + e.getCause());
+        }
+    }
+
+    /**
+     * Carries out the queued writes, reporting every failed write to the failure handler
+     * and carrying on with the writes to the other files.
+     */
+    private void writePendingWrites() {
+        Map<Path, PendingWrite> toWrite;
+        synchronized (this) {
+            toWrite = new LinkedHashMap<>(pendingWrites);
+            pendingWrites.clear();
+            isWriteScheduled = false;
+        }
+
+        for (Map.Entry<Path, PendingWrite> entry : toWrite.entrySet()) {
+            try {
+                logger.fine("Writing " + entry.getKey());
+                entry.getValue().write();
+            } catch (IOException e) {
+                logger.warning("Failed to write " + entry.getKey() + ": " + e.getMessage());
+                failureHandler.accept(e);
+            } catch (RuntimeException e) {
+                // a failed write must not keep the other files of the batch from being written
+                logger.severe("Unexpected error while writing " + entry.getKey() + ": " + e);
+                failureHandler.accept(new IOException("Cannot write " + entry.getKey(), e));
+            }
+        }
+    }
+
+    /**
+     * A write of data that has already been captured, to be carried out later.
+     */
+    @FunctionalInterface
+    public interface PendingWrite {
+        void write() throws IOException;
+    }
+}
@@ -6,7 +6,14 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.ComponentManager;
@@ -20,6 +27,8 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.Password;
 import seedu.address.model.admin.Username;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
 import seedu.address.storage.admin.XmlSerializableMakerManagerAdmins;
 import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
 
@@ -29,6 +38,7 @@ import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
 public class XmlAddressBookStorage extends ComponentManager implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(XmlAddressBookStorage.class);
+    private static final int LOADER_THREADS = 3;
 
     private Path filePath;
     private UserPrefs userPrefs;
@@ -75,9 +85,9 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
                 XmlSerializableAddressBook xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(filePath);
                 return Optional.of(xmlAddressBook.toModelType());
             } else if (filePath.getFileName().toString().equals(makerManagerMachinesFilePath)) {
-                XmlSerializableMakerManagerMachines xmlMakerManagerMachines =
-                        XmlFileStorage.loadMakerManagerMachineDataFromSaveFile(filePath);
-                return Optional.of(xmlMakerManagerMachines.toModelType());
+                AddressBook machinesData = XmlFileStorage.loadMakerManagerMachinesFromSaveFile(filePath);
+                replayJobJournal(filePath, machinesData);
+                return Optional.of(machinesData);
             } else if (filePath.getFileName().toString().equals(makerManagerAdminsFilePath)) {
 
                 XmlSerializableMakerManagerAdmins xmlMakerManagerAdmins =
@@ -96,11 +106,36 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
     /**
      * Returns the full in-memory addressbook that contains all the data from the xml files
      * i.e addressbook will contain list of persons,admins,machines etc..
+     * The files are read at the same time, see {@link #readAddressBookInParts(UserPrefs)}.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(UserPrefs userPrefs) throws DataConversionException,
                                                                                         FileNotFoundException {
         requireNonNull(userPrefs);
 
+        try {
+            return Optional.of(readAddressBookInParts(userPrefs).join());
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof FileNotFoundException) {
+                throw (FileNotFoundException) ce.getCause();
+            }
+            throw ce;
+        }
+    }
+
+    @Override
+    public AddressBookParts readAddressBookInParts() {
+        return readAddressBookInParts(userPrefs);
+    }
+
+    /**
+     * Starts reading the persons, machines and admins files in {@code userPrefs} at the same time,
+     * each on its own thread, and returns the parts of the address book as they are being read.
+     * A file that is missing is created, and a file that is not in the correct format is read as empty.
+     * Default admins are created if there are no readable admins.
+     */
+    public AddressBookParts readAddressBookInParts(UserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+
         Path mainAddressBookFile = userPrefs.getAddressBookFilePath();
         Path makerManagerMachinesFile = userPrefs.getMakerManagerMachinesFilePath();
         Path makerManagerAdminsFile = userPrefs.getMakerManagerAdminsFilePath();
@@ -124,41 +159,65 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
             e.printStackTrace();
         }
 
-        AddressBook fullAddressBookData = new AddressBook();
-
-        /**
-         * Loads all the data into each individual temporary serializable xml address book
-         * by parsing the data accordingly through the correct marshalling format stated in XmlFileStorage
-         * Will throw dataConversionError when the file is empty
-         * or if incorrect format
-         */
+        ExecutorService loader = Executors.newFixedThreadPool(LOADER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "address-book-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            return new AddressBookParts(
+                    readAsync(() -> readPersons(mainAddressBookFile), loader),
+                    readAsync(() -> readMachines(makerManagerMachinesFile), loader),
+                    readAsync(() -> readAdmins(makerManagerAdminsFile), loader));
+        } finally {
+            // the threads end once the files have been read
+            loader.shutdown();
+        }
+    }
 
+    /**
+     * Loads all the data into a temporary serializable xml address book
+     * by parsing the data accordingly through the correct marshalling format stated in XmlFileStorage,
+     * and returns the persons in it.
+     * Returns no persons when the file is empty or in the incorrect format.
+     */
+    private List<Person> readPersons(Path mainAddressBookFile) throws FileNotFoundException {
         try {
             XmlSerializableAddressBook xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(mainAddressBookFile);
-            AddressBook mainAddressBookData = xmlAddressBook.toModelType();
-            fullAddressBookData.setPersons(mainAddressBookData.getPersonList());
+            return xmlAddressBook.toModelType().getPersonList();
         } catch (DataConversionException dce) {
             logger.info("Person conversion error");
         } catch (IllegalValueException e) {
             e.printStackTrace();
         }
+        return Collections.emptyList();
+    }
 
+    /**
+     * Returns the machines in {@code makerManagerMachinesFile}, with the journalled job status changes applied.
+     * Returns no machines when the file is empty or in the incorrect format.
+     */
+    private List<Machine> readMachines(Path makerManagerMachinesFile) throws FileNotFoundException {
+        AddressBook machinesAddressBookData = new AddressBook();
         try {
-            XmlSerializableMakerManagerMachines xmlMakerManagerMachines =
-                    XmlFileStorage.loadMakerManagerMachineDataFromSaveFile(makerManagerMachinesFile);
-            AddressBook machinesAddressBookData = xmlMakerManagerMachines.toModelType();
-            fullAddressBookData.setMachines(machinesAddressBookData.getMachineList());
+            machinesAddressBookData = XmlFileStorage.loadMakerManagerMachinesFromSaveFile(makerManagerMachinesFile);
         } catch (DataConversionException dce) {
-            logger.info("Machine conversion error");
-        } catch (IllegalValueException e) {
-            e.printStackTrace();
+            logger.info("Machine conversion error: " + dce.getMessage());
         }
+        replayJobJournal(makerManagerMachinesFile, machinesAddressBookData);
+        return machinesAddressBookData.getMachineList();
+    }
 
+    /**
+     * Returns the admins in {@code makerManagerAdminsFile}.
+     * When the file is empty or in the incorrect format, a default admin is saved to it and returned.
+     */
+    private List<Admin> readAdmins(Path makerManagerAdminsFile) throws FileNotFoundException {
         try {
             XmlSerializableMakerManagerAdmins xmlMakerManagerAdmins =
                     XmlFileStorage.loadMakerManagerAdminDataFromSaveFile(makerManagerAdminsFile);
             AddressBook adminsData = xmlMakerManagerAdmins.toModelType();
-            fullAddressBookData.setAdmins(adminsData.getAdminList());
+            return adminsData.getAdminList();
 
         } catch (DataConversionException dce) {
             logger.info("Admins conversion error");
@@ -167,15 +226,55 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
             Admin admin = new Admin(username, password);
             AddressBook newAdminData = new AddressBook();
             newAdminData.addAdmin(admin);
-            XmlFileStorage.saveDataToFile(userPrefs.getMakerManagerAdminsFilePath(),
-                    new XmlSerializableMakerManagerAdmins(newAdminData));
-            logger.info("Creating new admin file");
-            fullAddressBookData.setAdmins(newAdminData.getAdminList());
+            try {
+                XmlFileStorage.saveDataToFile(makerManagerAdminsFile,
+                        new XmlSerializableMakerManagerAdmins(newAdminData));
+                logger.info("Creating new admin file");
+            } catch (IOException ioe) {
+                logger.warning("Failed to create new admin file: " + ioe.getMessage());
+            }
+            return newAdminData.getAdminList();
 
         } catch (IllegalValueException e) {
             e.printStackTrace();
         }
-        return Optional.of(fullAddressBookData);
+        return Collections.emptyList();
+    }
+
+    /**
+     * Reads a part of the address book on {@code executor}, completing the returned future exceptionally
+     * with the {@code FileNotFoundException} thrown by {@code reader}, if any.
+     */
+    private static <T> CompletableFuture<T> readAsync(PartReader<T> reader, Executor executor) {
+        CompletableFuture<T> part = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                part.complete(reader.read());
+            } catch (FileNotFoundException | RuntimeException e) {
+                part.completeExceptionally(e);
+            }
+        });
+        return part;
+    }
+
+    /**
+     * Reads a part of the address book from its file.
+     */
+    @FunctionalInterface
+    private interface PartReader<T> {
+        T read() throws FileNotFoundException;
+    }
+
+    /**
+     * Applies the job status changes journalled since the machines in {@code machinesFile} were saved
+     * to the jobs in {@code addressBook}.
+     */
+    private void replayJobJournal(Path machinesFile, AddressBook addressBook) {
+        try {
+            JobJournal.replay(JobJournal.getJournalFile(machinesFile), machinesFile, addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Failed to replay job journal of " + machinesFile + ": " + ioe.getMessage());
+        }
     }
 
     @Override
@@ -190,20 +289,7 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
      * specified
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        requireNonNull(addressBook);
-        requireNonNull(filePath);
-
-        FileUtil.createIfMissing(filePath);
-        if (filePath.getFileName().toString().equals(addressBookFilePath)) {
-            XmlFileStorage.saveDataToFile(filePath, new XmlSerializableAddressBook(addressBook));
-        } else if (filePath.getFileName().toString().equals(makerManagerMachinesFilePath)) {
-            XmlFileStorage.saveDataToFile(filePath, new XmlSerializableMakerManagerMachines(addressBook));
-        } else if (filePath.getFileName().toString().equals(makerManagerAdminsFilePath)) {
-            XmlFileStorage.saveDataToFile(filePath, new XmlSerializableMakerManagerAdmins(addressBook));
-        } else {
-            logger.info("No such file path available to save data in");
-        }
-
+        prepareSaveAddressBook(addressBook, filePath).write();
     }
 
     /**
@@ -234,6 +320,35 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
         XmlFileStorage.saveDataToFile(makerManagerAdminsFile, new XmlSerializableMakerManagerAdmins(addressBook));
     }
 
+    @Override
+    public WriteBehindQueue.PendingWrite prepareSaveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.getFileName().toString().equals(addressBookFilePath)) {
+            XmlSerializableAddressBook data = new XmlSerializableAddressBook(addressBook);
+            return () -> {
+                FileUtil.createIfMissing(filePath);
+                XmlFileStorage.saveDataToFile(filePath, data);
+            };
+        } else if (filePath.getFileName().toString().equals(makerManagerMachinesFilePath)) {
+            XmlSerializableMakerManagerMachines data = new XmlSerializableMakerManagerMachines(addressBook);
+            return () -> {
+                FileUtil.createIfMissing(filePath);
+                XmlFileStorage.saveDataToFile(filePath, data);
+            };
+        } else if (filePath.getFileName().toString().equals(makerManagerAdminsFilePath)) {
+            XmlSerializableMakerManagerAdmins data = new XmlSerializableMakerManagerAdmins(addressBook);
+            return () -> {
+                FileUtil.createIfMissing(filePath);
+                XmlFileStorage.saveDataToFile(filePath, data);
+            };
+        } else {
+            logger.info("No such file path available to save data in");
+            return () -> FileUtil.createIfMissing(filePath);
+        }
+    }
+
     @Override
     public UserPrefs getUserPrefs() {
         return userPrefs;
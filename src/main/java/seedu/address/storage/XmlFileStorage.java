@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 import javax.xml.bind.JAXBException;
@@ -8,11 +9,14 @@ import javax.xml.bind.JAXBException;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.storage.admin.XmlSerializableMakerManagerAdmins;
+import seedu.address.storage.machine.XmlMachinesStreamReader;
 import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
 
 /**
- * Stores addressbook data in an XML file
+ * Stores addressbook data in an XML file.
+ * Data is loaded from the most recent backup of a file if the file itself cannot be read.
  */
 public class XmlFileStorage {
 
@@ -22,12 +26,14 @@ public class XmlFileStorage {
 
     /**
      * Saves the given addressbook data to the specified file.
+     *
+     * @throws IOException if the file cannot be written, or the data cannot be converted into XML.
      */
-    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook) throws FileNotFoundException {
+    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook) throws IOException {
         try {
             XmlUtil.saveDataToFile(file, addressBook);
         } catch (JAXBException e) {
-            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+            throw new IOException("Cannot save " + file + ": " + e.getMessage(), e);
         }
     }
 
@@ -35,11 +41,11 @@ public class XmlFileStorage {
      * Saves the given admins data to the specified file.
      */
     public static void saveDataToFile(Path file, XmlSerializableMakerManagerAdmins addressBook)
-        throws FileNotFoundException {
+        throws IOException {
         try {
             XmlUtil.saveDataToFile(file, addressBook);
         } catch (JAXBException e) {
-            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+            throw new IOException("Cannot save " + file + ": " + e.getMessage(), e);
         }
     }
 
@@ -47,11 +53,11 @@ public class XmlFileStorage {
      * Saves the given machines data to the specified file.
      */
     public static void saveDataToFile(Path file, XmlSerializableMakerManagerMachines addressBook)
-        throws FileNotFoundException {
+        throws IOException {
         try {
             XmlUtil.saveDataToFile(file, addressBook);
         } catch (JAXBException e) {
-            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+            throw new IOException("Cannot save " + file + ": " + e.getMessage(), e);
         }
     }
 
@@ -63,7 +69,7 @@ public class XmlFileStorage {
     public static XmlSerializableAddressBook loadDataFromSaveFile(Path file)
         throws DataConversionException, FileNotFoundException {
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class);
+            return XmlUtil.getDataFromFileOrBackup(file, XmlSerializableAddressBook.class);
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
@@ -76,7 +82,7 @@ public class XmlFileStorage {
     public static XmlSerializableMakerManagerAdmins loadMakerManagerAdminDataFromSaveFile(Path file)
         throws DataConversionException, FileNotFoundException {
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableMakerManagerAdmins.class);
+            return XmlUtil.getDataFromFileOrBackup(file, XmlSerializableMakerManagerAdmins.class);
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
@@ -88,9 +94,20 @@ public class XmlFileStorage {
     public static XmlSerializableMakerManagerMachines loadMakerManagerMachineDataFromSaveFile(Path file)
         throws DataConversionException, FileNotFoundException {
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableMakerManagerMachines.class);
+            return XmlUtil.getDataFromFileOrBackup(file, XmlSerializableMakerManagerMachines.class);
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
     }
+
+    /**
+     * Returns an address book with only the machines in the makerManager machines file,
+     * reading the file one job at a time.
+     *
+     * @see XmlMachinesStreamReader
+     */
+    public static AddressBook loadMakerManagerMachinesFromSaveFile(Path file)
+        throws DataConversionException, FileNotFoundException {
+        return XmlMachinesStreamReader.readMachinesOrBackup(file);
+    }
 }
@@ -0,0 +1,546 @@
+package seedu.address.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobNote;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Converts the persons, machines and admins of an address book to and from a compact binary snapshot.
+ *
+ * A snapshot starts with {@link #MAGIC} and {@link #VERSION}, followed by a table of every distinct string
+ * in the address book and then the persons, machines and admins, which refer to strings by their position
+ * in the table. The owners of jobs are written once, in the same table as the persons, and referred to
+ * by position as well. All counts and positions are written as variable-length integers.
+ */
+public class BinarySnapshot {
+
+    public static final int MAGIC = 0x4D4D5342; // "MMSB"
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "Not a MakerManager snapshot";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported snapshot version %d, expected %d";
+    public static final String MESSAGE_CORRUPT_SNAPSHOT = "Snapshot is corrupt: %s";
+
+    /** The most bytes read from a stream of unknown length, far more than any print lab takes. */
+    public static final long MAX_STREAM_SIZE = 256L * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int NULL_REFERENCE = 0;
+
+    private BinarySnapshot() {} // prevents instantiation
+
+    /**
+     * Returns the snapshot of the persons, machines and admins in {@code addressBook}.
+     * Later changes to {@code addressBook} do not affect the returned snapshot.
+     */
+    public static byte[] toBytes(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(BUFFER_SIZE);
+            new Writer(addressBook).write(new DataOutputStream(bytes));
+            return bytes.toByteArray();
+        } catch (IOException ioe) {
+            throw new AssertionError("Writing to memory should not fail", ioe);
+        }
+    }
+
+    /**
+     * Returns an address book with the persons, machines and admins in the snapshot read from {@code in},
+     * which holds at most {@link #MAX_STREAM_SIZE} bytes.
+     *
+     * @throws DataConversionException if {@code in} does not hold a snapshot of this version, or the snapshot
+     *                                 is cut short or violates the data constraints.
+     */
+    public static AddressBook read(InputStream in) throws DataConversionException {
+        return read(in, MAX_STREAM_SIZE);
+    }
+
+    /**
+     * Returns an address book with the persons, machines and admins in the snapshot read from {@code in},
+     * which holds at most {@code size} bytes.
+     * No count or length in the snapshot may be more than the bytes left to read, so that a corrupt count
+     * cannot make the reader allocate more memory than the snapshot takes.
+     *
+     * @throws DataConversionException if {@code in} does not hold a snapshot of this version, or the snapshot
+     *                                 is cut short or violates the data constraints.
+     */
+    public static AddressBook read(InputStream in, long size) throws DataConversionException {
+        requireNonNull(in);
+        try {
+            return new Reader(in, size).read();
+        } catch (EOFException eofe) {
+            throw new DataConversionException(new IOException(String.format(MESSAGE_CORRUPT_SNAPSHOT,
+                    "ends early"), eofe));
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        } catch (IllegalArgumentException | NullPointerException | IndexOutOfBoundsException e) {
+            // raised by the model's constructors on invalid values, and by references outside their table
+            throw new DataConversionException(new IOException(String.format(MESSAGE_CORRUPT_SNAPSHOT, e), e));
+        }
+    }
+
+    /**
+     * Returns an address book with the persons, machines and admins in the snapshot in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file does not hold a readable snapshot.
+     */
+    public static AddressBook readFromFile(Path file) throws DataConversionException, FileNotFoundException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in, Files.size(file));
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Saves {@code snapshot} to {@code file}, keeping the replaced versions of the file as backups
+     * the same way as xml data files are kept.
+     * The file is never seen half-written, see {@link FileUtil#replaceWithBackups(Path, Path, int)}.
+     */
+    public static void saveToFile(Path file, byte[] snapshot) throws IOException {
+        requireNonNull(file);
+        requireNonNull(snapshot);
+
+        FileUtil.createParentDirsOfFile(file.toAbsolutePath());
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(),
+                ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                 OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+                out.write(snapshot);
+                out.flush();
+                channel.force(true);
+            }
+            FileUtil.replaceWithBackups(tempFile, file, XmlUtil.BACKUP_GENERATIONS);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes the snapshot of an address book, collecting its strings and job owners into tables as it goes.
+     */
+    private static class Writer {
+        private final ReadOnlyAddressBook addressBook;
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final Map<Person, Integer> people = new LinkedHashMap<>();
+        private final Map<Person, Integer> ownerPositions = new IdentityHashMap<>();
+
+        Writer(ReadOnlyAddressBook addressBook) {
+            this.addressBook = addressBook;
+        }
+
+        /**
+         * Writes the header, the string table and the address book to {@code out}.
+         * The address book is written first into memory, so that the string table it needs is known.
+         */
+        void write(DataOutputStream out) throws IOException {
+            for (Person person : addressBook.getPersonList()) {
+                people.putIfAbsent(person, people.size());
+            }
+            int personCount = people.size();
+            for (Machine machine : addressBook.getMachineList()) {
+                for (Job job : machine.getJobs()) {
+                    ownerPositions.computeIfAbsent(job.getOwner(), owner ->
+                            people.computeIfAbsent(owner, unused -> people.size()));
+                }
+            }
+
+            ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(BUFFER_SIZE);
+            DataOutputStream body = new DataOutputStream(bodyBytes);
+            writePeople(body, personCount);
+            writeMachines(body);
+            writeAdmins(body);
+            body.flush();
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writeStringTable(out);
+            bodyBytes.writeTo(out);
+            out.flush();
+        }
+
+        /**
+         * Writes every string collected so far, each as its length in bytes followed by its UTF-8 bytes.
+         */
+        private void writeStringTable(DataOutputStream out) throws IOException {
+            writeCount(out, strings.size());
+            for (String string : strings.keySet()) {
+                byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+                writeCount(out, utf8.length);
+                out.write(utf8);
+            }
+        }
+
+        /**
+         * Writes every person and job owner, followed by how many of them, from the first, are the persons.
+         */
+        private void writePeople(DataOutputStream out, int personCount) throws IOException {
+            writeCount(out, people.size());
+            for (Person person : people.keySet()) {
+                writeString(out, person.getName().fullName);
+                writeString(out, person.getPhone().value);
+                writeString(out, person.getEmail().value);
+                writeString(out, person.getAddress().value);
+                writeTags(out, person.getTags());
+            }
+            writeCount(out, personCount);
+        }
+
+        /**
+         * Writes every machine with its tags and jobs.
+         */
+        private void writeMachines(DataOutputStream out) throws IOException {
+            List<Machine> machines = addressBook.getMachineList();
+            writeCount(out, machines.size());
+            for (Machine machine : machines) {
+                writeString(out, machine.getName().fullName);
+                writeEnum(out, machine.getStatus());
+                writeTags(out, machine.getTags());
+                writeCount(out, machine.getJobs().size());
+                for (Job job : machine.getJobs()) {
+                    writeJob(out, job);
+                }
+            }
+        }
+
+        /**
+         * Writes {@code job}, referring to its owner by position in the people table.
+         */
+        private void writeJob(DataOutputStream out, Job job) throws IOException {
+            writeString(out, job.getJobName().fullName);
+            writeString(out, job.getMachineName().fullName);
+            writeCount(out, ownerPositions.get(job.getOwner()));
+            out.writeLong(job.getAddedTime().getTimeInMillis());
+            out.writeLong(job.getStartTime().getTimeInMillis());
+            writeEnum(out, job.getPriority());
+            writeEnum(out, job.getStatus());
+            out.writeLong(job.getDuration());
+            writeString(out, job.getJobNote() == null ? null : job.getJobNote().toString());
+            writeTags(out, job.getTags());
+        }
+
+        /**
+         * Writes every admin.
+         */
+        private void writeAdmins(DataOutputStream out) throws IOException {
+            List<Admin> admins = addressBook.getAdminList();
+            writeCount(out, admins.size());
+            for (Admin admin : admins) {
+                writeString(out, admin.getUsername().toString());
+                writeString(out, admin.getPassword().toString());
+            }
+        }
+
+        /**
+         * Writes the number of {@code tags} followed by each of them.
+         */
+        private void writeTags(DataOutputStream out, Set<Tag> tags) throws IOException {
+            writeCount(out, tags.size());
+            for (Tag tag : tags) {
+                writeString(out, tag.tagName);
+            }
+        }
+
+        /**
+         * Writes the position of {@code string} in the string table, adding it to the table if it is not there.
+         */
+        private void writeString(DataOutputStream out, String string) throws IOException {
+            if (string == null) {
+                writeCount(out, NULL_REFERENCE);
+                return;
+            }
+            Integer position = strings.get(string);
+            if (position == null) {
+                position = strings.size();
+                strings.put(string, position);
+            }
+            writeCount(out, position + 1);
+        }
+
+        private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+            writeCount(out, value == null ? NULL_REFERENCE : value.ordinal() + 1);
+        }
+    }
+
+    /**
+     * Reads the snapshot of an address book.
+     */
+    private static class Reader {
+        private final CountingInputStream counter;
+        private final DataInputStream in;
+        private final long size;
+        private final List<String> strings = new ArrayList<>();
+        private final List<Person> people = new ArrayList<>();
+
+        Reader(InputStream in, long size) {
+            this.counter = new CountingInputStream(in);
+            this.in = new DataInputStream(counter);
+            this.size = size;
+        }
+
+        /**
+         * Reads the header, the string table and then the address book.
+         */
+        AddressBook read() throws IOException {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(MESSAGE_NOT_A_SNAPSHOT);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version, VERSION));
+            }
+            readStringTable();
+
+            AddressBook addressBook = new AddressBook();
+            int personCount = readPeople();
+            addressBook.setPersons(people.subList(0, personCount));
+            addressBook.setMachines(readMachines());
+            addressBook.setAdmins(readAdmins());
+            return addressBook;
+        }
+
+        /**
+         * Reads the string table that the rest of the snapshot refers to.
+         */
+        private void readStringTable() throws IOException {
+            int count = readCount();
+            for (int i = 0; i < count; i++) {
+                byte[] utf8 = new byte[readCount()];
+                in.readFully(utf8);
+                strings.add(new String(utf8, StandardCharsets.UTF_8));
+            }
+        }
+
+        /**
+         * Reads every person and job owner, and returns how many of them, from the first, are the persons.
+         */
+        private int readPeople() throws IOException {
+            int count = readCount();
+            for (int i = 0; i < count; i++) {
+                people.add(new Person(new Name(readString()), new Phone(readString()), new Email(readString()),
+                        new Address(readString()), readTags()));
+            }
+            int personCount = readReference();
+            if (personCount > count) {
+                throw new IOException(String.format(MESSAGE_CORRUPT_SNAPSHOT, "more persons than people"));
+            }
+            return personCount;
+        }
+
+        /**
+         * Reads every machine with its tags and jobs.
+         */
+        private List<Machine> readMachines() throws IOException {
+            int count = readCount();
+            List<Machine> machines = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                MachineName name = new MachineName(readString());
+                MachineStatus status = readEnum(MachineStatus.values());
+                Set<Tag> tags = readTags();
+                int jobCount = readCount();
+                List<Job> jobs = new ArrayList<>();
+                for (int j = 0; j < jobCount; j++) {
+                    jobs.add(readJob());
+                }
+                machines.add(new Machine(name, jobs, tags, status));
+            }
+            return machines;
+        }
+
+        /**
+         * Reads a job, whose owner must have been read into the people table already.
+         */
+        private Job readJob() throws IOException {
+            JobName name = new JobName(readString());
+            MachineName machineName = new MachineName(readString());
+            Person owner = people.get(readReference());
+            TimeStamp addedTime = new TimeStamp(in.readLong());
+            TimeStamp startTime = new TimeStamp(in.readLong());
+            Priority priority = readEnum(Priority.values());
+            Status status = readEnum(Status.values());
+            long duration = in.readLong();
+            String note = readString();
+            return new Job(name, machineName, owner, addedTime, startTime, priority, status, duration,
+                    note == null ? null : new JobNote(note), readTags());
+        }
+
+        /**
+         * Reads every admin.
+         */
+        private List<Admin> readAdmins() throws IOException {
+            int count = readCount();
+            List<Admin> admins = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                admins.add(new Admin(new Username(readString()), new Password(readString())));
+            }
+            return admins;
+        }
+
+        /**
+         * Reads the tags written by {@link Writer#writeTags(DataOutputStream, Set)}.
+         */
+        private Set<Tag> readTags() throws IOException {
+            int count = readCount();
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                tags.add(new Tag(readString()));
+            }
+            return tags;
+        }
+
+        /**
+         * Reads a count or length, which must not be more than the bytes left to read,
+         * as every element counted takes at least one byte.
+         */
+        private int readCount() throws IOException {
+            int count = BinarySnapshot.readCount(in);
+            long remaining = size - counter.getCount();
+            if (count > remaining) {
+                throw new IOException(String.format(MESSAGE_CORRUPT_SNAPSHOT,
+                        "count " + count + " is more than the " + Math.max(remaining, 0) + " bytes left"));
+            }
+            return count;
+        }
+
+        /**
+         * Reads a position in a table, which is checked against the table instead.
+         */
+        private int readReference() throws IOException {
+            return BinarySnapshot.readCount(in);
+        }
+
+        private String readString() throws IOException {
+            int reference = readReference();
+            return reference == NULL_REFERENCE ? null : strings.get(reference - 1);
+        }
+
+        private <E extends Enum<E>> E readEnum(E[] values) throws IOException {
+            int reference = readReference();
+            return reference == NULL_REFERENCE ? null : values[reference - 1];
+        }
+    }
+
+    /**
+     * Counts the bytes read through it.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+    /**
+     * Writes {@code count}, which must not be negative, in as few bytes as it needs, 7 bits at a time.
+     */
+    private static void writeCount(DataOutputStream out, int count) throws IOException {
+        int remaining = count;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Reads a count written by {@link #writeCount(DataOutputStream, int)}.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            count |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (count < 0) {
+                    break;
+                }
+                return count;
+            }
+        }
+        throw new IOException(String.format(MESSAGE_CORRUPT_SNAPSHOT, "invalid count"));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.storage.csv;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons, machines and jobs of a print lab as kept in a CSV file, one record per line.
+ * The first field of a record names what it is a record of, and is followed by the fields below:
+ * <pre>
+ *     person,NAME,PHONE,EMAIL,ADDRESS,TAGS
+ *     machine,NAME,STATUS,TAGS
+ *     job,NAME,MACHINE,OWNER,PRIORITY,DURATION,NOTE,STATUS,ADDED_TIME,START_TIME,TAGS
+ * </pre>
+ * Tags are separated by spaces. Durations are in milliseconds, and times in milliseconds since the epoch.
+ * Jobs refer to their machine and their owner by name. The owner of a job is the person of that name in the file,
+ * or a person known by name only if the file holds no such person. Blank lines are skipped.
+ * The machines read from a file hold no jobs, as their jobs are kept as records of their own.
+ */
+public class CsvLabData {
+
+    public static final String PERSON_RECORD = "person";
+    public static final String MACHINE_RECORD = "machine";
+    public static final String JOB_RECORD = "job";
+
+    static final int PERSON_FIELD_COUNT = 6;
+    static final int MACHINE_FIELD_COUNT = 4;
+    static final int JOB_FIELD_COUNT = 11;
+    static final String TAG_SEPARATOR = " ";
+
+    private final List<Person> persons;
+    private final List<Machine> machines;
+    private final List<Job> jobs;
+
+    public CsvLabData(List<Person> persons, List<Machine> machines, List<Job> jobs) {
+        requireAllNonNull(persons, machines, jobs);
+        this.persons = new ArrayList<>(persons);
+        this.machines = new ArrayList<>(machines);
+        this.jobs = new ArrayList<>(jobs);
+    }
+
+    public List<Person> getPersons() {
+        return Collections.unmodifiableList(persons);
+    }
+
+    public List<Machine> getMachines() {
+        return Collections.unmodifiableList(machines);
+    }
+
+    public List<Job> getJobs() {
+        return Collections.unmodifiableList(jobs);
+    }
+}
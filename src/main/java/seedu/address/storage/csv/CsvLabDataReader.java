@@ -0,0 +1,416 @@
+package seedu.address.storage.csv;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.csv.CsvLabData.JOB_FIELD_COUNT;
+import static seedu.address.storage.csv.CsvLabData.JOB_RECORD;
+import static seedu.address.storage.csv.CsvLabData.MACHINE_FIELD_COUNT;
+import static seedu.address.storage.csv.CsvLabData.MACHINE_RECORD;
+import static seedu.address.storage.csv.CsvLabData.PERSON_FIELD_COUNT;
+import static seedu.address.storage.csv.CsvLabData.PERSON_RECORD;
+import static seedu.address.storage.csv.CsvLabData.TAG_SEPARATOR;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobNote;
+import seedu.address.model.job.JobOwner;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads the persons, machines and jobs in a CSV file in the layout of {@link CsvLabData}.
+ * The file is read in batches of lines, which are validated and converted into the model's objects on several
+ * threads while the following lines are read. At most a few batches wait to be converted at any time, so the
+ * lines read take no more memory however large the file is.
+ * Every error in the file is found, and reported with the line that it was found at.
+ */
+public class CsvLabDataReader {
+
+    public static final String MESSAGE_ERROR_AT_LINE = "Line %d: %s";
+    public static final String MESSAGE_UNKNOWN_RECORD = "Unknown record \"%s\", expected person, machine or job";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "A %s record has %d fields, but %d were found";
+    public static final String MESSAGE_INVALID_NUMBER = "%s should be a number that is not negative";
+    public static final String MESSAGE_DUPLICATE = "%s %s is also on line %d";
+    public static final String MESSAGE_MORE_ERRORS = "... and %d more";
+    public static final int ERRORS_SHOWN = 10;
+
+    static final int BATCH_SIZE = 1000;
+    private static final int BATCHES_WAITING_PER_THREAD = 2;
+
+    private final int threadCount;
+
+    /**
+     * Creates a reader that converts lines on as many threads as there are processors.
+     */
+    public CsvLabDataReader() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public CsvLabDataReader(int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("A reader needs at least one thread");
+        }
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Returns the persons, machines and jobs in {@code file}.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws DataConversionException if any record in the file is not in the correct format, violates
+     *                                 the data constraints or repeats another. The message of its cause lists
+     *                                 the first errors with their lines.
+     */
+    public CsvLabData read(Path file) throws IOException, DataConversionException {
+        requireNonNull(file);
+
+        // Once every thread is busy and the queue is full, the reading thread converts the next batch itself,
+        // which keeps it from reading further ahead
+        ThreadPoolExecutor converters = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threadCount * BATCHES_WAITING_PER_THREAD),
+                CsvLabDataReader::newConverterThread, new ThreadPoolExecutor.CallerRunsPolicy());
+        List<Future<Batch>> batches = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+            Batch batch = new Batch(1);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                batch.lines.add(line);
+                if (batch.lines.size() == BATCH_SIZE) {
+                    batches.add(converters.submit(batch::convert));
+                    batch = new Batch(batch.firstLine + BATCH_SIZE);
+                }
+            }
+            batches.add(converters.submit(batch::convert));
+        } finally {
+            converters.shutdown();
+        }
+        return combine(batches);
+    }
+
+    /**
+     * Returns a daemon thread that runs {@code runnable}, so that an unfinished read never keeps the app running.
+     */
+    private static Thread newConverterThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "csv-reader");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Returns the records of all {@code batches}, in the order they were read, once they have been converted.
+     */
+    private static CsvLabData combine(List<Future<Batch>> batches) throws DataConversionException {
+        List<Record<Person>> persons = new ArrayList<>();
+        List<Record<Machine>> machines = new ArrayList<>();
+        List<Record<Job>> jobs = new ArrayList<>();
+        List<Record<String>> errors = new ArrayList<>();
+        for (Future<Batch> future : batches) {
+            Batch batch = getConverted(future);
+            persons.addAll(batch.persons);
+            machines.addAll(batch.machines);
+            jobs.addAll(batch.jobs);
+            errors.addAll(batch.errors);
+        }
+
+        findDuplicatePersons(persons, errors);
+        findDuplicates(machines, Machine::getName, "Machine", errors);
+        findDuplicates(jobs, Job::getJobName, "Job", errors);
+        if (!errors.isEmpty()) {
+            throw new DataConversionException(new IllegalValueException(describe(errors)));
+        }
+        List<Person> personList = valuesOf(persons);
+        return new CsvLabData(personList, valuesOf(machines), withOwnersFrom(personList, valuesOf(jobs)));
+    }
+
+    /**
+     * Returns {@code jobs}, with the owner of each job replaced by the first of {@code persons} with its name,
+     * if there is one. Jobs only keep the name of their owner in the file, and are read before it is known
+     * whether the file holds the details of their owner.
+     */
+    private static List<Job> withOwnersFrom(List<Person> persons, List<Job> jobs) {
+        Map<Name, Person> personsByName = new HashMap<>();
+        persons.forEach(person -> personsByName.putIfAbsent(person.getName(), person));
+        return jobs.stream().map(job -> {
+            Person owner = personsByName.get(job.getOwner().getName());
+            return owner == null ? job : new Job(job.getJobName(), job.getMachineName(), owner, job.getAddedTime(),
+                    job.getStartTime(), job.getPriority(), job.getStatus(), job.getDuration(), job.getJobNote(),
+                    job.getTags());
+        }).collect(Collectors.toList());
+    }
+
+    private static Batch getConverted(Future<Batch> batch) {
+        try {
+            return batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while converting records", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unexpected error while converting records", e.getCause());
+        }
+    }
+
+    /**
+     * Adds an error to {@code errors} for every person in {@code persons} that is the same person as one before it.
+     */
+    private static void findDuplicatePersons(List<Record<Person>> persons, List<Record<String>> errors) {
+        Map<Name, List<Record<Person>>> personsByName = new HashMap<>();
+        for (Record<Person> person : persons) {
+            List<Record<Person>> sameName = personsByName.computeIfAbsent(person.value.getName(),
+                unused -> new ArrayList<>(1));
+            sameName.stream().filter(other -> other.value.isSamePerson(person.value)).findFirst()
+                    .ifPresent(other -> errors.add(duplicateOf(person, "Person", person.value.getName(), other)));
+            sameName.add(person);
+        }
+    }
+
+    /**
+     * Adds an error to {@code errors} for every record in {@code records} with the same key as one before it.
+     */
+    private static <T, K> void findDuplicates(List<Record<T>> records, Function<T, K> key, String kind,
+                                              List<Record<String>> errors) {
+        Map<K, Record<T>> firstWithKey = new HashMap<>();
+        for (Record<T> record : records) {
+            Record<T> first = firstWithKey.putIfAbsent(key.apply(record.value), record);
+            if (first != null) {
+                errors.add(duplicateOf(record, kind, key.apply(record.value), first));
+            }
+        }
+    }
+
+    private static Record<String> duplicateOf(Record<?> record, String kind, Object key, Record<?> first) {
+        return new Record<>(record.line, String.format(MESSAGE_DUPLICATE, kind, key, first.line));
+    }
+
+    /**
+     * Returns the first errors in {@code errors}, ordered by line, one per line.
+     */
+    private static String describe(List<Record<String>> errors) {
+        errors.sort(Comparator.comparingInt(error -> error.line));
+        String description = errors.stream().limit(ERRORS_SHOWN)
+                .map(error -> String.format(MESSAGE_ERROR_AT_LINE, error.line, error.value))
+                .collect(Collectors.joining("\n"));
+        if (errors.size() > ERRORS_SHOWN) {
+            description += "\n" + String.format(MESSAGE_MORE_ERRORS, errors.size() - ERRORS_SHOWN);
+        }
+        return description;
+    }
+
+    private static <T> List<T> valuesOf(List<Record<T>> records) {
+        return records.stream().map(record -> record.value).collect(Collectors.toList());
+    }
+
+    //============================= record conversion =======================================//
+
+    /**
+     * Adds the record made of {@code fields}, which was read at {@code line}, to {@code batch}.
+     */
+    private static void convert(List<String> fields, int line, Batch batch) throws IllegalValueException {
+        String kind = fields.get(0).trim();
+        switch (kind) {
+        case PERSON_RECORD:
+            batch.persons.add(new Record<>(line, toPerson(fields)));
+            break;
+        case MACHINE_RECORD:
+            batch.machines.add(new Record<>(line, toMachine(fields)));
+            break;
+        case JOB_RECORD:
+            batch.jobs.add(new Record<>(line, toJob(fields)));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_RECORD, kind));
+        }
+    }
+
+    /**
+     * Returns the person in the fields of a person record.
+     */
+    private static Person toPerson(List<String> fields) throws IllegalValueException {
+        requireFieldCount(fields, PERSON_FIELD_COUNT);
+        return new Person(new Name(valid(fields.get(1), Name::isValidName, Name.MESSAGE_NAME_CONSTRAINTS)),
+                new Phone(valid(fields.get(2), Phone::isValidPhone, Phone.MESSAGE_PHONE_CONSTRAINTS)),
+                new Email(valid(fields.get(3), Email::isValidEmail, Email.MESSAGE_EMAIL_CONSTRAINTS)),
+                new Address(valid(fields.get(4), Address::isValidAddress, Address.MESSAGE_ADDRESS_CONSTRAINTS)),
+                toTags(fields.get(5)));
+    }
+
+    /**
+     * Returns the machine in the fields of a machine record, which holds no jobs.
+     */
+    private static Machine toMachine(List<String> fields) throws IllegalValueException {
+        requireFieldCount(fields, MACHINE_FIELD_COUNT);
+        MachineName name = toMachineName(fields.get(1));
+        MachineStatus status = toEnum(MachineStatus.class, fields.get(2), Machine.MESSAGE_WRONG_STATUS);
+        return new Machine(name, new ArrayList<>(), toTags(fields.get(3)), status);
+    }
+
+    /**
+     * Returns the job in the fields of a job record, owned by a person known by name only.
+     */
+    private static Job toJob(List<String> fields) throws IllegalValueException {
+        requireFieldCount(fields, JOB_FIELD_COUNT);
+        JobName name = new JobName(valid(fields.get(1), JobName::isValidJobName,
+                JobName.MESSAGE_JOBNAME_CONSTRAINTS));
+        MachineName machineName = toMachineName(fields.get(2));
+        JobOwner owner = new JobOwner(new Name(valid(fields.get(3), Name::isValidName,
+                Name.MESSAGE_NAME_CONSTRAINTS)));
+        Priority priority = toEnum(Priority.class, fields.get(4), Job.MEEEAGE_PRIORITY_CONSTRAINTS);
+        long duration = toNumber(fields.get(5), "Duration");
+        JobNote note = new JobNote(valid(fields.get(6), JobNote::isValidJobNote, JobNote.MESSAGE_NOTE_CONSTRAINTS));
+        Status status = toEnum(Status.class, fields.get(7), Status.MESSAGE_STATUS_CONSTRAINTS);
+        TimeStamp addedTime = new TimeStamp(toNumber(fields.get(8), "Added time"));
+        TimeStamp startTime = new TimeStamp(toNumber(fields.get(9), "Start time"));
+        return new Job(name, machineName, owner, addedTime, startTime, priority, status, duration, note,
+                toTags(fields.get(10)));
+    }
+
+    private static MachineName toMachineName(String name) throws IllegalValueException {
+        return new MachineName(valid(name, MachineName::isValidName, MachineName.MESSAGE_NAME_CONSTRAINTS));
+    }
+
+    /**
+     * Returns the tags in {@code field}, which are separated by spaces.
+     */
+    private static Set<Tag> toTags(String field) throws IllegalValueException {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : field.trim().split(TAG_SEPARATOR + "+")) {
+            if (!tagName.isEmpty()) {
+                tags.add(new Tag(valid(tagName, Tag::isValidTagName, Tag.MESSAGE_TAG_CONSTRAINTS)));
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the constant of {@code type} named {@code name}.
+     *
+     * @throws IllegalValueException with {@code constraints} if there is no such constant.
+     */
+    private static <E extends Enum<E>> E toEnum(Class<E> type, String name, String constraints)
+            throws IllegalValueException {
+        try {
+            return Enum.valueOf(type, name.trim());
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(constraints);
+        }
+    }
+
+    /**
+     * Returns the non-negative number in {@code number}.
+     */
+    private static long toNumber(String number, String fieldName) throws IllegalValueException {
+        try {
+            long value = Long.parseLong(number.trim());
+            if (value >= 0) {
+                return value;
+            }
+        } catch (NumberFormatException nfe) {
+            // reported below
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_NUMBER, fieldName));
+    }
+
+    /**
+     * Returns {@code value} if it is valid.
+     *
+     * @throws IllegalValueException with {@code constraints} if it is not.
+     */
+    private static String valid(String value, Predicate<String> isValid, String constraints)
+            throws IllegalValueException {
+        if (!isValid.test(value)) {
+            throw new IllegalValueException(constraints);
+        }
+        return value;
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} unless the record has exactly {@code count} fields.
+     */
+    private static void requireFieldCount(List<String> fields, int count) throws IllegalValueException {
+        if (fields.size() != count) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_FIELD_COUNT, fields.get(0).trim(), count,
+                    fields.size()));
+        }
+    }
+
+    /**
+     * A value read from a file, with the line it was read from.
+     */
+    private static class Record<T> {
+        private final int line;
+        private final T value;
+
+        Record(int line, T value) {
+            this.line = line;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Consecutive lines of a file, and the records and errors found in them once converted.
+     */
+    private static class Batch {
+        private final int firstLine;
+        private List<String> lines = new ArrayList<>(BATCH_SIZE);
+        private final List<Record<Person>> persons = new ArrayList<>();
+        private final List<Record<Machine>> machines = new ArrayList<>();
+        private final List<Record<Job>> jobs = new ArrayList<>();
+        private final List<Record<String>> errors = new ArrayList<>();
+
+        Batch(int firstLine) {
+            this.firstLine = firstLine;
+        }
+
+        /**
+         * Converts every line that is not blank into a record, or notes the error found in it.
+         * The lines are let go of once converted.
+         */
+        Batch convert() {
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    CsvLabDataReader.convert(CsvUtil.parseLine(line), firstLine + i, this);
+                } catch (IllegalValueException | IllegalArgumentException e) {
+                    errors.add(new Record<>(firstLine + i, e.getMessage()));
+                }
+            }
+            lines = null;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage.csv;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.storage.csv.CsvLabData.JOB_RECORD;
+import static seedu.address.storage.csv.CsvLabData.MACHINE_RECORD;
+import static seedu.address.storage.csv.CsvLabData.PERSON_RECORD;
+import static seedu.address.storage.csv.CsvLabData.TAG_SEPARATOR;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes the persons, machines and jobs of an address book to a CSV file in the layout of {@link CsvLabData}.
+ * Each record is written as soon as it has been converted, so writing takes no more memory however large
+ * the address book is.
+ */
+public class CsvLabDataWriter {
+
+    private CsvLabDataWriter() {} // prevents instantiation
+
+    /**
+     * Writes the persons, machines and jobs of {@code data} to {@code file}, replacing what it held before.
+     * Returns the number of records written.
+     */
+    public static int write(ReadOnlyAddressBook data, Path file) throws IOException {
+        requireAllNonNull(data, file);
+        FileUtil.createIfMissing(file);
+
+        int recordCount = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+            for (Person person : data.getPersonList()) {
+                writeRecord(writer, PERSON_RECORD, person.getName().fullName, person.getPhone().value,
+                        person.getEmail().value, person.getAddress().value, toField(person.getTags()));
+                recordCount++;
+            }
+            for (Machine machine : data.getMachineList()) {
+                writeRecord(writer, MACHINE_RECORD, machine.getName().fullName, machine.getStatus().name(),
+                        toField(machine.getTags()));
+                recordCount++;
+            }
+            for (Machine machine : data.getMachineList()) {
+                for (Job job : machine.getJobs()) {
+                    writeRecord(writer, JOB_RECORD, job.getJobName().fullName, job.getMachineName().fullName,
+                            job.getOwner().getName().fullName, job.getPriority().name(),
+                            Long.toString(job.getDuration()), job.getJobNote().toString(), job.getStatus().name(),
+                            Long.toString(job.getAddedTime().getTimeInMillis()),
+                            Long.toString(job.getStartTime().getTimeInMillis()), toField(job.getTags()));
+                    recordCount++;
+                }
+            }
+        }
+        return recordCount;
+    }
+
+    private static void writeRecord(BufferedWriter writer, String... fields) throws IOException {
+        writer.write(CsvUtil.toLine(Arrays.asList(fields)));
+        writer.newLine();
+    }
+
+    private static String toField(Set<Tag> tags) {
+        return tags.stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(TAG_SEPARATOR));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage.job;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -30,6 +31,7 @@ import seedu.address.storage.XmlAdaptedTag;
 public class XmlAdaptedJob {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Job's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_OWNER = "Job's owner %d is not one of the saved owners!";
 
     private static final Logger logger = LogsCenter.getLogger(XmlAdaptedJob.class);
 
@@ -37,8 +39,10 @@ public class XmlAdaptedJob {
     private String name;
     @XmlElement(required = true)
     private String machine;
-    @XmlElement(required = true)
+    @XmlElement
     private XmlAdaptedPerson owner;
+    @XmlElement
+    private Integer ownerId;
     @XmlElement(required = true)
     private XmlAdaptedTimeStamp addedTime;
     @XmlElement
@@ -89,9 +93,25 @@ public class XmlAdaptedJob {
      * @param source future changes to this will not affect the created XmlAdaptedJob
      */
     public XmlAdaptedJob(Job source) {
+        this(source, new XmlAdaptedPerson(source.getOwner()), null);
+    }
+
+    /**
+     * Converts a given Job into this class for JAXB use, referring to its owner by {@code ownerId}
+     * instead of keeping a copy of the owner, which is saved once with the other owners.
+     *
+     * @param source future changes to this will not affect the created XmlAdaptedJob
+     * @param ownerId the position of the owner of {@code source} in the saved owners
+     */
+    public XmlAdaptedJob(Job source, int ownerId) {
+        this(source, null, ownerId);
+    }
+
+    private XmlAdaptedJob(Job source, XmlAdaptedPerson owner, Integer ownerId) {
         name = source.getJobName().fullName;
         machine = source.getMachineName().toString();
-        owner = new XmlAdaptedPerson(source.getOwner());
+        this.owner = owner;
+        this.ownerId = ownerId;
         addedTime = new XmlAdaptedTimeStamp(source.getAddedTime());
         startTime = new XmlAdaptedTimeStamp(source.getStartTime());
         priority = source.getPriority();
@@ -105,10 +125,21 @@ public class XmlAdaptedJob {
 
     /**
      * Converts this jaxb-friendly adapted job object into the model's Job object.
+     * The owner must be kept in this adapted job, see {@link #toModelType(List)} otherwise.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted job
      */
     public Job toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyList());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted job object into the model's Job object,
+     * finding its owner in {@code owners} if it refers to its owner by position.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted job
+     */
+    public Job toModelType(List<Person> owners) throws IllegalValueException {
         //TODO handle exceptions properly here
 
         if (name == null) {
@@ -124,11 +155,17 @@ public class XmlAdaptedJob {
 
         MachineName modelJobMachine = new MachineName(machine);
 
-        if (owner == null) {
+        Person modelJobOwner;
+        if (ownerId != null) {
+            if (ownerId < 0 || ownerId >= owners.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OWNER, ownerId));
+            }
+            modelJobOwner = owners.get(ownerId);
+        } else if (owner != null) {
+            modelJobOwner = owner.toModelType();
+        } else {
             throw new NullPointerException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Person.class.getSimpleName()));
         }
-
-        Person modelJobOwner = owner.toModelType();
         TimeStamp modelAddedTime = addedTime.toModelType();
 
         if (priority == null) {
@@ -1,10 +1,12 @@
 package seedu.address.storage.machine;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -14,6 +16,7 @@ import seedu.address.model.job.Job;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.machine.MachineName;
 import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.storage.XmlAdaptedTag;
 import seedu.address.storage.job.XmlAdaptedJob;
@@ -61,11 +64,27 @@ public class XmlAdaptedMachine {
      * @param source future changes to this will not affect the created XmlAdaptedMachine(??)
      */
     public XmlAdaptedMachine(Machine source) {
+        this(source, source.getJobs().stream()
+                .map(XmlAdaptedJob::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts a given Machine into this class for JAXB use, with its jobs referring to their owners
+     * by the positions given by {@code ownerIds}.
+     *
+     * @param source future changes to this will not affect the created XmlAdaptedMachine
+     */
+    public XmlAdaptedMachine(Machine source, ToIntFunction<Job> ownerIds) {
+        this(source, source.getJobs().stream()
+                .map(job -> new XmlAdaptedJob(job, ownerIds.applyAsInt(job)))
+                .collect(Collectors.toList()));
+    }
+
+    private XmlAdaptedMachine(Machine source, List<XmlAdaptedJob> jobs) {
         machineName = source.getName().fullName;
         status = source.getStatus();
-        jobs = source.getJobs().stream()
-                .map(XmlAdaptedJob::new)
-                .collect(Collectors.toList());
+        this.jobs = jobs;
         tags = source.getTags().stream()
                 .map(XmlAdaptedTag::new)
                 .collect(Collectors.toSet());
@@ -77,6 +96,37 @@ public class XmlAdaptedMachine {
      * @throws IllegalValueException if there were any data constraints violated in the adapted machine
      */
     public Machine toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyList());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted machine object into the model's Machine object,
+     * finding the owners of its jobs in {@code owners} if they refer to their owners by position.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted machine
+     */
+    public Machine toModelType(List<Person> owners) throws IllegalValueException {
+        final List<Job> finalJobs = new ArrayList<>();
+        for (XmlAdaptedJob job : jobs) {
+            finalJobs.add(job.toModelType(owners));
+        }
+
+        final List<Tag> modelTags = new ArrayList<>();
+        for (XmlAdaptedTag tag : tags) {
+            modelTags.add(tag.toModelType());
+        }
+
+        final Set<Tag> finalTags = new HashSet<>(modelTags);
+        return toModelType(machineName, status, finalJobs, finalTags);
+    }
+
+    /**
+     * Returns the model's Machine object with the given details, which have been read from storage.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the given details
+     */
+    static Machine toModelType(String machineName, MachineStatus status, List<Job> jobs, Set<Tag> tags)
+            throws IllegalValueException {
         if (machineName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Machine.class.getSimpleName()));
         }
@@ -92,18 +142,7 @@ public class XmlAdaptedMachine {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "STATUS"));
         }
 
-        final List<Job> finalJobs = new ArrayList<>();
-        for (XmlAdaptedJob job : jobs) {
-            finalJobs.add(job.toModelType());
-        }
-
-        final List<Tag> modelTags = new ArrayList<>();
-        for (XmlAdaptedTag tag : tags) {
-            modelTags.add(tag.toModelType());
-        }
-
-        final Set<Tag> finalTags = new HashSet<>(modelTags);
-        return new Machine(name, finalJobs, finalTags, status);
+        return new Machine(name, jobs, tags, status);
     }
 
     @Override
@@ -0,0 +1,310 @@
+package seedu.address.storage.machine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.XmlAdaptedPerson;
+import seedu.address.storage.XmlAdaptedTag;
+import seedu.address.storage.job.XmlAdaptedJob;
+
+/**
+ * Reads a machines file saved from {@link XmlSerializableMakerManagerMachines} one job at a time.
+ * Unlike reading the whole file into a {@code XmlSerializableMakerManagerMachines}, each job is converted
+ * into the model's {@code Job} as soon as it has been read, so that only the model is kept in memory.
+ * Errors are reported with the line of the file that they were found at.
+ */
+public class XmlMachinesStreamReader {
+
+    public static final String MESSAGE_ERROR_AT_LINE = "Line %d: %s";
+
+    private static final String ROOT_ELEMENT = "MakerManagerMachines";
+    private static final String OWNER_ELEMENT = "owners";
+    private static final String MACHINE_ELEMENT = "machines";
+    private static final String MACHINE_NAME_ELEMENT = "machineName";
+    private static final String STATUS_ELEMENT = "status";
+    private static final String JOB_ELEMENT = "jobs";
+    private static final String TAG_ELEMENT = "tags";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    private XmlMachinesStreamReader() {} // prevents instantiation
+
+    /**
+     * Returns an address book with the machines in {@code file}, and only those.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format, or any machine or job in it
+     *                                 violates the data constraints. The message gives the line of the error.
+     */
+    public static AddressBook readMachines(Path file) throws DataConversionException, FileNotFoundException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        XMLStreamReader reader = null;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE)) {
+            reader = inputFactory.createXMLStreamReader(in);
+            AddressBook addressBook = new AddressBook();
+            addressBook.setMachines(readRoot(reader));
+            return addressBook;
+        } catch (XMLStreamException xse) {
+            int line = xse.getLocation() == null ? -1 : xse.getLocation().getLineNumber();
+            throw new DataConversionException(atLine(line, xse.getMessage(), xse));
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        } finally {
+            close(reader);
+        }
+    }
+
+    /**
+     * Returns an address book with the machines in {@code file}, and only those.
+     * If the file is missing or cannot be read, returns the machines in the most recent backup of the file
+     * that can be read instead.
+     *
+     * @throws FileNotFoundException if the file and all its backups are missing.
+     * @throws DataConversionException if the file cannot be read, and no backup of the file can be read either.
+     * @see #readMachines(Path)
+     */
+    public static AddressBook readMachinesOrBackup(Path file) throws DataConversionException, FileNotFoundException {
+        try {
+            return readMachines(file);
+        } catch (FileNotFoundException | DataConversionException e) {
+            for (int generation = 1; generation <= XmlUtil.BACKUP_GENERATIONS; generation++) {
+                Path backup = FileUtil.getBackupFile(file, generation);
+                if (!FileUtil.isFileExists(backup)) {
+                    continue;
+                }
+                try {
+                    return readMachines(backup);
+                } catch (DataConversionException backupException) {
+                    // try the next older backup
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the machines in the root element, which {@code reader} is before.
+     */
+    private static List<Machine> readRoot(XMLStreamReader reader) throws XMLStreamException,
+            IllegalValueException {
+        reader.nextTag();
+        if (!reader.isStartElement() || !reader.getLocalName().equals(ROOT_ELEMENT)) {
+            throw atLine(reader, "Expected <" + ROOT_ELEMENT + "> but found " + describe(reader));
+        }
+
+        List<Person> owners = new ArrayList<>();
+        List<Machine> machines = new ArrayList<>();
+        Set<String> machineNames = new HashSet<>();
+        reader.nextTag();
+        while (reader.isStartElement()) {
+            int line = reader.getLocation().getLineNumber();
+            switch (reader.getLocalName()) {
+            case OWNER_ELEMENT:
+                // owners are saved before the machines whose jobs refer to them
+                owners.add(toModelType(readElement(reader, XmlAdaptedPerson.class, line), line));
+                break;
+            case MACHINE_ELEMENT:
+                Machine machine = readMachine(reader, owners);
+                if (!machineNames.add(machine.getName().fullName)) {
+                    throw atLine(line, XmlSerializableMakerManagerMachines.MESSAGE_DUPLICATE_MACHINE, null);
+                }
+                machines.add(machine);
+                reader.next();
+                break;
+            default:
+                skipElement(reader);
+                reader.next();
+            }
+            moveToNextTag(reader);
+        }
+        return machines;
+    }
+
+    /**
+     * Reads the machine element that {@code reader} is at the start of, converting each of its jobs as it is read.
+     * Jobs that refer to their owner by position find it in {@code owners}.
+     * Leaves {@code reader} at the end of the machine element.
+     */
+    private static Machine readMachine(XMLStreamReader reader, List<Person> owners) throws XMLStreamException,
+            IllegalValueException {
+        int machineLine = reader.getLocation().getLineNumber();
+        String machineName = null;
+        MachineStatus status = null;
+        List<Job> jobs = new ArrayList<>();
+        Set<Tag> tags = new HashSet<>();
+
+        reader.nextTag();
+        while (reader.isStartElement()) {
+            int line = reader.getLocation().getLineNumber();
+            switch (reader.getLocalName()) {
+            case MACHINE_NAME_ELEMENT:
+                machineName = reader.getElementText().trim();
+                reader.next();
+                break;
+            case STATUS_ELEMENT:
+                status = readMachineStatus(reader.getElementText().trim(), line);
+                reader.next();
+                break;
+            case JOB_ELEMENT:
+                jobs.add(toModelType(readElement(reader, XmlAdaptedJob.class, line), owners, line));
+                break;
+            case TAG_ELEMENT:
+                tags.add(readElement(reader, XmlAdaptedTag.class, line).toModelType());
+                break;
+            default:
+                skipElement(reader);
+                reader.next();
+            }
+            moveToNextTag(reader);
+        }
+
+        try {
+            return XmlAdaptedMachine.toModelType(machineName, status, jobs, tags);
+        } catch (IllegalValueException ive) {
+            throw atLine(machineLine, ive.getMessage(), ive);
+        }
+    }
+
+    /**
+     * Returns the machine status named {@code status}, which was read at {@code line}.
+     */
+    private static MachineStatus readMachineStatus(String status, int line) throws IllegalValueException {
+        try {
+            return MachineStatus.valueOf(status);
+        } catch (IllegalArgumentException iae) {
+            throw atLine(line, Machine.MESSAGE_WRONG_STATUS, iae);
+        }
+    }
+
+    /**
+     * Returns the element that {@code reader} is at the start of as an object of the specified type,
+     * leaving {@code reader} just after the end of the element.
+     */
+    private static <T> T readElement(XMLStreamReader reader, Class<T> classToConvert, int line)
+            throws IllegalValueException {
+        try {
+            return XmlUtil.getDataFromElement(reader, classToConvert);
+        } catch (JAXBException e) {
+            throw atLine(line, "Cannot read " + classToConvert.getSimpleName() + ": " + e, e);
+        }
+    }
+
+    /**
+     * Returns the model's Job object of {@code job}, which starts at {@code line}.
+     */
+    private static Job toModelType(XmlAdaptedJob job, List<Person> owners, int line) throws IllegalValueException {
+        try {
+            return job.toModelType(owners);
+        } catch (IllegalValueException | NullPointerException | IllegalArgumentException e) {
+            // XmlAdaptedJob reports missing fields as NullPointerException
+            throw atLine(line, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the model's Person object of {@code owner}, which starts at {@code line}.
+     */
+    private static Person toModelType(XmlAdaptedPerson owner, int line) throws IllegalValueException {
+        try {
+            return owner.toModelType();
+        } catch (IllegalValueException | IllegalArgumentException e) {
+            throw atLine(line, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Moves {@code reader} past the element that it is at the start of, to the end of the element.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamReader.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamReader.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Moves {@code reader} to the next start or end of an element, unless it is already at one.
+     */
+    private static void moveToNextTag(XMLStreamReader reader) throws XMLStreamException {
+        while (!reader.isStartElement() && !reader.isEndElement()) {
+            if (reader.isCharacters() && !reader.isWhiteSpace()) {
+                throw new XMLStreamException("Unexpected text \"" + reader.getText().trim() + "\"",
+                        reader.getLocation());
+            }
+            reader.next();
+        }
+    }
+
+    private static String describe(XMLStreamReader reader) {
+        return reader.isStartElement() ? "<" + reader.getLocalName() + ">" : "the end of the file";
+    }
+
+    private static IllegalValueException atLine(XMLStreamReader reader, String message) {
+        return atLine(reader.getLocation().getLineNumber(), message, null);
+    }
+
+    private static IllegalValueException atLine(int line, String message, Throwable cause) {
+        return new IllegalValueException(String.format(MESSAGE_ERROR_AT_LINE, line, message), cause);
+    }
+
+    /**
+     * Closes {@code reader} if it is not null, ignoring any error, as the file has been read already.
+     */
+    private static void close(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException xse) {
+            // nothing more is read from the file
+        }
+    }
+
+    /**
+     * Returns a factory for readers that do not load DTDs or external entities named in the files they read.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -1,15 +1,21 @@
 package seedu.address.storage.machine;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.ToIntFunction;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.job.Job;
 import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
+import seedu.address.storage.XmlAdaptedPerson;
 
 
 /**
@@ -21,6 +27,8 @@ public class XmlSerializableMakerManagerMachines {
 
     public static final String MESSAGE_DUPLICATE_MACHINE = "Machines list contains duplicate machine(s)";
 
+    @XmlElement
+    private List<XmlAdaptedPerson> owners;
     @XmlElement
     private List<XmlAdaptedMachine> machines;
 
@@ -29,14 +37,26 @@ public class XmlSerializableMakerManagerMachines {
      * This empty constructor is required for marshalling
      */
     public XmlSerializableMakerManagerMachines() {
+        owners = new ArrayList<>();
         machines = new ArrayList<>();
     }
     /**
-     * Conversion
+     * Conversion. Every owner of a job is saved once, before the machines, and jobs refer to their owners
+     * by position.
      */
     public XmlSerializableMakerManagerMachines(ReadOnlyAddressBook src) {
         this();
-        machines.addAll(src.getMachineList().stream().map(XmlAdaptedMachine::new).collect(Collectors.toList()));
+        // jobs with equal owners usually share the interned owner, so owners are looked up by identity first
+        Map<Person, Integer> ownerIds = new IdentityHashMap<>();
+        Map<Person, Integer> ownerIdsByValue = new HashMap<>();
+        ToIntFunction<Job> toOwnerId = job -> ownerIds.computeIfAbsent(job.getOwner(), owner ->
+                ownerIdsByValue.computeIfAbsent(owner, unused -> {
+                    owners.add(new XmlAdaptedPerson(owner));
+                    return owners.size() - 1;
+                }));
+        for (Machine machine : src.getMachineList()) {
+            machines.add(new XmlAdaptedMachine(machine, toOwnerId));
+        }
     }
 
     /**
@@ -47,9 +67,14 @@ public class XmlSerializableMakerManagerMachines {
      * {@code XmlAdaptedMachine}.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        List<Person> modelOwners = new ArrayList<>();
+        for (XmlAdaptedPerson owner : owners) {
+            modelOwners.add(owner.toModelType());
+        }
+
         AddressBook addressBook = new AddressBook();
         for (XmlAdaptedMachine m : machines) {
-            Machine machine = m.toModelType();
+            Machine machine = m.toModelType(modelOwners);
             if (addressBook.hasMachine(machine)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_MACHINE);
             }
@@ -68,6 +93,7 @@ public class XmlSerializableMakerManagerMachines {
             return false;
         }
 
-        return machines.equals(((XmlSerializableMakerManagerMachines) other).machines);
+        XmlSerializableMakerManagerMachines otherMachines = (XmlSerializableMakerManagerMachines) other;
+        return owners.equals(otherMachines.owners) && machines.equals(otherMachines.machines);
     }
 }
@@ -1,14 +1,18 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.ListElementPointer;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
@@ -21,15 +25,21 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "The command could not be completed: %1$s";
     private static final String FXML = "CommandBox.fxml";
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    private boolean isBusy = false;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     public CommandBox(Logic logic) {
         super(FXML);
         this.logic = logic;
@@ -97,24 +107,58 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command is run on the model thread, and the command box takes no input until its result is shown.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
+        if (isBusy) {
+            return;
+        }
+        String commandText = commandTextField.getText();
+        setBusy(true);
+        logic.executeAsync(commandText).whenComplete((commandResult, error) ->
+            Platform.runLater(() -> showResult(commandText, commandResult, error)));
+    }
+
+    /**
+     * Shows the result of running {@code commandText}, which is {@code commandResult} if the command succeeded,
+     * or {@code error} if it failed.
+     */
+    private void showResult(String commandText, CommandResult commandResult, Throwable error) {
+        setBusy(false);
+        initHistory();
+        Throwable cause = (error instanceof CompletionException) ? error.getCause() : error;
+        if (cause == null) {
             historySnapshot.next();
             // process result of the command
             commandTextField.setText("");
             logger.info("Result: " + commandResult.feedbackToUser);
             raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+            return;
+        }
 
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            // handle command failure
-            setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
+        // handle command failure
+        setStyleToIndicateCommandFailure();
+        if (cause instanceof CommandException || cause instanceof ParseException) {
+            logger.info("Invalid command: " + commandText);
+            raise(new NewResultAvailableEvent(cause.getMessage()));
+        } else {
+            logger.severe("Command failed unexpectedly: " + commandText + StringUtil.getDetails(cause));
+            raise(new NewResultAvailableEvent(String.format(MESSAGE_UNEXPECTED_ERROR, cause)));
+        }
+    }
+
+    /**
+     * Shows whether a command is running, during which the command box takes no input.
+     */
+    private void setBusy(boolean isBusy) {
+        this.isBusy = isBusy;
+        commandTextField.setEditable(!isBusy);
+        busyIndicator.setVisible(isBusy);
+        if (isBusy) {
+            commandTextField.getStyleClass().add(BUSY_STYLE_CLASS);
+        } else {
+            commandTextField.getStyleClass().remove(BUSY_STYLE_CLASS);
         }
     }
 
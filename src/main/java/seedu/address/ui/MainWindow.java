@@ -4,6 +4,7 @@ import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -130,7 +131,7 @@ public class MainWindow extends UiPart<Stage> {
         //viewInfoPanel = new ViewInfoPanel();
         //displayMachineDetailsPlaceholder.getChildren().add(viewInfoPanel.getRoot());
 
-        machineListPanel = new MachineListPanel(logic.getFilteredMachineList());
+        machineListPanel = new MachineListPanel(logic.getFilteredMachineList(), logic::getFilteredJobList);
         machineListPanelPlaceholder.getChildren().add(machineListPanel.getRoot());
 
         //jobListPanel = new JobListPanel(logic.getFilteredJobList());
@@ -204,6 +205,7 @@ public class MainWindow extends UiPart<Stage> {
     @Subscribe
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        handleHelp();
+        // Commands are run on the model thread, so the event may not be raised on the JavaFX thread.
+        Platform.runLater(this::handleHelp);
     }
 }
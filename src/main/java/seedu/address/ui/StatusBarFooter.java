@@ -14,7 +14,9 @@ import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.BaseEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.TransactionCommittedEvent;
 import seedu.address.commons.events.ui.AdminLoginEvent;
 import seedu.address.commons.events.ui.AdminLogoutEvent;
 
@@ -87,9 +89,21 @@ public class StatusBarFooter extends UiPart<Region> {
     //TODO: Are these bypassing UIManager?
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent abce) {
+        showUpdatedNow(abce);
+    }
+
+    @Subscribe
+    public void handleTransactionCommittedEvent(TransactionCommittedEvent event) {
+        showUpdatedNow(event);
+    }
+
+    /**
+     * Shows that the data was last updated now, because of {@code event}.
+     */
+    private void showUpdatedNow(BaseEvent event) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
 
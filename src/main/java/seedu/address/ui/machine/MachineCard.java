@@ -1,5 +1,6 @@
 package seedu.address.ui.machine;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Background;
@@ -10,6 +11,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Paint;
+import seedu.address.model.job.Job;
 import seedu.address.model.job.TimeStamp;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.machine.MachineStatus;
@@ -49,7 +51,7 @@ public class MachineCard extends UiPart<Region> {
     @FXML
     private StackPane jobsListPlaceHolder;
 
-    public MachineCard(Machine machine, int displayIndex) {
+    public MachineCard(Machine machine, ObservableList<Job> jobs, int displayIndex) {
         super(FXML);
         this.machine = machine;
         id.setText(displayIndex + ". ");
@@ -84,7 +86,7 @@ public class MachineCard extends UiPart<Region> {
         machineStatus.setHgap(4);
         totalDuration.getChildren().add(durationLabel);
 
-        jobListPanel = new JobListPanel(machine.getJobsAsFilteredObservableList());
+        jobListPanel = new JobListPanel(jobs);
         jobsListPlaceHolder.getChildren().add(jobListPanel.getRoot());
     }
 
@@ -1,5 +1,6 @@
 package seedu.address.ui.machine;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -13,6 +14,7 @@ import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
 import seedu.address.commons.events.ui.MachinePanelSelectiononChangedEvent;
+import seedu.address.model.job.Job;
 import seedu.address.model.machine.Machine;
 import seedu.address.ui.UiPart;
 
@@ -24,11 +26,14 @@ public class MachineListPanel extends UiPart<Region> {
     private static final String FXML = "MachineListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(MachineListPanel.class);
 
+    private final Function<Machine, ObservableList<Job>> jobsOf;
+
     @FXML
     private ListView<Machine> machineListView;
 
-    public MachineListPanel(ObservableList<Machine> machineList) {
+    public MachineListPanel(ObservableList<Machine> machineList, Function<Machine, ObservableList<Job>> jobsOf) {
         super(FXML);
+        this.jobsOf = jobsOf;
         setConnections(machineList);
         registerAsAnEventHandler(this);
     }
@@ -81,7 +86,7 @@ public class MachineListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new MachineCard(machine, getIndex() + 1).getRoot());
+                setGraphic(new MachineCard(machine, jobsOf.apply(machine), getIndex() + 1).getRoot());
             }
         }
     }
@@ -37,6 +37,21 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("run", "machines.txt");
+        parametersStub.namedParameters.put("stopOnError", "true");
+        expected.setScriptPath(Paths.get("machines.txt"));
+        expected.setStopOnError(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_noScript() {
+        parametersStub.namedParameters.put("run", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
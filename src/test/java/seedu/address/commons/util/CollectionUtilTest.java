@@ -81,6 +81,21 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void areAllUnique() {
+        // empty collection -> returns true
+        assertTrue(CollectionUtil.areAllUnique(Collections.<String>emptyList(), String::length, String::equals));
+
+        // same key but not the same -> returns true
+        assertTrue(CollectionUtil.areAllUnique(Arrays.asList("ab", "cd", "e"), String::length, String::equals));
+
+        // same key and the same -> returns false
+        assertFalse(CollectionUtil.areAllUnique(Arrays.asList("ab", "cd", "e", "cd"), String::length, String::equals));
+
+        // same according to a weaker notion of sameness -> returns false
+        assertFalse(CollectionUtil.areAllUnique(Arrays.asList("ab", "AB"), String::length, String::equalsIgnoreCase));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
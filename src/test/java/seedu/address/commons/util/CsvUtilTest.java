@@ -0,0 +1,49 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_unquotedFields_splitAtCommas() throws Exception {
+        assertEquals(Arrays.asList("a", "b c", "", "d"), CsvUtil.parseLine("a,b c,,d"));
+        assertEquals(Collections.singletonList(""), CsvUtil.parseLine(""));
+        assertEquals(Arrays.asList("", ""), CsvUtil.parseLine(","));
+    }
+
+    @Test
+    public void parseLine_quotedFields_unquoted() throws Exception {
+        assertEquals(Arrays.asList("a", "b, \"c\"", "d"), CsvUtil.parseLine("a,\"b, \"\"c\"\"\",d"));
+        assertEquals(Arrays.asList("", "x"), CsvUtil.parseLine("\"\",x"));
+        assertEquals(Collections.singletonList(","), CsvUtil.parseLine("\",\""));
+    }
+
+    @Test
+    public void parseLine_badQuotes_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNCLOSED_QUOTE, () ->
+            CsvUtil.parseLine("a,\"b"));
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_TEXT_AFTER_QUOTE, () ->
+            CsvUtil.parseLine("\"a\"b,c"));
+    }
+
+    @Test
+    public void toLine_fieldsNeedingQuotes_quoted() {
+        assertEquals("a,b c,,d", CsvUtil.toLine(Arrays.asList("a", "b c", "", "d")));
+        assertEquals("\"1, Main St\",\"say \"\"hi\"\"\"", CsvUtil.toLine(Arrays.asList("1, Main St", "say \"hi\"")));
+    }
+
+    @Test
+    public void toLine_parseLine_sameFields() throws Exception {
+        List<String> fields = Arrays.asList("", "a,b", "\"", "\"\",", "plain");
+        assertEquals(fields, CsvUtil.parseLine(CsvUtil.toLine(fields)));
+    }
+}
@@ -1,14 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public final TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +30,20 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void replaceWithBackups_existingBackups_fileReplacedAndOlderVersionsKept() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("data.xml");
+        for (String version : new String[] {"first", "second", "third", "fourth"}) {
+            Path newFile = testFolder.newFile().toPath();
+            FileUtil.writeToFile(newFile, version);
+            FileUtil.replaceWithBackups(newFile, file, 2);
+            assertFalse(Files.exists(newFile));
+        }
+
+        assertEquals("fourth", FileUtil.readFromFile(file));
+        assertEquals("third", FileUtil.readFromFile(FileUtil.getBackupFile(file, 1)));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupFile(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupFile(file, 3)));
+    }
+
 }
@@ -138,6 +138,53 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void saveDataToFile_shorterDataOverLongerData_previousContentReplaced() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        XmlSerializableAddressBook longerData = new XmlSerializableAddressBook(
+                new AddressBookBuilder().withPerson(new PersonBuilder().build()).build());
+        XmlUtil.saveDataToFile(TEMP_FILE, longerData);
+
+        XmlSerializableAddressBook shorterData = new XmlSerializableAddressBook(new AddressBook());
+        XmlUtil.saveDataToFile(TEMP_FILE, shorterData);
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class);
+        assertEquals(shorterData, dataFromFile);
+    }
+
+    @Test
+    public void saveDataToFile_existingFile_previousVersionsKeptAsBackups() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        XmlSerializableAddressBook firstData = new XmlSerializableAddressBook(new AddressBook());
+        XmlUtil.saveDataToFile(TEMP_FILE, firstData);
+        XmlSerializableAddressBook secondData = new XmlSerializableAddressBook(
+                new AddressBookBuilder().withPerson(new PersonBuilder().build()).build());
+        XmlUtil.saveDataToFile(TEMP_FILE, secondData);
+
+        assertEquals(secondData, XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class));
+        assertEquals(firstData, XmlUtil.getDataFromFile(FileUtil.getBackupFile(TEMP_FILE, 1),
+                XmlSerializableAddressBook.class));
+    }
+
+    @Test
+    public void getDataFromFileOrBackup_corruptedFile_dataRecoveredFromBackup() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        XmlSerializableAddressBook dataToWrite = new XmlSerializableAddressBook(
+                new AddressBookBuilder().withPerson(new PersonBuilder().build()).build());
+        XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite);
+        XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite);
+        FileUtil.writeToFile(TEMP_FILE, "<addressbook><persons>");
+
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFileOrBackup(TEMP_FILE,
+                XmlSerializableAddressBook.class);
+        assertEquals(dataToWrite, dataFromFile);
+    }
+
+    @Test
+    public void getDataFromFileOrBackup_emptyFileWithoutBackup_throwsJaxbException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.getDataFromFileOrBackup(EMPTY_FILE, AddressBook.class);
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedPerson}
      * objects.
@@ -0,0 +1,127 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ListMirrorTest {
+
+    private final Queue<Runnable> modelThread = new ArrayDeque<>();
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b");
+    private final Map<String, ObservableList<Integer>> sourceChildren = new HashMap<>();
+    private final Map<String, String> copies = new HashMap<>();
+    private final Map<String, String> changedInPlace = new HashMap<>();
+
+    private ListMirror<String, Integer> mirror;
+    private int itemChangeCount;
+    private int copyCount;
+
+    @Before
+    public void setUp() {
+        sourceChildren.put("a", FXCollections.observableArrayList(1, 2));
+        sourceChildren.put("b", FXCollections.observableArrayList(3));
+        sourceChildren.put("c", FXCollections.observableArrayList());
+        mirror = new ListMirror<>(source, sourceChildren::get, this::copyOf, modelThread::add, Runnable::run);
+        runModelThread();
+        mirror.getItems().addListener((ListChangeListener<String>) change -> itemChangeCount++);
+        copyCount = 0;
+    }
+
+    @Test
+    public void constructor_copiesList() {
+        assertEquals(Arrays.asList("a[1, 2]", "b[3]"), mirror.getItems());
+    }
+
+    @Test
+    public void changes_copiedOnceTaskIsDone() {
+        source.add("c");
+        source.remove("a");
+        sourceChildren.get("c").add(4);
+        assertEquals(Arrays.asList("a[1, 2]", "b[3]"), mirror.getItems());
+
+        runModelThread();
+        assertEquals(Arrays.asList("b[3]", "c[4]"), mirror.getItems());
+        assertEquals(1, itemChangeCount);
+    }
+
+    @Test
+    public void childrenChanged_onlyThatItemCopiedAgain() {
+        sourceChildren.get("b").setAll(5, 6);
+        sourceChildren.get("b").add(7);
+        runModelThread();
+        assertEquals(Arrays.asList("a[1, 2]", "b[5, 6, 7]"), mirror.getItems());
+        assertEquals(1, copyCount);
+        assertEquals(1, itemChangeCount);
+    }
+
+    @Test
+    public void refresh_itemChangedInPlace_onlyThatItemReplaced() {
+        changedInPlace.put("a", "!");
+        runModelThread();
+        assertEquals(Arrays.asList("a[1, 2]", "b[3]"), mirror.getItems());
+
+        mirror.refresh();
+        runModelThread();
+        assertEquals(Arrays.asList("a[1, 2]!", "b[3]"), mirror.getItems());
+        assertEquals(1, itemChangeCount);
+    }
+
+    @Test
+    public void refresh_nothingChanged_nothingReplaced() {
+        mirror.refresh();
+        runModelThread();
+        assertEquals(0, itemChangeCount);
+    }
+
+    @Test
+    public void itemRemoved_childrenNoLongerFollowed() {
+        source.remove("a");
+        runModelThread();
+
+        sourceChildren.get("a").add(7);
+        assertTrue(modelThread.isEmpty());
+    }
+
+    @Test
+    public void getItems_modifyList_throwsUnsupportedOperationException() {
+        try {
+            mirror.getItems().remove(0);
+            throw new AssertionError("The copy should not be modifiable.");
+        } catch (UnsupportedOperationException e) {
+            assertEquals(Arrays.asList("a[1, 2]", "b[3]"), mirror.getItems());
+        }
+    }
+
+    /**
+     * Returns a copy of {@code item} that shows the list it holds and how it was changed in place,
+     * which is the same copy until either changes.
+     */
+    private String copyOf(String item) {
+        return copies.computeIfAbsent(item + sourceChildren.get(item) + changedInPlace.getOrDefault(item, ""),
+            copy -> {
+                copyCount++;
+                return copy;
+            });
+    }
+
+    /**
+     * Runs the tasks given to the model thread, including those given while running them.
+     */
+    private void runModelThread() {
+        while (!modelThread.isEmpty()) {
+            modelThread.remove().run();
+        }
+    }
+}
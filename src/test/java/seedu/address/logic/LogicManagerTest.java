@@ -1,9 +1,20 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -16,6 +27,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.Machine;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
 
 
 public class LogicManagerTest {
@@ -25,6 +41,11 @@ public class LogicManagerTest {
     private Model model = new ModelManager();
     private Logic logic = new LogicManager(model);
 
+    @After
+    public void tearDown() {
+        model.close();
+    }
+
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "uicfhmowqewca";
@@ -46,6 +67,65 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void getFilteredMachineList_jobChanged_publishedCopyShown() {
+        Job job = new JobBuilder().withDuration(3600000).build();
+        model.addMachine(new MachineBuilder().withJobs(Collections.singletonList(job)).build());
+        Machine shown = logic.getFilteredMachineList().get(0);
+        assertNotSame(model.getFilteredMachineList().get(0), shown);
+
+        model.startJob(job.getJobName());
+
+        assertSame(model.getSnapshot().getMachineList().get(0), logic.getFilteredMachineList().get(0));
+        assertEquals(Status.ONGOING, logic.getFilteredJobList(logic.getFilteredMachineList().get(0)).get(0)
+                .getStatus());
+        // the copy shown before is never changed
+        assertEquals(Status.QUEUED, logic.getFilteredJobList(shown).get(0).getStatus());
+    }
+
+    @Test
+    public void executeAsync_queuedOnModelThread_completesOnceRun() {
+        Queue<Runnable> modelThread = new ArrayDeque<>();
+        Logic queuedLogic = new LogicManager(model, modelThread::add, Runnable::run);
+        CompletableFuture<CommandResult> result = queuedLogic.executeAsync(ListCommand.COMMAND_WORD);
+        assertFalse(result.isDone());
+
+        while (!modelThread.isEmpty()) {
+            modelThread.remove().run();
+        }
+        assertEquals(ListCommand.MESSAGE_SUCCESS, result.getNow(null).feedbackToUser);
+    }
+
+    @Test
+    public void executeAsync_modelNotLoaded_heldUntilLoadedThenRunInOrder() {
+        CompletableFuture<Void> modelLoaded = new CompletableFuture<>();
+        Logic heldLogic = new LogicManager(model, Runnable::run, Runnable::run, modelLoaded);
+        CompletableFuture<CommandResult> first = heldLogic.executeAsync(ListCommand.COMMAND_WORD);
+        CompletableFuture<CommandResult> second = heldLogic.executeAsync(HistoryCommand.COMMAND_WORD);
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+
+        modelLoaded.complete(null);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, first.getNow(null).feedbackToUser);
+        assertEquals(String.format(HistoryCommand.MESSAGE_SUCCESS, ListCommand.COMMAND_WORD),
+                second.getNow(null).feedbackToUser);
+        assertEquals(ListCommand.MESSAGE_SUCCESS, heldLogic.executeAsync(ListCommand.COMMAND_WORD).getNow(null)
+                .feedbackToUser);
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completesWithParseException() {
+        CompletableFuture<CommandResult> result = logic.executeAsync("uicfhmowqewca");
+        try {
+            result.getNow(null);
+            throw new AssertionError("The command should have failed.");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof ParseException);
+            assertEquals(MESSAGE_UNKNOWN_COMMAND, e.getCause().getMessage());
+        }
+        assertHistoryCorrect("uicfhmowqewca");
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.util.LabDataGenerator;
+
+public class ExportCommandTest {
+
+    @Rule
+    public final TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final CommandHistory history = new CommandHistory();
+
+    @Test
+    public void execute_exportThenImport_sameData() throws Exception {
+        AddressBook lab = new LabDataGenerator().withMachineCount(3).withJobsPerMachine(20).withPersonCount(10)
+                .generate();
+        Model model = new ModelManager(lab, new UserPrefs());
+        Path file = testFolder.getRoot().toPath().resolve("lab.csv");
+
+        CommandResult result = new ExportCommand(file).execute(model, history);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 10 + 3 + 3 * 20, file), result.feedbackToUser);
+        Model importedModel = new ModelManager();
+        importedModel.setLogin(new Admin(new Username("admin"), new Password("admin")));
+        new ImportCommand(file).execute(importedModel, history);
+        assertEquals(lab.getPersonList(), importedModel.getAddressBook().getPersonList());
+        assertEquals(lab.getMachineList(), importedModel.getAddressBook().getMachineList());
+    }
+
+    @Test
+    public void execute_fileCannotBeWritten_throwsCommandException() {
+        Path folder = testFolder.getRoot().toPath();
+
+        assertCommandFailure(new ExportCommand(folder), new ModelManager(), history,
+                String.format(ExportCommand.MESSAGE_CANNOT_WRITE, folder));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportLab = new ExportCommand(Paths.get("lab.csv"));
+
+        assertTrue(exportLab.equals(exportLab));
+        assertTrue(exportLab.equals(new ExportCommand(Paths.get("lab.csv"))));
+        assertFalse(exportLab.equals(new ExportCommand(Paths.get("other.csv"))));
+        assertFalse(exportLab.equals(null));
+    }
+}
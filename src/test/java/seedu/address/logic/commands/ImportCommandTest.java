@@ -0,0 +1,147 @@
+package seedu.address.logic.commands;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.job.JobName;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.storage.csv.CsvLabDataReader;
+import seedu.address.testutil.builders.MachineBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class ImportCommandTest {
+    private static final String ALICE = "person,Alice Pauline,94351253,alice@example.com,\"123, Jurong West\",";
+    private static final String ULTIMAKER = "machine,Ultimaker,ENABLED,";
+    private static final String BRACKET = "job,Bracket,Ultimaker,Alice Pauline,HIGH,5400000,Bracket,QUEUED,"
+            + "1541030400000,1541030400000,iDCP";
+    private static final String GEAR = "job,Gear,Prusa,Alice Pauline,NORMAL,7200000,Gear,QUEUED,"
+            + "1541030400000,1541030400000,iDCP";
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public final TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final CommandHistory history = new CommandHistory();
+    private final Model model = new ModelManager();
+
+    @Before
+    public void setUp() {
+        model.setLogin(new Admin(new Username("admin"), new Password("admin")));
+        model.addMachine(new MachineBuilder().withMachineName("Prusa").withMachineStatus(MachineStatus.ENABLED)
+                .build());
+        model.commitAddressBook();
+        eventsCollectorRule.eventsCollector.reset();
+    }
+
+    @After
+    public void tearDown() {
+        model.close();
+    }
+
+    @Test
+    public void execute_validFile_everythingAddedAsOneChange() throws Exception {
+        Path file = writeFile(ALICE, ULTIMAKER, BRACKET, GEAR);
+
+        CommandResult result = new ImportCommand(file).execute(model, history);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, 1, 2, file), result.feedbackToUser);
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals(new MachineName("Ultimaker"), model.findJob(new JobName("Bracket")).getMachineName());
+        assertTrue(model.findMachine(new MachineName("Prusa")).getJobs().contains(model.findJob(new JobName("Gear"))));
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+
+        model.undoAddressBook();
+        assertTrue(model.getFilteredPersonList().isEmpty());
+        assertNull(model.findMachine(new MachineName("Ultimaker")));
+        assertNull(model.findJob(new JobName("Gear")));
+        assertTrue(model.findMachine(new MachineName("Prusa")).getJobs().isEmpty());
+    }
+
+    @Test
+    public void execute_invalidFile_nothingImported() throws Exception {
+        Path file = writeFile(ULTIMAKER, "printer");
+        String errors = String.format(CsvLabDataReader.MESSAGE_ERROR_AT_LINE, 2,
+                String.format(CsvLabDataReader.MESSAGE_UNKNOWN_RECORD, "printer"));
+
+        assertCommandFailure(new ImportCommand(file), model, history,
+                String.format(ImportCommand.MESSAGE_INVALID_FILE, file, errors));
+        assertNull(model.findMachine(new MachineName("Ultimaker")));
+    }
+
+    @Test
+    public void execute_recordsAlreadyInModel_nothingImported() throws Exception {
+        Path file = writeFile(ALICE, "machine,Prusa,ENABLED,", BRACKET);
+
+        assertCommandFailure(new ImportCommand(file), model, history,
+                String.format(ImportCommand.MESSAGE_DUPLICATE_MACHINE, "Prusa"));
+        assertTrue(model.getFilteredPersonList().isEmpty());
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void execute_jobForUnknownMachine_nothingImported() throws Exception {
+        Path file = writeFile(ALICE, BRACKET);
+
+        assertCommandFailure(new ImportCommand(file), model, history,
+                String.format(ImportCommand.MESSAGE_UNKNOWN_MACHINE, "Bracket", "Ultimaker"));
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_missingFile_nothingImported() {
+        Path file = testFolder.getRoot().toPath().resolve("missing.csv");
+
+        assertCommandFailure(new ImportCommand(file), model, history,
+                String.format(ImportCommand.MESSAGE_CANNOT_READ, file));
+    }
+
+    @Test
+    public void execute_notLoggedIn_accessDenied() throws Exception {
+        model.clearLogin();
+        Path file = writeFile(ULTIMAKER);
+
+        assertCommandFailure(new ImportCommand(file), model, history, ImportCommand.MESSAGE_ACCESS_DENIED);
+        assertNull(model.findMachine(new MachineName("Ultimaker")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importLab = new ImportCommand(Paths.get("lab.csv"));
+
+        assertTrue(importLab.equals(importLab));
+        assertTrue(importLab.equals(new ImportCommand(Paths.get("lab.csv"))));
+        assertFalse(importLab.equals(new ImportCommand(Paths.get("other.csv"))));
+        assertFalse(importLab.equals(null));
+    }
+
+    private Path writeFile(String... lines) throws IOException {
+        Path file = testFolder.newFile().toPath();
+        Files.write(file, Arrays.asList(lines), UTF_8);
+        return file;
+    }
+}
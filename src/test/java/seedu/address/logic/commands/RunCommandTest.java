@@ -0,0 +1,165 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.job.AddJobCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.job.JobName;
+import seedu.address.model.machine.MachineName;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class RunCommandTest {
+    private static final String ADD_ULTIMAKER = "addMachine n/Ultimaker ms/ENABLED";
+    private static final String ADD_BRACKET =
+            "addJob n/Bracket m/Ultimaker on/TIAN YUAN pr/HIGH d/1.5 jn/Bracket t/iDCP";
+    private static final String ADD_GEAR = "addJob n/Gear m/Ultimaker on/TIAN YUAN pr/NORMAL d/2 jn/Gear t/iDCP";
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    @Rule
+    public final TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final CommandHistory history = new CommandHistory();
+    private final Model model = new ModelManager();
+
+    @Before
+    public void setUp() {
+        model.setLogin(new Admin(new Username("admin"), new Password("admin")));
+    }
+
+    @After
+    public void tearDown() {
+        model.close();
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_runAsOneChange() throws Exception {
+        Path script = writeScript("# onboarding", ADD_ULTIMAKER, "", ADD_BRACKET, ADD_GEAR);
+
+        CommandResult result = new RunCommand(script, false).execute(model, history);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 3, script), result.feedbackToUser);
+        assertNotNull(model.findJob(new JobName("Bracket")));
+        assertNotNull(model.findJob(new JobName("Gear")));
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+
+        model.undoAddressBook();
+        assertNull(model.findMachine(new MachineName("Ultimaker")));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_someCommandsFail_failuresReportedAndOthersRun() throws Exception {
+        Path script = writeScript(ADD_ULTIMAKER, UndoCommand.COMMAND_WORD, "unknownCommand",
+                ADD_BRACKET.replace("m/Ultimaker", "m/Prusa"), ADD_GEAR);
+
+        CommandResult result = new RunCommand(script, false).execute(model, history);
+
+        String expectedMessage = String.join("\n",
+                String.format(RunCommand.MESSAGE_FAILURES, 3, 5, script),
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 2, RunCommand.MESSAGE_NOT_IN_SCRIPT),
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 3, MESSAGE_UNKNOWN_COMMAND),
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 4, AddJobCommand.MESSAGE_NO_MACHINE));
+        assertEquals(expectedMessage, result.feedbackToUser);
+        assertNotNull(model.findMachine(new MachineName("Ultimaker")));
+        assertNull(model.findJob(new JobName("Bracket")));
+        assertNotNull(model.findJob(new JobName("Gear")));
+    }
+
+    @Test
+    public void execute_manyFailures_firstFailuresShown() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < RunCommand.FAILURES_SHOWN + 2; i++) {
+            lines.add("unknownCommand");
+        }
+        Path script = writeScript(lines.toArray(new String[0]));
+
+        String report = new RunCommand(script, false).execute(model, history).feedbackToUser;
+
+        assertTrue(report.endsWith(String.format(RunCommand.MESSAGE_MORE_FAILURES, 2)));
+        assertEquals(RunCommand.FAILURES_SHOWN + 2, report.split("\n").length);
+    }
+
+    @Test
+    public void execute_stopOnError_noChangesMade() throws Exception {
+        Path script = writeScript(ADD_ULTIMAKER, ADD_BRACKET, "unknownCommand", ADD_GEAR);
+
+        try {
+            new RunCommand(script, true).execute(model, history);
+            fail("The script should stop at the unknown command");
+        } catch (CommandException e) {
+            assertEquals(String.format(RunCommand.MESSAGE_STOPPED, 3, script, MESSAGE_UNKNOWN_COMMAND),
+                    e.getMessage());
+        }
+        assertNull(model.findMachine(new MachineName("Ultimaker")));
+        assertNull(model.findJob(new JobName("Bracket")));
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path script = testFolder.getRoot().toPath().resolve("missing.txt");
+        try {
+            new RunCommand(script, false).execute(model, history);
+            fail("The script should not be found");
+        } catch (CommandException e) {
+            assertEquals(String.format(RunCommand.MESSAGE_CANNOT_READ, script), e.getMessage());
+        }
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Paths.get("script.txt"), false);
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Paths.get("script.txt"), false)));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("other.txt"), false)));
+
+        // different option -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("script.txt"), true)));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.newFile().toPath();
+        Files.write(script, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return script;
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -21,7 +23,9 @@ import seedu.address.model.admin.AdminSession;
 import seedu.address.model.admin.Password;
 import seedu.address.model.admin.Username;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.JobMatch;
 import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobQuery;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.machine.MachineName;
 import seedu.address.model.person.Person;
@@ -137,6 +141,36 @@ public class AddAdminCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addAll(List<Person> persons, List<Machine> machines, List<Job> jobs) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyAddressBook getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Machine getPublishedCopy(Machine machine) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addSnapshotListener(Runnable listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <E extends Exception> void transaction(Transaction<E> transaction) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -271,6 +305,31 @@ public class AddAdminCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Person> findPersonsByNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Machine> findMachinesByNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Job> findJobsByNameKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<JobMatch> findJobsSimilarTo(List<String> terms) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Job> findJobs(JobQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
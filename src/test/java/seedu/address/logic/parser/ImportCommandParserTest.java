@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_file_returnsImportCommand() {
+        assertParseSuccess(parser, " data/lab inventory.csv ", new ImportCommand(Paths.get("data/lab inventory.csv")));
+    }
+
+    @Test
+    public void parse_noFile_throwsParseException() {
+        assertParseFailure(parser, "  ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, " lab\0.csv", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_file_returnsRunCommand() {
+        assertParseSuccess(parser, " data/new machines.txt ",
+                new RunCommand(Paths.get("data/new machines.txt"), false));
+    }
+
+    @Test
+    public void parse_stopOnErrorOption_returnsRunCommandThatStops() {
+        assertParseSuccess(parser, " -s data/machines.txt", new RunCommand(Paths.get("data/machines.txt"), true));
+
+        // the option is only read before the file
+        assertParseSuccess(parser, " -sdata.txt", new RunCommand(Paths.get("-sdata.txt"), false));
+    }
+
+    @Test
+    public void parse_noFile_throwsParseException() {
+        assertParseFailure(parser, "  ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -s ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, " data\0.txt", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser.job;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.job.FindJobCommand;
+import seedu.address.logic.commands.job.FindSimilarJobsCommand;
+import seedu.address.model.job.JobNameContainsKeywordsPredicate;
+
+public class FindJobCommandParserTest {
+
+    private FindJobCommandParser parser = new FindJobCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindJobCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_optionWithoutTerms_throwsParseException() {
+        assertParseFailure(parser, " -f  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindSimilarJobsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindJobCommand() {
+        FindJobCommand expectedFindJobCommand =
+                new FindJobCommand(new JobNameContainsKeywordsPredicate(Arrays.asList("bracket", "gear")));
+        assertParseSuccess(parser, " \n bracket \t gear ", expectedFindJobCommand);
+    }
+
+    @Test
+    public void parse_similarOption_returnsFindSimilarJobsCommand() {
+        FindSimilarJobsCommand expectedCommand = new FindSimilarJobsCommand(Arrays.asList("brakt", "gea"));
+        assertParseSuccess(parser, " -f brakt \t gea", expectedCommand);
+    }
+
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.parser.job;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.job.QueryJobsCommand;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobQuery;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.MachineName;
+
+public class QueryJobsCommandParserTest {
+
+    private QueryJobsCommandParser parser = new QueryJobsCommandParser();
+
+    @Test
+    public void parse_noAttributes_throwsParseException() {
+        assertParseFailure(parser, "  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryJobsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " QUEUED",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryJobsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " st/WAITING", Status.MESSAGE_STATUS_CONSTRAINTS);
+        assertParseFailure(parser, " pr/LOW+", Job.MEEEAGE_PRIORITY_CONSTRAINTS);
+        assertParseFailure(parser, " from/1/11/2018", QueryJobsCommandParser.MESSAGE_INVALID_TIME);
+        assertParseFailure(parser, " on/ ", QueryJobsCommandParser.MESSAGE_EMPTY_OWNER);
+    }
+
+    @Test
+    public void parse_statusesAndAtLeastPriority_returnsQueryJobsCommand() {
+        JobQuery query = new JobQuery();
+        query.setStatuses(EnumSet.of(Status.QUEUED, Status.ONGOING));
+        query.setPriorities(EnumSet.of(Priority.HIGH, Priority.URGENT));
+        assertParseSuccess(parser, " st/queued st/ONGOING pr/High+", new QueryJobsCommand(query));
+    }
+
+    @Test
+    public void parse_machineOwnerAndDays_returnsQueryJobsCommand() {
+        JobQuery query = new JobQuery();
+        query.setMachineNames(Collections.singleton(new MachineName("Printer 1")));
+        query.setOwnerNames(Collections.singleton("Tian Yuan"));
+        LocalDate day = LocalDate.of(2018, 11, 1);
+        long startOfDay = day.atStartOfDay(TimeStamp.getClock().getZone()).toInstant().toEpochMilli();
+        long startOfNextDay = day.plusDays(1).atStartOfDay(TimeStamp.getClock().getZone()).toInstant().toEpochMilli();
+        query.setAddedFrom(startOfDay);
+        query.setAddedUntil(startOfNextDay - 1);
+        assertParseSuccess(parser, " m/Printer 1 on/tian yuan from/2018-11-01 to/2018-11-01",
+                new QueryJobsCommand(query));
+
+        query.setAddedFrom(startOfDay + 9 * 60 * 60 * 1000);
+        assertParseSuccess(parser, " m/Printer 1 on/tian yuan from/2018-11-01 09:00 to/2018-11-01",
+                new QueryJobsCommand(query));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -21,9 +22,12 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.AdminSession;
+import seedu.address.model.job.Job;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
 import seedu.address.testutil.builders.PersonBuilder;
 
 public class AddressBookTest {
@@ -94,6 +98,16 @@ public class AddressBookTest {
         addressBook.getPersonList().remove(0);
     }
 
+    @Test
+    public void addMachine_jobsWithEqualOwners_ownerKeptOnce() {
+        Job job = new JobBuilder().withName("first").withOwner(new PersonBuilder().build()).build();
+        Job otherJob = new JobBuilder().withName("second").withOwner(new PersonBuilder().build()).build();
+
+        addressBook.addMachine(new MachineBuilder().withJobs(Arrays.asList(job, otherJob)).build());
+
+        assertSame(job.getOwner(), otherJob.getOwner());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
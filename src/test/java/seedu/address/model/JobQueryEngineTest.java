@@ -0,0 +1,130 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobNote;
+import seedu.address.model.job.JobQuery;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.KeywordIndex;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.builders.MachineBuilder;
+import seedu.address.testutil.builders.PersonBuilder;
+
+public class JobQueryEngineTest {
+
+    private static final MachineName ALPHA = new MachineName("Alpha");
+    private static final MachineName BETA = new MachineName("Beta");
+    private static final Person AMY = new PersonBuilder().withName("Amy Bee").build();
+    private static final Person BOB = new PersonBuilder().withName("Bob Choo").build();
+
+    private final Job bracket = job("Bracket", ALPHA, Status.QUEUED, Priority.URGENT, 1000, AMY, "iDCP");
+    private final Job gear = job("Gear", ALPHA, Status.QUEUED, Priority.NORMAL, 2000, BOB);
+    private final Job hinge = job("Hinge", ALPHA, Status.ONGOING, Priority.HIGH, 3000, AMY);
+    private final Job lens = job("Lens", ALPHA, Status.QUEUED, Priority.NORMAL, 4000, BOB, "idcp");
+    private final Job drone = job("Drone", BETA, Status.QUEUED, Priority.HIGH, 5000, AMY);
+
+    private JobQueryEngine engine;
+
+    @Before
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMachine(machine("Alpha", bracket, gear, hinge, lens));
+        addressBook.addMachine(machine("Beta", drone));
+        KeywordIndex<Job> keywordIndex = new KeywordIndex<>(job -> job.getJobName().fullName, Job::getTags);
+        keywordIndex.attachChildren(addressBook.getMachineList(), Machine::getJobsAsObservableList);
+        engine = new JobQueryEngine(addressBook, keywordIndex);
+    }
+
+    @Test
+    public void find_statusAndPriority_returnsJobsMatchingBoth() {
+        JobQuery query = new JobQuery();
+        query.setStatuses(EnumSet.of(Status.QUEUED));
+        query.setPriorities(EnumSet.of(Priority.URGENT, Priority.HIGH));
+        assertEquals(setOf(bracket, drone), engine.find(query));
+    }
+
+    @Test
+    public void find_machineOwnerAndAddedTime_returnsJobsMatchingAll() {
+        JobQuery query = new JobQuery();
+        query.setMachineNames(Collections.singleton(ALPHA));
+        query.setOwnerNames(Collections.singleton("amy BEE"));
+        query.setAddedFrom(1500L);
+        assertEquals(setOf(hinge), engine.find(query));
+
+        query.setAddedUntil(2500L);
+        assertTrue(engine.find(query).isEmpty());
+    }
+
+    @Test
+    public void find_tags_matchedIgnoringCase() {
+        JobQuery query = new JobQuery();
+        query.setTags(Collections.singleton(new Tag("IDCP")));
+        assertEquals(setOf(bracket, lens), engine.find(query));
+    }
+
+    @Test
+    public void plan_severalIndexedAttributes_usesMostSelectiveIndex() {
+        JobQuery query = new JobQuery();
+        query.setStatuses(EnumSet.of(Status.QUEUED));
+        query.setPriorities(EnumSet.of(Priority.URGENT));
+        assertEquals(JobQueryEngine.INDEX_PRIORITY, engine.plan(query).getIndexUsed());
+        assertEquals(1, engine.plan(query).getEstimatedSize());
+
+        query.setMachineNames(Collections.singleton(BETA));
+        query.setPriorities(EnumSet.of(Priority.NORMAL, Priority.HIGH));
+        assertEquals(JobQueryEngine.INDEX_MACHINE, engine.plan(query).getIndexUsed());
+
+        query.setTags(Collections.singleton(new Tag("nothingTagged")));
+        assertEquals(JobQueryEngine.INDEX_TAG, engine.plan(query).getIndexUsed());
+    }
+
+    @Test
+    public void plan_noIndexedAttributes_testsAllJobs() {
+        JobQuery query = new JobQuery();
+        query.setOwnerNames(Collections.singleton("Bob Choo"));
+        assertEquals(JobQueryEngine.FULL_SCAN, engine.plan(query).getIndexUsed());
+        assertEquals(setOf(gear, lens), engine.find(query));
+    }
+
+    @Test
+    public void refresh_statusChanged_foundByNewStatus() {
+        JobQuery query = new JobQuery();
+        query.setStatuses(EnumSet.of(Status.ONGOING));
+
+        gear.setStatus(Status.ONGOING);
+        engine.refresh(gear);
+        assertEquals(setOf(hinge, gear), engine.find(query));
+    }
+
+    private static Job job(String name, MachineName machine, Status status, Priority priority, long addedTime,
+                           Person owner, String... tags) {
+        return new Job(new JobName(name), machine, owner, new TimeStamp(addedTime), new TimeStamp(addedTime),
+                priority, status, 1, new JobNote("note"), SampleDataUtil.getTagSet(tags));
+    }
+
+    private static Machine machine(String name, Job... jobs) {
+        return new MachineBuilder().withMachineName(name).withJobs(Arrays.asList(jobs)).build();
+    }
+
+    private static Set<Job> setOf(Job... jobs) {
+        return new HashSet<>(Arrays.asList(jobs));
+    }
+}
@@ -1,27 +1,58 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.testdata.TypicalPersons.ALICE;
 import static seedu.address.testutil.testdata.TypicalPersons.BENSON;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.TransactionCommittedEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.job.FindJobCommand;
+import seedu.address.logic.commands.job.QueryJobsCommand;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobMatch;
+import seedu.address.model.job.JobNameContainsKeywordsPredicate;
+import seedu.address.model.job.JobQuery;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.Machine;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.testutil.builders.AddressBookBuilder;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
+    @After
+    public void tearDown() {
+        modelManager.close();
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -84,4 +115,178 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertTrue(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void startJob_jobRunsForItsDuration_finishedOnModelThread() throws Exception {
+        Job job = new JobBuilder().withStatus(Status.QUEUED).withDuration(50).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMachine(new MachineBuilder().withJobs(Collections.singletonList(job)).build());
+        CountDownLatch finished = new CountDownLatch(1);
+        modelManager = new ModelManager(addressBook, new UserPrefs(), task -> {
+            task.run();
+            if (job.getStatus() == Status.FINISHED) {
+                finished.countDown();
+            }
+        });
+
+        modelManager.startJob(job.getJobName());
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(Status.FINISHED, modelManager.findJob(job.getJobName()).getStatus());
+        assertEquals(Status.FINISHED, modelManager.getSnapshot().getMachineList().get(0).getJobs().get(0).getStatus());
+    }
+
+    @Test
+    public void getPublishedCopy_jobsFoundByCommands_copyShowsFoundJobs() {
+        Job bracket = new JobBuilder().withName("Bracket").withDuration(3600000).build();
+        Job gear = new JobBuilder().withName("Gear").withDuration(3600000).build();
+        modelManager.addMachine(new MachineBuilder().withJobs(Arrays.asList(bracket, gear)).build());
+        Machine machine = modelManager.getFilteredMachineList().get(0);
+        Machine unfilteredCopy = modelManager.getPublishedCopy(machine);
+
+        new FindJobCommand(new JobNameContainsKeywordsPredicate(Collections.singletonList("Bracket")))
+                .execute(modelManager, new CommandHistory());
+        Machine foundCopy = modelManager.getPublishedCopy(machine);
+        assertEquals(Collections.singletonList(bracket), foundCopy.getJobsAsFilteredObservableList());
+        // the jobs are filtered again rather than copied again
+        assertSame(unfilteredCopy.getJobs().get(0), foundCopy.getJobs().get(0));
+
+        new FindJobCommand(new JobNameContainsKeywordsPredicate(Collections.singletonList("Bracket")))
+                .execute(modelManager, new CommandHistory());
+        assertSame(foundCopy, modelManager.getPublishedCopy(machine));
+
+        modelManager.startJob(gear.getJobName());
+        JobQuery query = new JobQuery();
+        query.setStatuses(Collections.singleton(Status.ONGOING));
+        new QueryJobsCommand(query).execute(modelManager, new CommandHistory());
+        List<Job> queriedJobs = modelManager.getPublishedCopy(machine).getJobsAsFilteredObservableList();
+        assertEquals(1, queriedJobs.size());
+        assertEquals(gear.getJobName(), queriedJobs.get(0).getJobName());
+    }
+
+    @Test
+    public void close_jobStarted_jobNotFinished() throws Exception {
+        Job job = new JobBuilder().withStatus(Status.QUEUED).withDuration(50).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMachine(new MachineBuilder().withJobs(Collections.singletonList(job)).build());
+        CountDownLatch finished = new CountDownLatch(1);
+        modelManager = new ModelManager(addressBook, new UserPrefs(), task -> {
+            task.run();
+            if (job.getStatus() == Status.FINISHED) {
+                finished.countDown();
+            }
+        });
+
+        modelManager.startJob(job.getJobName());
+        modelManager.close();
+
+        assertFalse(finished.await(200, TimeUnit.MILLISECONDS));
+        assertEquals(Status.ONGOING, modelManager.findJob(job.getJobName()).getStatus());
+    }
+
+    @Test
+    public void transaction_changesMade_oneEventAndOneCommit() {
+        Job job = new JobBuilder().withDuration(600000).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMachine(new MachineBuilder().withJobs(Collections.singletonList(job)).build());
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        Machine ultimaker = new MachineBuilder().withMachineName("Ultimaker").build();
+
+        modelManager.transaction(model -> {
+            model.startJob(job.getJobName());
+            model.addMachine(ultimaker);
+            model.addPerson(ALICE);
+            model.commitAddressBook();
+        });
+
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        TransactionCommittedEvent event = (TransactionCommittedEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertTrue(event.isPersonListChanged);
+        assertFalse(event.isAdminListChanged);
+        assertTrue(event.isMachineListChanged);
+        assertEquals(Status.ONGOING, modelManager.findJob(job.getJobName()).getStatus());
+
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasMachine(ultimaker));
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void transaction_changesFail_rolledBackWithoutEvents() {
+        Job bracket = new JobBuilder().withName("Bracket").withDuration(600000).build();
+        Job gear = new JobBuilder().withName("Gear").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMachine(new MachineBuilder().withJobs(Collections.singletonList(bracket)).build());
+        addressBook.addMachine(new MachineBuilder().withMachineName("Ultimaker")
+                .withJobs(Collections.singletonList(gear)).build());
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        Status statusBefore = bracket.getStatus();
+        Machine prusa = new MachineBuilder().withMachineName("Prusa").build();
+
+        try {
+            modelManager.transaction(model -> {
+                model.startJob(bracket.getJobName());
+                model.swapJobs(bracket.getJobName(), gear.getJobName());
+                model.addMachine(prusa);
+                model.addPerson(ALICE);
+                model.commitAddressBook();
+                throw new Exception("cannot finish the transaction");
+            });
+            fail("The exception thrown by the transaction should be rethrown");
+        } catch (Exception e) {
+            assertEquals("cannot finish the transaction", e.getMessage());
+        }
+
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertEquals(statusBefore, bracket.getStatus());
+        assertFalse(modelManager.hasMachine(prusa));
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.canUndoAddressBook());
+        List<Machine> machines = modelManager.getAddressBook().getMachineList();
+        assertEquals(Collections.singletonList(bracket), machines.get(0).getJobs());
+        assertEquals(Collections.singletonList(gear), machines.get(1).getJobs());
+        assertEquals(Collections.singleton(bracket),
+                modelManager.findJobsByNameKeywords(Collections.singletonList("bracket")));
+    }
+
+    @Test
+    public void findJobsByNameKeywords_machineAddedAndUndone_indexFollowsChanges() {
+        Job bracket = new JobBuilder().withName("Bracket").build();
+        Job gear = new JobBuilder().withName("Gear").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMachine(new MachineBuilder().withJobs(Collections.singletonList(bracket)).build());
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.commitAddressBook();
+
+        modelManager.addMachine(new MachineBuilder().withMachineName("Ultimaker")
+                .withJobs(Collections.singletonList(gear)).build());
+        modelManager.commitAddressBook();
+        assertEquals(2, modelManager.findJobsByNameKeywords(Arrays.asList("BRACKET", "gear", "nozzle")).size());
+
+        modelManager.undoAddressBook();
+        assertEquals(1, modelManager.findJobsByNameKeywords(Collections.singletonList("bracket")).size());
+        assertTrue(modelManager.findJobsByNameKeywords(Collections.singletonList("gear")).isEmpty());
+    }
+
+    @Test
+    public void findJobsSimilarTo_typosAndPrefixes_rankedByClosenessThenPriority() {
+        Job bracket = new JobBuilder().withName("Bracket").withPriority(Priority.NORMAL).build();
+        Job brackets = new JobBuilder().withName("Brackets").withPriority(Priority.URGENT).build();
+        Job racket = new JobBuilder().withName("Racket").withPriority(Priority.URGENT).build();
+        Job gear = new JobBuilder().withName("Gear").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMachine(new MachineBuilder().withJobs(Arrays.asList(bracket, brackets, racket, gear)).build());
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        List<JobMatch> matches = modelManager.findJobsSimilarTo(Collections.singletonList("brackt"));
+        assertEquals(Arrays.asList(bracket, brackets, racket),
+                matches.stream().map(JobMatch::getJob).collect(Collectors.toList()));
+
+        // jobs found by their machine's name rank after jobs found by their own name
+        matches = modelManager.findJobsSimilarTo(Arrays.asList("gear", "makermanager"));
+        assertEquals(gear, matches.get(0).getJob());
+        assertEquals(4, matches.size());
+    }
 }
@@ -0,0 +1,124 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.testdata.TypicalPersons.ALICE;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Queue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+
+public class SnapshotPublisherTest {
+
+    private final Queue<Runnable> modelThread = new ArrayDeque<>();
+    private final Job bracket = new JobBuilder().withName("Bracket").withMachine(new MachineName("Ultimaker")).build();
+    private final Job gear = new JobBuilder().withName("Gear").build();
+
+    private AddressBook addressBook;
+    private SnapshotPublisher publisher;
+
+    @Before
+    public void setUp() {
+        addressBook = new AddressBook();
+        addressBook.addMachine(new MachineBuilder().withMachineName("Ultimaker")
+                .withJobs(Collections.singletonList(bracket)).build());
+        addressBook.addMachine(new MachineBuilder().withJobs(Collections.singletonList(gear)).build());
+        publisher = new SnapshotPublisher(addressBook, modelThread::add);
+    }
+
+    @Test
+    public void getLatest_jobChangedInPlace_changePublishedOnceTaskIsDone() {
+        ReadOnlyAddressBook before = publisher.getLatest();
+
+        addressBook.startJob(bracket.getJobName());
+        publisher.markChanged();
+        assertEquals(Status.QUEUED, jobIn(publisher.getLatest(), 0).getStatus());
+
+        runModelThread();
+        assertEquals(Status.ONGOING, jobIn(publisher.getLatest(), 0).getStatus());
+        // snapshots already published are never changed
+        assertEquals(Status.QUEUED, jobIn(before, 0).getStatus());
+        assertNotSame(bracket, jobIn(before, 0));
+    }
+
+    @Test
+    public void getLatest_oneMachineChanged_otherMachinesNotCopiedAgain() {
+        ReadOnlyAddressBook before = publisher.getLatest();
+
+        addressBook.startJob(bracket.getJobName());
+        publisher.markChanged();
+        runModelThread();
+
+        ReadOnlyAddressBook after = publisher.getLatest();
+        assertNotSame(machineIn(before, 0), machineIn(after, 0));
+        assertSame(machineIn(before, 1), machineIn(after, 1));
+    }
+
+    @Test
+    public void getLatest_listsChanged_publishedWithoutBeingMarked() {
+        addressBook.addPerson(ALICE);
+        addressBook.removeMachine(addressBook.getMachineList().get(0));
+        assertEquals(0, publisher.getLatest().getPersonList().size());
+
+        runModelThread();
+        ReadOnlyAddressBook after = publisher.getLatest();
+        assertEquals(Collections.singletonList(ALICE), after.getPersonList());
+        assertEquals(1, after.getMachineList().size());
+        assertEquals(1, after.getTotalNumberOfStoredJobs());
+    }
+
+    @Test
+    public void getCopy_machineChanged_copyPublishedInNextSnapshot() {
+        Machine ultimaker = addressBook.getMachineList().get(0);
+        addressBook.startJob(bracket.getJobName());
+        publisher.markChanged();
+
+        Machine copy = publisher.getCopy(ultimaker);
+        assertNotSame(ultimaker, copy);
+        assertEquals(Status.ONGOING, copy.getJobs().get(0).getStatus());
+
+        runModelThread();
+        assertSame(copy, machineIn(publisher.getLatest(), 0));
+    }
+
+    @Test
+    public void getCopy_jobsFiltered_copyFilteredTheSame() {
+        Machine ultimaker = addressBook.getMachineList().get(0);
+        Machine unfilteredCopy = publisher.getCopy(ultimaker);
+
+        ultimaker.updateFilteredJobList(job -> false);
+
+        Machine filteredCopy = publisher.getCopy(ultimaker);
+        assertNotSame(unfilteredCopy, filteredCopy);
+        assertEquals(0, filteredCopy.getJobsAsFilteredObservableList().size());
+        assertEquals(1, unfilteredCopy.getJobsAsFilteredObservableList().size());
+    }
+
+    private static Machine machineIn(ReadOnlyAddressBook snapshot, int index) {
+        return snapshot.getMachineList().get(index);
+    }
+
+    private static Job jobIn(ReadOnlyAddressBook snapshot, int machineIndex) {
+        return machineIn(snapshot, machineIndex).getJobs().get(0);
+    }
+
+    /**
+     * Runs the tasks given to the model thread, including those given while running them.
+     */
+    private void runModelThread() {
+        while (!modelThread.isEmpty()) {
+            modelThread.remove().run();
+        }
+    }
+}
@@ -14,7 +14,11 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
 import seedu.address.testutil.builders.AddressBookBuilder;
+import seedu.address.testutil.testdata.ValidMachines;
 
 public class VersionedAddressBookTest {
 
@@ -22,6 +26,7 @@ public class VersionedAddressBookTest {
     private final ReadOnlyAddressBook addressBookWithBob = new AddressBookBuilder().withPerson(BOB).build();
     private final ReadOnlyAddressBook addressBookWithCarl = new AddressBookBuilder().withPerson(CARL).build();
     private final ReadOnlyAddressBook emptyAddressBook = new AddressBookBuilder().build();
+    private final Admin admin = new Admin(new Username("admin"), new Password("admin"));
 
     @Test
     public void commit_singleAddressBook_noStatesRemovedCurrentStateSaved() {
@@ -235,6 +240,59 @@ public class VersionedAddressBookTest {
         assertFalse(versionedAddressBook.equals(differentCurrentStatePointer));
     }
 
+    @Test
+    public void commit_beyondHistoryLimit_oldestStatesDiscarded() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, 2);
+        versionedAddressBook.resetData(addressBookWithAmy);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(addressBookWithBob);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(addressBookWithCarl);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Arrays.asList(addressBookWithAmy, addressBookWithBob),
+                addressBookWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_unchangedListsAfterCommit_restoresSharedState() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(addressBookWithBob);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void setLoadedPersons_afterCommit_personsKeptAfterUndo() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook);
+        versionedAddressBook.addMachine(ValidMachines.JJPRINTER);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.setLoadedPersons(Arrays.asList(AMY, BOB));
+        versionedAddressBook.undo();
+
+        assertEquals(Arrays.asList(AMY, BOB), versionedAddressBook.getPersonList());
+        assertTrue(versionedAddressBook.getMachineList().isEmpty());
+    }
+
+    @Test
+    public void setLoadedAdmins_afterCommit_adminsKeptAfterUndo() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+
+        versionedAddressBook.setLoadedAdmins(Collections.singletonList(admin));
+        versionedAddressBook.undo();
+
+        assertEquals(Collections.singletonList(admin), versionedAddressBook.getAdminList());
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+    }
+
     /**
      * Asserts that {@code versionedAddressBook} is currently pointing at {@code expectedCurrentState},
      * states before {@code versionedAddressBook#currentStatePointer} is equal to {@code expectedStatesBeforePointer},
@@ -0,0 +1,80 @@
+package seedu.address.model.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.testutil.builders.JobBuilder;
+
+public class JobCompletionSchedulerTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final List<Job> dueJobs = new CopyOnWriteArrayList<>();
+    private CountDownLatch jobsDue = new CountDownLatch(1);
+    private final JobCompletionScheduler scheduler = new JobCompletionScheduler(job -> {
+        dueJobs.add(job);
+        jobsDue.countDown();
+    });
+
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void schedule_ongoingJobs_notifiedInOrderOfDueTime() throws Exception {
+        jobsDue = new CountDownLatch(2);
+        Job laterJob = startJob("later", 300);
+        Job earlierJob = startJob("earlier", 50);
+        scheduler.schedule(laterJob);
+        scheduler.schedule(earlierJob);
+
+        assertTrue(jobsDue.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(Arrays.asList(earlierJob, laterJob), dueJobs);
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void schedule_jobNotOngoing_notScheduled() {
+        scheduler.schedule(new JobBuilder().withStatus(Status.QUEUED).build());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void schedule_jobCancelledBeforeDue_notNotified() throws Exception {
+        Job cancelledJob = startJob("cancelled", 50);
+        Job otherJob = startJob("other", 200);
+        scheduler.schedule(cancelledJob);
+        scheduler.schedule(otherJob);
+        cancelledJob.cancelJob();
+
+        assertTrue(jobsDue.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(Collections.singletonList(otherJob), dueJobs);
+    }
+
+    @Test
+    public void clear_jobsScheduled_noJobNotified() throws Exception {
+        scheduler.schedule(startJob("cleared", 50));
+        scheduler.clear();
+
+        assertEquals(0, scheduler.size());
+        Thread.sleep(200);
+        assertEquals(Collections.emptyList(), dueJobs);
+    }
+
+    private Job startJob(String name, long duration) {
+        Job job = new JobBuilder().withName(name).withDuration(duration).build();
+        job.startJob();
+        return job;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.job;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -13,6 +14,11 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.testdata.TypicalJobs.IDCP;
 import static seedu.address.testutil.testdata.TypicalJobs.NEWPROJECT;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -112,6 +118,35 @@ public class JobTest {
     }
 
 
+    @Test
+    public void isFinished_ongoingJob_finishedOnlyAfterDuration() throws Exception {
+        Clock originalClock = TimeStamp.getClock();
+        Clock startClock = Clock.fixed(Instant.ofEpochMilli(1000000), ZoneOffset.UTC);
+        try {
+            TimeStamp.setClock(startClock);
+            Job job = new JobBuilder().withDuration(5000).build();
+            job.startJob();
+
+            TimeStamp.setClock(Clock.offset(startClock, Duration.ofMillis(5000)));
+            assertFalse(job.isFinished());
+
+            TimeStamp.setClock(Clock.offset(startClock, Duration.ofMillis(5001)));
+            assertTrue(job.isFinished());
+        } finally {
+            TimeStamp.setClock(originalClock);
+        }
+    }
+
+    @Test
+    public void copyConstructor_noteAddedToOriginal_copyNotChanged() {
+        Job job = new JobBuilder().withJobNote("first note").build();
+        Job copy = new Job(job);
+
+        job.addNote("second note");
+
+        assertEquals("first note", copy.getJobNote().toString());
+    }
+
     //TODO: test for hasHigherPriority
     /*
     @Test
@@ -1,4 +1,73 @@
 package seedu.address.model.job;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.After;
+import org.junit.Test;
+
 public class TimeStampTest {
+
+    private static final Clock ORIGINAL_CLOCK = TimeStamp.getClock();
+
+    @After
+    public void tearDown() {
+        TimeStamp.setClock(ORIGINAL_CLOCK);
+    }
+
+    @Test
+    public void constructor_injectedClock_usesClockTime() {
+        TimeStamp.setClock(Clock.fixed(Instant.ofEpochMilli(123456789), ZoneOffset.UTC));
+        assertEquals(123456789, new TimeStamp().getTimeInMillis());
+    }
+
+    @Test
+    public void showTime_injectedClockZone_formattedInClockZone() {
+        TimeStamp.setClock(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+        // 25 March 1970, 14:05:09 UTC
+        assertEquals("25/3 2:5:9", new TimeStamp(7221909000L).showTime());
+    }
+
+    @Test
+    public void showAsDuration() {
+        assertEquals("30 Minutes", TimeStamp.showAsDuration(TimeStamp.hoursToMillis(0.5f)));
+        assertEquals("1 Hour 30 Minutes", TimeStamp.showAsDuration(TimeStamp.hoursToMillis(1.5f)));
+        assertEquals("5 Hours 0 Minutes", TimeStamp.showAsDuration(TimeStamp.hoursToMillis(5)));
+        assertEquals("1 Day 2 Hours ", TimeStamp.showAsDuration(TimeStamp.hoursToMillis(26)));
+        assertEquals("3 Days 0 Hours ", TimeStamp.showAsDuration(TimeStamp.hoursToMillis(72)));
+        assertEquals("1 Years 2 Days ", TimeStamp.showAsDuration(367L * 24 * 3600000));
+    }
+
+    @Test
+    public void isSameSecond() {
+        TimeStamp timeStamp = new TimeStamp(5000);
+
+        // same second -> returns true
+        assertTrue(timeStamp.isSameSecond(new TimeStamp(5999)));
+
+        // different second -> returns false
+        assertFalse(timeStamp.isSameSecond(new TimeStamp(4999)));
+        assertFalse(timeStamp.isSameSecond(new TimeStamp(6000)));
+    }
+
+    @Test
+    public void equals() {
+        TimeStamp timeStamp = new TimeStamp(5000);
+
+        // same values -> returns true
+        assertEquals(timeStamp, new TimeStamp(5000));
+        assertEquals(timeStamp.hashCode(), new TimeStamp(5000).hashCode());
+
+        // different values -> returns false
+        assertNotEquals(timeStamp, new TimeStamp(5001));
+
+        // null -> returns false
+        assertNotEquals(timeStamp, null);
+    }
 }
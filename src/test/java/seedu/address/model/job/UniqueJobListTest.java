@@ -1,11 +1,13 @@
 package seedu.address.model.job;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.testdata.TypicalJobs.IDCP;
 import static seedu.address.testutil.testdata.TypicalJobs.NEWPROJECT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -16,6 +18,7 @@ import org.junit.rules.ExpectedException;
 
 import seedu.address.model.job.exceptions.DuplicateJobException;
 import seedu.address.model.job.exceptions.JobNotFoundException;
+import seedu.address.testutil.builders.JobBuilder;
 
 public class UniqueJobListTest {
     @Rule
@@ -160,4 +163,28 @@ public class UniqueJobListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniqueJobList.asUnmodifiableObservableList().remove(0);
     }
+
+    @Test
+    public void jobComparator_differentPriorities_moreUrgentJobFirst() {
+        Job normalJob = new JobBuilder().withName("normal").withPriority(Priority.NORMAL).build();
+        Job urgentJob = new JobBuilder().withName("urgent").withPriority(Priority.URGENT).build();
+        Job highJob = new JobBuilder().withName("high").withPriority(Priority.HIGH).build();
+        List<Job> jobs = new ArrayList<>(Arrays.asList(normalJob, urgentJob, highJob));
+
+        jobs.sort(new UniqueJobList.JobComparator());
+
+        assertEquals(Arrays.asList(urgentJob, highJob, normalJob), jobs);
+    }
+
+    @Test
+    public void jobComparator_samePriority_earlierAddedJobFirst() {
+        Job earlierJob = new JobBuilder().withName("b").withPriority(Priority.HIGH).build();
+        Job laterJob = new Job(new JobName("a"), earlierJob.getMachineName(), earlierJob.getOwner(),
+                new TimeStamp(earlierJob.getAddedTime().getTimeInMillis() + 1000), earlierJob.getStartTime(),
+                Priority.HIGH, Status.QUEUED, earlierJob.getDuration(), earlierJob.getJobNote(), earlierJob.getTags());
+
+        UniqueJobList.JobComparator comparator = new UniqueJobList.JobComparator();
+        assertTrue(comparator.compare(earlierJob, laterJob) < 0);
+        assertTrue(comparator.compare(laterJob, earlierJob) > 0);
+    }
 }
@@ -1,14 +1,27 @@
 package seedu.address.model.machine;
 
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.testdata.TypicalJobs.IDCP;
+import static seedu.address.testutil.testdata.TypicalJobs.NEWPROJECT;
+
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.core.JobMachineTuple;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.TimeStamp;
 import seedu.address.model.machine.exceptions.DuplicateMachineException;
 import seedu.address.model.machine.exceptions.MachineNotFoundException;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
 import seedu.address.testutil.testdata.ValidMachines;
 
 public class UniqueMachineListTest {
@@ -76,7 +89,96 @@ public class UniqueMachineListTest {
         uniqueMachineList.asUnmodifiableObservableList().remove(0);
     }
 
+    @Test
+    public void findJob_nullJobName_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueMachineList.findJob(null);
+    }
+
+    @Test
+    public void findJob_jobNotInAnyMachine_returnsNull() {
+        uniqueMachineList.add(ValidMachines.JJPRINTER);
+        assertNull(uniqueMachineList.findJob(IDCP.getJobName()));
+    }
+
+    @Test
+    public void findJob_jobInMachine_returnsJobAndMachine() {
+        Machine machine = new MachineBuilder().withJobs(Collections.singletonList(IDCP)).build();
+        uniqueMachineList.add(machine);
+        JobMachineTuple found = uniqueMachineList.findJob(IDCP.getJobName());
+        assertSame(IDCP, found.job);
+        assertSame(machine, found.machine);
+    }
+
+    @Test
+    public void findJob_afterRemovingMachine_returnsNull() {
+        Machine machine = new MachineBuilder().withJobs(Collections.singletonList(IDCP)).build();
+        uniqueMachineList.add(machine);
+        uniqueMachineList.remove(machine);
+        assertNull(uniqueMachineList.findJob(IDCP.getJobName()));
+    }
+
+    @Test
+    public void findJob_afterSetMachines_returnsJobFromNewMachines() {
+        uniqueMachineList.add(new MachineBuilder().withJobs(Collections.singletonList(IDCP)).build());
+        Machine replacement = new MachineBuilder().withMachineName("Replacement")
+            .withJobs(Collections.singletonList(NEWPROJECT)).build();
+        uniqueMachineList.setMachines(Collections.singletonList(replacement));
+        assertNull(uniqueMachineList.findJob(IDCP.getJobName()));
+        assertSame(replacement, uniqueMachineList.findJob(NEWPROJECT.getJobName()).machine);
+    }
 
+    @Test
+    public void swapJobs_jobsInDifferentMachines_updatesMachinesAndIndex() {
+        Machine first = new MachineBuilder().withMachineName("First")
+            .withJobs(Collections.singletonList(IDCP)).build();
+        Machine second = new MachineBuilder().withMachineName("Second")
+            .withJobs(Collections.singletonList(NEWPROJECT)).build();
+        uniqueMachineList.setMachines(Arrays.asList(first, second));
+
+        uniqueMachineList.swapJobs(IDCP.getJobName(), NEWPROJECT.getJobName());
+
+        assertEquals(Collections.singletonList(NEWPROJECT), first.getJobs());
+        assertEquals(Collections.singletonList(IDCP), second.getJobs());
+        assertSame(second, uniqueMachineList.findJob(IDCP.getJobName()).machine);
+        assertSame(first, uniqueMachineList.findJob(NEWPROJECT.getJobName()).machine);
+    }
 
+    @Test
+    public void getMostFreeMachine_emptyList_returnsNull() {
+        assertNull(uniqueMachineList.getMostFreeMachine());
+    }
+
+    @Test
+    public void getMostFreeMachine_jobsChanged_returnsMachineWithLeastDuration() {
+        Job longJob = new JobBuilder().withName("Long").withDuration(TimeStamp.hoursToMillis(10)).build();
+        Job shortJob = new JobBuilder().withName("Short").withDuration(TimeStamp.hoursToMillis(3)).build();
+        Machine first = new MachineBuilder().withMachineName("First")
+            .withJobs(Collections.singletonList(longJob)).build();
+        Machine second = new MachineBuilder().withMachineName("Second")
+            .withJobs(Collections.singletonList(shortJob)).build();
+        uniqueMachineList.setMachines(Arrays.asList(first, second));
+
+        // durations longer than a few minutes are still compared
+        assertSame(second, uniqueMachineList.getMostFreeMachine());
+
+        uniqueMachineList.modifyJob(longJob.getJobName(), Job::cancelJob);
+        assertEquals(0, first.getTotalDuration());
+        assertSame(first, uniqueMachineList.getMostFreeMachine());
+
+        uniqueMachineList.swapJobs(longJob.getJobName(), shortJob.getJobName());
+        assertSame(second, uniqueMachineList.getMostFreeMachine());
+    }
 
+    @Test
+    public void getMostFreeMachine_sameDuration_returnsMachineAddedFirst() {
+        Machine first = new MachineBuilder().withMachineName("First").build();
+        Machine second = new MachineBuilder().withMachineName("Second").build();
+        uniqueMachineList.add(first);
+        uniqueMachineList.add(second);
+        assertSame(first, uniqueMachineList.getMostFreeMachine());
+
+        uniqueMachineList.remove(first);
+        assertSame(second, uniqueMachineList.getMostFreeMachine());
+    }
 }
@@ -0,0 +1,34 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import seedu.address.testutil.builders.PersonBuilder;
+
+public class PersonRegistryTest {
+
+    private final PersonRegistry registry = new PersonRegistry();
+
+    @Test
+    public void intern_equalPersons_sameIdAndInstance() {
+        Person person = new PersonBuilder().withName("Registry Alice").build();
+        Person equalPerson = new PersonBuilder().withName("Registry Alice").build();
+
+        int id = registry.intern(person);
+
+        assertEquals(id, registry.intern(equalPerson));
+        assertSame(person, registry.getPerson(registry.intern(equalPerson)));
+    }
+
+    @Test
+    public void intern_differentPersons_differentIds() {
+        Person person = new PersonBuilder().withName("Registry Bob").build();
+        Person otherPerson = new PersonBuilder().withName("Registry Bob").withPhone("99998888").build();
+
+        assertNotEquals(registry.intern(person), registry.intern(otherPerson));
+        assertEquals(otherPerson, registry.getPerson(registry.intern(otherPerson)));
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.builders.PersonBuilder;
+
+public class KeywordIndexTest {
+
+    private final Person aliceCarol = new PersonBuilder().withName("Alice Carol").withTags("friends").build();
+    private final Person bobCarol = new PersonBuilder().withName("Bob  carol").withTags("Colleagues").build();
+    private final Person dave = new PersonBuilder().withName("Dave").build();
+
+    private final KeywordIndex<Person> index = new KeywordIndex<>(person -> person.getName().fullName,
+            Person::getTags);
+
+    @Test
+    public void findByNameKeywords_anyKeywordMatches_returnsUnionIgnoringCase() {
+        index.attach(FXCollections.observableArrayList(aliceCarol, bobCarol, dave));
+
+        assertEquals(setOf(aliceCarol, bobCarol), index.findByNameKeywords(Collections.singletonList("CAROL")));
+        assertEquals(setOf(aliceCarol, dave), index.findByNameKeywords(Arrays.asList("alice", "Dave")));
+
+        // only full words match
+        assertTrue(index.findByNameKeywords(Collections.singletonList("Car")).isEmpty());
+    }
+
+    @Test
+    public void findByTags_anyTagMatches_returnsUnionIgnoringCase() {
+        index.attach(FXCollections.observableArrayList(aliceCarol, bobCarol, dave));
+
+        assertEquals(setOf(aliceCarol, bobCarol), index.findByTags(Arrays.asList("Friends", "colleagues")));
+        assertTrue(index.findByTags(Collections.singletonList("family")).isEmpty());
+    }
+
+    @Test
+    public void attach_listChanged_indexFollowsChanges() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(aliceCarol);
+        index.attach(persons);
+
+        persons.add(bobCarol);
+        assertEquals(setOf(aliceCarol, bobCarol), index.findByNameKeywords(Collections.singletonList("carol")));
+
+        persons.remove(aliceCarol);
+        assertEquals(setOf(bobCarol), index.findByNameKeywords(Collections.singletonList("carol")));
+
+        persons.setAll(dave);
+        assertTrue(index.findByNameKeywords(Collections.singletonList("carol")).isEmpty());
+        assertEquals(setOf(dave), index.findByNameKeywords(Collections.singletonList("dave")));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void attach_elementMovedBetweenLists_stillIndexed() {
+        ObservableList<Person> first = FXCollections.observableArrayList(aliceCarol);
+        ObservableList<Person> second = FXCollections.observableArrayList();
+        index.attach(first);
+        index.attach(second);
+
+        second.add(aliceCarol);
+        first.remove(aliceCarol);
+
+        assertEquals(setOf(aliceCarol), index.findByNameKeywords(Collections.singletonList("alice")));
+    }
+
+    @Test
+    public void attachChildren_parentsChanged_childListsFollowed() {
+        ObservableList<Person> firstChildren = FXCollections.observableArrayList(aliceCarol);
+        ObservableList<Person> secondChildren = FXCollections.observableArrayList(bobCarol);
+        ObservableList<ObservableList<Person>> parents = FXCollections.observableArrayList();
+        parents.add(firstChildren);
+        index.attachChildren(parents, children -> children);
+        assertEquals(setOf(aliceCarol), index.findByNameKeywords(Collections.singletonList("carol")));
+
+        parents.add(secondChildren);
+        secondChildren.add(dave);
+        assertEquals(setOf(aliceCarol, bobCarol, dave),
+                index.findByNameKeywords(Arrays.asList("carol", "dave")));
+
+        parents.remove(firstChildren);
+        firstChildren.clear();
+        assertEquals(setOf(bobCarol), index.findByNameKeywords(Collections.singletonList("carol")));
+    }
+
+    private static Set<Person> setOf(Person... persons) {
+        return new HashSet<>(Arrays.asList(persons));
+    }
+}
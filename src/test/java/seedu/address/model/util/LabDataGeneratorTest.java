@@ -0,0 +1,64 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.Machine;
+
+public class LabDataGeneratorTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final LabDataGenerator generator = new LabDataGenerator()
+            .withMachineCount(20).withJobsPerMachine(30).withPersonCount(300);
+
+    @Test
+    public void generate_sizesGiven_generatesLabOfThatSize() {
+        AddressBook lab = generator.generate();
+        assertEquals(300, lab.getPersonList().size());
+        assertEquals(20, lab.getMachineList().size());
+        assertEquals(20 * 30, lab.getTotalNumberOfStoredJobs());
+    }
+
+    @Test
+    public void generate_sameSeed_generatesSameLab() {
+        AddressBook lab = generator.generate();
+        AddressBook sameLab = generator.generate();
+        assertEquals(lab.getPersonList(), sameLab.getPersonList());
+        assertEquals(lab.getMachineList(), sameLab.getMachineList());
+
+        AddressBook otherLab = generator.withSeed(LabDataGenerator.DEFAULT_SEED + 1).generate();
+        assertNotEquals(lab.getMachineList(), otherLab.getMachineList());
+    }
+
+    @Test
+    public void generate_jobsNamedByPosition_foundByName() {
+        AddressBook lab = generator.generate();
+        Machine secondMachine = lab.getMachineList().get(1);
+        assertEquals(LabDataGenerator.getMachineName(1), secondMachine.getName());
+        assertSame(secondMachine, lab.findJob(LabDataGenerator.getJobName(30)).machine);
+    }
+
+    @Test
+    public void generate_machines_atMostOneOngoingJobEach() {
+        for (Machine machine : generator.generate().getMachineList()) {
+            long ongoingJobs = machine.getJobs().stream().map(Job::getStatus).filter(Status.ONGOING::equals).count();
+            assertTrue(ongoingJobs <= 1);
+        }
+    }
+
+    @Test
+    public void withPersonCount_noPersons_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        generator.withPersonCount(0);
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class WordTrieTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final WordTrie trie = new WordTrie();
+
+    @Test
+    public void findSimilar_negativeMaxEdits_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        trie.findSimilar("gear", -1);
+    }
+
+    @Test
+    public void findSimilar_noEdits_findsWordAndWordsStartingWithTerm() {
+        addAll("gear", "gears", "gearbox", "gecko", "bracket");
+
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("gear", WordTrie.EXACT);
+        expected.put("gears", WordTrie.PREFIX);
+        expected.put("gearbox", WordTrie.PREFIX);
+        assertEquals(expected, trie.findSimilar("gear", 0));
+    }
+
+    @Test
+    public void findSimilar_withEdits_findsWordsWithinEditsRankedByEdits() {
+        addAll("bracket", "bracelet", "racket", "brackets", "jacket", "gear");
+
+        Map<String, Integer> matches = trie.findSimilar("brakcet", 2);
+        assertEquals(4, (int) matches.get("bracket")); // two substitutions
+        assertEquals(5, (int) matches.get("brackets")); // starts with a word two edits away
+        assertFalse(matches.containsKey("jacket"));
+        assertFalse(matches.containsKey("gear"));
+
+        matches = trie.findSimilar("racket", 1);
+        assertEquals(WordTrie.EXACT, (int) matches.get("racket"));
+        assertEquals(2, (int) matches.get("bracket")); // one insertion
+        assertEquals(2, (int) matches.get("jacket")); // one substitution
+        assertEquals(3, (int) matches.get("brackets"));
+        assertFalse(matches.containsKey("bracelet"));
+    }
+
+    @Test
+    public void remove_wordRemoved_noLongerFound() {
+        addAll("gear", "gearbox");
+
+        trie.remove("gear");
+        assertFalse(trie.contains("gear"));
+        assertTrue(trie.contains("gearbox"));
+        assertEquals(1, trie.size());
+
+        trie.remove("gearbox");
+        assertTrue(trie.findSimilar("gear", 2).isEmpty());
+        assertEquals(0, trie.size());
+
+        // removing a word that is not in the trie does nothing
+        trie.remove("gecko");
+        assertEquals(0, trie.size());
+    }
+
+    private void addAll(String... words) {
+        for (String word : words) {
+            trie.add(word);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.LabDataGenerator;
+import seedu.address.storage.binary.BinarySnapshot;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private UserPrefs userPrefs;
+    private BinaryAddressBookStorage storage;
+
+    @Before
+    public void setUp() {
+        Path folder = testFolder.getRoot().toPath();
+        userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(folder.resolve("addressbook.xml"));
+        userPrefs.setMakerManagerMachinesFilePath(folder.resolve("makerManagerMachines.xml"));
+        userPrefs.setMakerManagerAdminsFilePath(folder.resolve("makerManagerAdmins.xml"));
+        userPrefs.setMakerManagerJobsFilePath(folder.resolve("makerManagerJobs.xml"));
+        userPrefs.setMakerManagerSnapshotFilePath(folder.resolve("makerManagerSnapshot.bin"));
+        userPrefs.setStorageFormat(UserPrefs.StorageFormat.BINARY);
+        storage = new BinaryAddressBookStorage(userPrefs);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook(testFolder.getRoot().toPath().resolve("missing.bin")).isPresent());
+    }
+
+    @Test
+    public void readAddressBook_noSnapshot_xmlFilesImported() throws Exception {
+        AddressBook lab = generateLab();
+        LabDataWriter.write(lab, userPrefs.getAddressBookFilePath(), userPrefs.getMakerManagerMachinesFilePath());
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        assertEquals(lab.getPersonList(), readBack.getPersonList());
+        assertEquals(lab.getMachineList(), readBack.getMachineList());
+        // there are no admins to import, so the default admin is created
+        assertEquals(1, readBack.getAdminList().size());
+        assertTrue(Files.exists(userPrefs.getMakerManagerSnapshotFilePath()));
+    }
+
+    @Test
+    public void readAddressBookInParts_savedSnapshot_eachPartRead() throws Exception {
+        AddressBook lab = generateLab();
+        storage.saveAddressBook(lab);
+
+        AddressBookParts parts = storage.readAddressBookInParts();
+
+        assertEquals(lab.getPersonList(), parts.getPersons().join());
+        assertEquals(lab.getMachineList(), parts.getMachines().join());
+        assertEquals(1, parts.getAdmins().join().size());
+    }
+
+    @Test
+    public void prepareSaveAddressBook_earlierSnapshotWrittenLast_laterSnapshotKept() throws Exception {
+        AddressBook lab = generateLab();
+        WriteBehindQueue.PendingWrite earlier =
+                storage.prepareSaveAddressBook(new AddressBook(), userPrefs.getAddressBookFilePath());
+        WriteBehindQueue.PendingWrite later =
+                storage.prepareSaveAddressBook(lab, userPrefs.getMakerManagerMachinesFilePath());
+
+        later.write();
+        earlier.write();
+
+        AddressBook saved = BinarySnapshot.readFromFile(userPrefs.getMakerManagerSnapshotFilePath());
+        assertEquals(lab.getMachineList(), saved.getMachineList());
+    }
+
+    private static AddressBook generateLab() {
+        return new LabDataGenerator().withMachineCount(3).withJobsPerMachine(4).withPersonCount(5).generate();
+    }
+}
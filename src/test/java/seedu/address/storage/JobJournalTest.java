@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+
+public class JobJournalTest {
+
+    private static final JobName JOB_NAME = new JobName(JobBuilder.DEFAULT_JOBNAME);
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path snapshotFile;
+    private Path journalFile;
+    private JobJournal jobJournal;
+    private final List<String> snapshotWrites = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        snapshotFile = testFolder.getRoot().toPath().resolve("makerManagerMachines.xml");
+        journalFile = JobJournal.getJournalFile(snapshotFile);
+        jobJournal = new JobJournal(snapshotFile, 3);
+    }
+
+    @Test
+    public void write_statusChanges_replayedInOrder() throws Exception {
+        jobJournal.recordStatusChange(JOB_NAME, Status.ONGOING, new TimeStamp(1000));
+        jobJournal.recordStatusChange(JOB_NAME, Status.CANCELLED, new TimeStamp(2000));
+        jobJournal.write();
+
+        AddressBook addressBook = getAddressBookWithQueuedJob();
+        assertEquals(2, JobJournal.replay(journalFile, snapshotFile, addressBook));
+
+        Job job = addressBook.findJob(JOB_NAME).job;
+        assertEquals(Status.CANCELLED, job.getStatus());
+        assertEquals(2000, job.getStartTime().getTimeInMillis());
+    }
+
+    @Test
+    public void write_snapshotRecorded_journalEmptiedAndLaterChangesKept() throws Exception {
+        jobJournal.recordStatusChange(JOB_NAME, Status.ONGOING, new TimeStamp(1000));
+        jobJournal.write();
+        jobJournal.recordSnapshot(() -> snapshotWrites.add("snapshot"));
+        jobJournal.recordStatusChange(JOB_NAME, Status.FINISHED, new TimeStamp(1000));
+        jobJournal.write();
+
+        assertEquals(Collections.singletonList("snapshot"), snapshotWrites);
+        assertEquals(1, Files.readAllLines(journalFile).size());
+        AddressBook addressBook = getAddressBookWithQueuedJob();
+        JobJournal.replay(journalFile, snapshotFile, addressBook);
+        assertEquals(Status.FINISHED, addressBook.findJob(JOB_NAME).job.getStatus());
+    }
+
+    @Test
+    public void write_snapshotCannotBeSaved_allChangesAppendedAndFailureThrown() throws Exception {
+        // the name of the temporary file the snapshot is first written to is too long to be created
+        Path unsavableFile = testFolder.newFile(String.join("", Collections.nCopies(240, "a")) + ".xml").toPath();
+        XmlSerializableMakerManagerMachines data = new XmlSerializableMakerManagerMachines(new AddressBook());
+        jobJournal.recordStatusChange(JOB_NAME, Status.ONGOING, new TimeStamp(1000));
+        jobJournal.recordSnapshot(() -> XmlFileStorage.saveDataToFile(unsavableFile, data));
+        jobJournal.recordStatusChange(JOB_NAME, Status.FINISHED, new TimeStamp(1000));
+
+        try {
+            jobJournal.write();
+            fail("The snapshot should not be saved");
+        } catch (IOException expected) {
+            AddressBook addressBook = getAddressBookWithQueuedJob();
+            assertEquals(2, JobJournal.replay(journalFile, snapshotFile, addressBook));
+            assertEquals(Status.FINISHED, addressBook.findJob(JOB_NAME).job.getStatus());
+        }
+    }
+
+    @Test
+    public void replay_crashAfterSnapshotSaved_changesInSnapshotSkipped() throws Exception {
+        jobJournal.recordStatusChange(JOB_NAME, Status.ONGOING, new TimeStamp(1000));
+        jobJournal.write();
+        crashWhileCompacting(() -> Files.write(snapshotFile, Collections.singletonList("snapshot")));
+
+        // the snapshot may hold later changes, such as the job being queued again by an undo
+        assertEquals(0, JobJournal.replay(journalFile, snapshotFile, getAddressBookWithQueuedJob()));
+    }
+
+    @Test
+    public void replay_crashBeforeSnapshotSaved_changesReplayed() throws Exception {
+        Files.write(snapshotFile, Collections.singletonList("old snapshot"));
+        jobJournal.recordStatusChange(JOB_NAME, Status.ONGOING, new TimeStamp(1000));
+        jobJournal.write();
+        crashWhileCompacting(() -> { });
+
+        AddressBook addressBook = getAddressBookWithQueuedJob();
+        assertEquals(1, JobJournal.replay(journalFile, snapshotFile, addressBook));
+        assertEquals(Status.ONGOING, addressBook.findJob(JOB_NAME).job.getStatus());
+    }
+
+    @Test
+    public void isCompactionDue_thresholdReached_returnsTrueUntilSnapshotRecorded() {
+        jobJournal.recordStatusChange(JOB_NAME, Status.ONGOING, new TimeStamp(1000));
+        jobJournal.recordStatusChange(JOB_NAME, Status.PAUSED, new TimeStamp(1000));
+        assertFalse(jobJournal.isCompactionDue());
+
+        jobJournal.recordStatusChange(JOB_NAME, Status.ONGOING, new TimeStamp(3000));
+        assertTrue(jobJournal.isCompactionDue());
+
+        jobJournal.recordSnapshot(() -> snapshotWrites.add("snapshot"));
+        assertFalse(jobJournal.isCompactionDue());
+    }
+
+    @Test
+    public void replay_unreadableAndUnknownRecords_skipped() throws Exception {
+        Files.write(journalFile, Arrays.asList(
+                "unknownJob\tONGOING\t1000",
+                JOB_NAME.fullName + "\tFINISHED\t1000",
+                JOB_NAME.fullName + "\tONGO"));
+
+        AddressBook addressBook = getAddressBookWithQueuedJob();
+        assertEquals(1, JobJournal.replay(journalFile, snapshotFile, addressBook));
+        assertEquals(Status.FINISHED, addressBook.findJob(JOB_NAME).job.getStatus());
+    }
+
+    @Test
+    public void replay_missingJournal_nothingApplied() throws Exception {
+        assertEquals(0, JobJournal.replay(journalFile, snapshotFile, getAddressBookWithQueuedJob()));
+    }
+
+    /**
+     * Compacts the journal with a snapshot that is saved by {@code saveSnapshot},
+     * stopping as a crash would right after the snapshot is saved.
+     */
+    private void crashWhileCompacting(WriteBehindQueue.PendingWrite saveSnapshot) throws IOException {
+        jobJournal.recordSnapshot(() -> {
+            saveSnapshot.write();
+            throw new IllegalStateException("crash");
+        });
+        try {
+            jobJournal.write();
+            fail("The journal should not be compacted");
+        } catch (IllegalStateException expected) {
+            // the journal is left as the crash left it
+        }
+    }
+
+    private AddressBook getAddressBookWithQueuedJob() {
+        AddressBook addressBook = new AddressBook();
+        Job job = new JobBuilder().withStatus(Status.QUEUED).build();
+        addressBook.addMachine(new MachineBuilder().withJobs(Collections.singletonList(job)).build());
+        return addressBook;
+    }
+}
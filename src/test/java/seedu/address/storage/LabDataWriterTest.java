@@ -0,0 +1,33 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.LabDataGenerator;
+
+public class LabDataWriterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void write_generatedLab_readBackUnchanged() throws Exception {
+        AddressBook lab = new LabDataGenerator().withMachineCount(5).withJobsPerMachine(10).withPersonCount(20)
+                .generate();
+        Path addressBookFile = testFolder.getRoot().toPath().resolve("lab").resolve("addressbook.xml");
+        Path machinesFile = testFolder.getRoot().toPath().resolve("lab").resolve("makerManagerMachines.xml");
+
+        LabDataWriter.write(lab, addressBookFile, machinesFile);
+
+        assertEquals(lab.getPersonList(),
+                XmlFileStorage.loadDataFromSaveFile(addressBookFile).toModelType().getPersonList());
+        assertEquals(lab.getMachineList(),
+                XmlFileStorage.loadMakerManagerMachineDataFromSaveFile(machinesFile).toModelType().getMachineList());
+    }
+}
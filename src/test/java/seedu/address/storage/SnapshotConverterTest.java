@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.util.LabDataGenerator;
+
+public class SnapshotConverterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void exportXml_importedSnapshot_sameData() throws Exception {
+        AddressBook lab = new LabDataGenerator().withMachineCount(3).withJobsPerMachine(4).withPersonCount(5)
+                .generate();
+        lab.addAdmin(new Admin(new Username("admin"), new Password("admin")));
+        UserPrefs imported = getUserPrefs("imported");
+        SnapshotConverter.writeXml(lab, imported);
+        SnapshotConverter.importXml(imported);
+
+        UserPrefs exported = getUserPrefs("exported");
+        exported.setMakerManagerSnapshotFilePath(imported.getMakerManagerSnapshotFilePath());
+        SnapshotConverter.exportXml(exported);
+
+        AddressBook readBack = SnapshotConverter.readXml(exported);
+        assertEquals(lab.getPersonList(), readBack.getPersonList());
+        assertEquals(lab.getMachineList(), readBack.getMachineList());
+        assertEquals(lab.getAdminList(), readBack.getAdminList());
+    }
+
+    private UserPrefs getUserPrefs(String folderName) {
+        Path folder = testFolder.getRoot().toPath().resolve(folderName);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(folder.resolve("addressbook.xml"));
+        userPrefs.setMakerManagerMachinesFilePath(folder.resolve("makerManagerMachines.xml"));
+        userPrefs.setMakerManagerAdminsFilePath(folder.resolve("makerManagerAdmins.xml"));
+        userPrefs.setMakerManagerJobsFilePath(folder.resolve("makerManagerJobs.xml"));
+        userPrefs.setMakerManagerSnapshotFilePath(folder.resolve("makerManagerSnapshot.bin"));
+        return userPrefs;
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.Assert.assertNotNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -13,9 +14,19 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.events.model.AdminListChangedEvent;
+import seedu.address.commons.events.model.JobStatusChangedEvent;
+import seedu.address.commons.events.model.MachineListChangedEvent;
+import seedu.address.commons.events.model.TransactionCommittedEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Status;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+import seedu.address.testutil.testdata.ValidMachines;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -106,6 +117,44 @@ public class StorageManagerTest {
         assertNotNull(storageManager.readAddressBook(testMakerMangerMachinesFilePath));
     }
 
+    @Test
+    public void handleMachineListChangedEvent_thenFlush_machinesSaved() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMachine(ValidMachines.JJPRINTER);
+        storageManager.handleMachineListChangedEvent(new MachineListChangedEvent(addressBook));
+        storageManager.flush();
+
+        ReadOnlyAddressBook saved = storageManager.readAddressBook(testMakerMangerMachinesFilePath).get();
+        assertEquals(addressBook.getMachineList(), saved.getMachineList());
+    }
+
+    @Test
+    public void handleJobStatusChangedEvent_thenFlush_statusRestoredOnRead() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        Job job = new JobBuilder().withStatus(Status.QUEUED).build();
+        addressBook.addMachine(new MachineBuilder().withJobs(Collections.singletonList(job)).build());
+        storageManager.handleMachineListChangedEvent(new MachineListChangedEvent(addressBook));
+
+        job.startJob();
+        storageManager.handleJobStatusChangedEvent(new JobStatusChangedEvent(addressBook, job));
+        storageManager.flush();
+
+        AddressBook saved = (AddressBook) storageManager.readAddressBook(testMakerMangerMachinesFilePath).get();
+        JobName jobName = new JobName(JobBuilder.DEFAULT_JOBNAME);
+        assertEquals(Status.ONGOING, saved.findJob(jobName).job.getStatus());
+    }
+
+    @Test
+    public void handleTransactionCommittedEvent_machinesChanged_machinesSaved() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addMachine(ValidMachines.JJPRINTER);
+        storageManager.handleTransactionCommittedEvent(new TransactionCommittedEvent(addressBook, false, false, true));
+        storageManager.flush();
+
+        ReadOnlyAddressBook saved = storageManager.readAddressBook(testMakerMangerMachinesFilePath).get();
+        assertEquals(addressBook.getMachineList(), saved.getMachineList());
+    }
+
     @Test
     public void testHandLeAdminListChangedEvent() {
         storageManager.handleAdminListChangedEvent(new AdminListChangedEvent(new AddressBook()));
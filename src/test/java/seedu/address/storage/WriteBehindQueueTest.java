@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+
+public class WriteBehindQueueTest {
+
+    private static final Path FIRST_FILE = Paths.get("first.xml");
+    private static final Path SECOND_FILE = Paths.get("second.xml");
+    private static final long NEVER = Long.MAX_VALUE;
+
+    @Rule
+    public final TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<String> writes = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> failures = new ArrayList<>();
+    private final WriteBehindQueue writeBehindQueue = new WriteBehindQueue(NEVER, failures::add);
+
+    @Test
+    public void flush_burstOfWritesToSameFile_onlyLatestWriteCarriedOut() {
+        writeBehindQueue.submit(FIRST_FILE, () -> writes.add("first version"));
+        writeBehindQueue.submit(FIRST_FILE, () -> writes.add("second version"));
+        writeBehindQueue.flush();
+
+        assertEquals(Collections.singletonList("second version"), writes);
+    }
+
+    @Test
+    public void flush_writesToDifferentFiles_allWritesCarriedOut() {
+        writeBehindQueue.submit(FIRST_FILE, () -> writes.add("first file"));
+        writeBehindQueue.submit(SECOND_FILE, () -> writes.add("second file"));
+        writeBehindQueue.flush();
+
+        assertEquals(Arrays.asList("first file", "second file"), writes);
+    }
+
+    @Test
+    public void flush_nothingQueued_nothingWritten() {
+        writeBehindQueue.flush();
+
+        assertEquals(Collections.emptyList(), writes);
+    }
+
+    @Test
+    public void flush_writeFails_failureReportedAndOtherWritesCarriedOut() {
+        IOException failure = new IOException("disk full");
+        writeBehindQueue.submit(FIRST_FILE, () -> {
+            throw failure;
+        });
+        writeBehindQueue.submit(SECOND_FILE, () -> writes.add("second file"));
+        writeBehindQueue.flush();
+
+        assertEquals(1, failures.size());
+        assertSame(failure, failures.get(0));
+        assertEquals(Collections.singletonList("second file"), writes);
+    }
+
+    @Test
+    public void flush_writeThrowsRuntimeException_failureReportedAndOtherWritesCarriedOut() {
+        IllegalStateException failure = new IllegalStateException("cannot convert");
+        writeBehindQueue.submit(FIRST_FILE, () -> {
+            throw failure;
+        });
+        writeBehindQueue.submit(SECOND_FILE, () -> writes.add("second file"));
+        writeBehindQueue.flush();
+
+        assertEquals(1, failures.size());
+        assertSame(failure, failures.get(0).getCause());
+        assertEquals(Collections.singletonList("second file"), writes);
+    }
+
+    @Test
+    public void flush_xmlFileCannotBeSaved_failureReportedAndOtherWritesCarriedOut() throws Exception {
+        // the name of the temporary file the data is first written to is too long to be created
+        Path unsavableFile = testFolder.newFile(String.join("", Collections.nCopies(240, "a")) + ".xml").toPath();
+        XmlSerializableAddressBook data = new XmlSerializableAddressBook(new AddressBook());
+        writeBehindQueue.submit(unsavableFile, () -> XmlFileStorage.saveDataToFile(unsavableFile, data));
+        writeBehindQueue.submit(SECOND_FILE, () -> writes.add("second file"));
+        writeBehindQueue.flush();
+
+        assertEquals(1, failures.size());
+        assertTrue(Files.readAllLines(unsavableFile).isEmpty());
+        assertEquals(Collections.singletonList("second file"), writes);
+    }
+
+    @Test
+    public void submit_zeroFlushDelay_writeCarriedOutWithoutFlush() throws Exception {
+        WriteBehindQueue immediateQueue = new WriteBehindQueue(0, failures::add);
+        immediateQueue.submit(FIRST_FILE, () -> writes.add("first file"));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (writes.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(Collections.singletonList("first file"), writes);
+    }
+}
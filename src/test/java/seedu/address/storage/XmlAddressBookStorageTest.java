@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
 import java.io.IOException;
@@ -15,6 +16,7 @@ import org.junit.rules.TemporaryFolder;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.util.LabDataGenerator;
 
 public class XmlAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlAddressBookStorageTest");
@@ -72,6 +74,26 @@ public class XmlAddressBookStorageTest {
     */
 
 
+    @Test
+    public void readAddressBookInParts_labFiles_eachPartRead() throws Exception {
+        AddressBook lab = new LabDataGenerator().withMachineCount(3).withJobsPerMachine(4).withPersonCount(5)
+                .generate();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.getRoot().toPath().resolve("addressbook.xml"));
+        userPrefs.setMakerManagerMachinesFilePath(testFolder.getRoot().toPath().resolve("makerManagerMachines.xml"));
+        userPrefs.setMakerManagerAdminsFilePath(testFolder.getRoot().toPath().resolve("makerManagerAdmins.xml"));
+        userPrefs.setMakerManagerJobsFilePath(testFolder.getRoot().toPath().resolve("makerManagerJobs.xml"));
+        LabDataWriter.write(lab, userPrefs.getAddressBookFilePath(), userPrefs.getMakerManagerMachinesFilePath());
+
+        AddressBookParts parts = new XmlAddressBookStorage(userPrefs).readAddressBookInParts();
+
+        assertEquals(lab.getMachineList(), parts.getMachines().join());
+        assertEquals(lab.getPersonList(), parts.getPersons().join());
+        // the admins file is missing, so the default admin is created
+        assertEquals(1, parts.getAdmins().join().size());
+        assertEquals(lab.getPersonList(), parts.join().getPersonList());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
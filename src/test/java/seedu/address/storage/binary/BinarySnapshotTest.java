@@ -0,0 +1,117 @@
+package seedu.address.storage.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.util.LabDataGenerator;
+import seedu.address.storage.LabDataWriter;
+
+public class BinarySnapshotTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_generatedLab_readBackUnchanged() throws Exception {
+        AddressBook lab = generateLab();
+        lab.addAdmin(new Admin(new Username("admin"), new Password("admin")));
+
+        AddressBook readBack = BinarySnapshot.read(new ByteArrayInputStream(BinarySnapshot.toBytes(lab)));
+
+        assertEquals(lab.getPersonList(), readBack.getPersonList());
+        assertEquals(lab.getMachineList(), readBack.getMachineList());
+        assertEquals(lab.getAdminList(), readBack.getAdminList());
+    }
+
+    @Test
+    public void saveToFile_generatedLab_muchSmallerThanXml() throws Exception {
+        AddressBook lab = generateLab();
+        Path snapshotFile = testFolder.getRoot().toPath().resolve("lab.bin");
+        Path addressBookFile = testFolder.getRoot().toPath().resolve("addressbook.xml");
+        Path machinesFile = testFolder.getRoot().toPath().resolve("makerManagerMachines.xml");
+
+        BinarySnapshot.saveToFile(snapshotFile, BinarySnapshot.toBytes(lab));
+        LabDataWriter.write(lab, addressBookFile, machinesFile);
+
+        assertEquals(lab.getMachineList(), BinarySnapshot.readFromFile(snapshotFile).getMachineList());
+        assertTrue(Files.size(snapshotFile) * 5 < Files.size(addressBookFile) + Files.size(machinesFile));
+    }
+
+    @Test
+    public void read_notSnapshot_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(BinarySnapshot.MESSAGE_NOT_A_SNAPSHOT);
+        BinarySnapshot.read(new ByteArrayInputStream("<?xml version=\"1.0\"?>".getBytes()));
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsDataConversionException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinarySnapshot.MAGIC);
+        out.writeInt(BinarySnapshot.VERSION + 1);
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(String.format(BinarySnapshot.MESSAGE_UNSUPPORTED_VERSION, BinarySnapshot.VERSION + 1,
+                BinarySnapshot.VERSION));
+        BinarySnapshot.read(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    @Test
+    public void read_cutShort_throwsDataConversionException() throws Exception {
+        byte[] snapshot = BinarySnapshot.toBytes(generateLab());
+
+        thrown.expect(DataConversionException.class);
+        BinarySnapshot.read(new ByteArrayInputStream(Arrays.copyOf(snapshot, snapshot.length / 2)));
+    }
+
+    @Test
+    public void read_corruptStringLength_throwsDataConversionException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinarySnapshot.MAGIC);
+        out.writeInt(BinarySnapshot.VERSION);
+        out.writeByte(1); // one string
+        out.write(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}); // of 2^31 - 1 bytes
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage("bytes left");
+        BinarySnapshot.read(new ByteArrayInputStream(bytes.toByteArray()), bytes.size());
+    }
+
+    @Test
+    public void readFromFile_corruptListCount_throwsDataConversionException() throws Exception {
+        byte[] snapshot = BinarySnapshot.toBytes(new AddressBook());
+        snapshot[Integer.BYTES * 2] = (byte) 0x7F; // the string table of an empty address book is empty
+        Path snapshotFile = testFolder.getRoot().toPath().resolve("corrupt.bin");
+        Files.write(snapshotFile, snapshot);
+
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage("bytes left");
+        BinarySnapshot.readFromFile(snapshotFile);
+    }
+
+    private static AddressBook generateLab() {
+        return new LabDataGenerator().withMachineCount(10).withJobsPerMachine(20).withPersonCount(30).generate();
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.storage.csv;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.model.util.SampleDataUtil.getTagSet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.builders.PersonBuilder;
+
+public class CsvLabDataReaderTest {
+    private static final String ALICE = "person,Alice Pauline,94351253,alice@example.com,\"123, Jurong West\",friends";
+    private static final String ULTIMAKER = "machine,Ultimaker,ENABLED,3D";
+    private static final String BRACKET = "job,Bracket,Ultimaker,Alice Pauline,HIGH,5400000,Bracket for lab,QUEUED,"
+            + "1541030400000,1541030400000,iDCP urgent";
+    private static final String GEAR = "job,Gear,Ultimaker,Bob Choo,NORMAL,7200000,Gear,ONGOING,"
+            + "1541030400000,1541034000000,";
+
+    @Rule
+    public final TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_validFile_allRecordsRead() throws Exception {
+        CsvLabData data = read(ALICE, "", ULTIMAKER, BRACKET, "   ", GEAR);
+
+        Person alice = new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+                .withEmail("alice@example.com").withAddress("123, Jurong West").withTags("friends").build();
+        assertEquals(Collections.singletonList(alice), data.getPersons());
+
+        Machine ultimaker = data.getMachines().get(0);
+        assertEquals(1, data.getMachines().size());
+        assertEquals("Ultimaker", ultimaker.getName().fullName);
+        assertEquals(MachineStatus.ENABLED, ultimaker.getStatus());
+        assertEquals(Collections.singleton(new Tag("3D")), ultimaker.getTags());
+        assertTrue(ultimaker.getJobs().isEmpty());
+
+        Job bracket = data.getJobs().get(0);
+        assertEquals(new JobName("Bracket"), bracket.getJobName());
+        assertEquals(Priority.HIGH, bracket.getPriority());
+        assertEquals(5400000, bracket.getDuration());
+        assertEquals(Status.QUEUED, bracket.getStatus());
+        assertEquals(1541030400000L, bracket.getAddedTime().getTimeInMillis());
+        assertEquals(getTagSet("iDCP", "urgent"), bracket.getTags());
+        // the owner is the person of the same name in the file
+        assertEquals(alice, bracket.getOwner());
+
+        Job gear = data.getJobs().get(1);
+        assertEquals(Status.ONGOING, gear.getStatus());
+        assertEquals(1541034000000L, gear.getStartTime().getTimeInMillis());
+        assertEquals("Bob Choo", gear.getOwner().getName().fullName);
+        assertTrue(gear.getTags().isEmpty());
+    }
+
+    @Test
+    public void read_invalidRecords_errorsReportedByLine() throws Exception {
+        String message = readInvalid(ULTIMAKER,
+                "printer,Prusa",
+                "machine,Prusa,ENABLED",
+                "machine,Pr*sa,ENABLED,",
+                BRACKET.replace("HIGH", "HIGHEST"),
+                GEAR.replace("7200000", "-1"),
+                "machine,\"Prusa,ENABLED,",
+                "machine,Ultimaker,DISABLED,");
+
+        assertEquals(String.join("\n",
+                atLine(2, String.format(CsvLabDataReader.MESSAGE_UNKNOWN_RECORD, "printer")),
+                atLine(3, String.format(CsvLabDataReader.MESSAGE_WRONG_FIELD_COUNT, "machine", 4, 3)),
+                atLine(4, MachineName.MESSAGE_NAME_CONSTRAINTS),
+                atLine(5, Job.MEEEAGE_PRIORITY_CONSTRAINTS),
+                atLine(6, String.format(CsvLabDataReader.MESSAGE_INVALID_NUMBER, "Duration")),
+                atLine(7, CsvUtil.MESSAGE_UNCLOSED_QUOTE),
+                atLine(8, String.format(CsvLabDataReader.MESSAGE_DUPLICATE, "Machine", "Ultimaker", 1))), message);
+    }
+
+    @Test
+    public void read_duplicatePersonsAndJobs_errorsReported() throws Exception {
+        String message = readInvalid(ALICE, BRACKET, ALICE.replace("94351253", "99999999"), BRACKET);
+
+        assertEquals(String.join("\n",
+                atLine(3, String.format(CsvLabDataReader.MESSAGE_DUPLICATE, "Person", "Alice Pauline", 1)),
+                atLine(4, String.format(CsvLabDataReader.MESSAGE_DUPLICATE, "Job", "Bracket", 2))), message);
+    }
+
+    @Test
+    public void read_manyErrors_firstErrorsShown() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < CsvLabDataReader.ERRORS_SHOWN + 5; i++) {
+            lines.add("printer");
+        }
+
+        String message = readInvalid(lines.toArray(new String[0]));
+
+        assertEquals(CsvLabDataReader.ERRORS_SHOWN + 1, message.split("\n").length);
+        assertTrue(message.endsWith(String.format(CsvLabDataReader.MESSAGE_MORE_ERRORS, 5)));
+    }
+
+    @Test
+    public void read_manyBatchesOnSeveralThreads_recordsInFileOrder() throws Exception {
+        List<String> lines = new ArrayList<>(Collections.singletonList(ULTIMAKER));
+        int jobCount = CsvLabDataReader.BATCH_SIZE * 5 + 7;
+        for (int i = 0; i < jobCount; i++) {
+            lines.add(BRACKET.replace("job,Bracket", "job,Bracket" + i));
+        }
+        Path file = write(lines.toArray(new String[0]));
+
+        CsvLabData data = new CsvLabDataReader(3).read(file);
+
+        List<String> expectedNames = new ArrayList<>();
+        for (int i = 0; i < jobCount; i++) {
+            expectedNames.add("Bracket" + i);
+        }
+        assertEquals(expectedNames, data.getJobs().stream().map(job -> job.getJobName().fullName)
+                .collect(Collectors.toList()));
+    }
+
+    @Test(expected = IOException.class)
+    public void read_missingFile_throwsIoException() throws Exception {
+        new CsvLabDataReader().read(testFolder.getRoot().toPath().resolve("missing.csv"));
+    }
+
+    private CsvLabData read(String... lines) throws Exception {
+        return new CsvLabDataReader().read(write(lines));
+    }
+
+    /**
+     * Returns the message of the error found in a file of {@code lines}.
+     */
+    private String readInvalid(String... lines) throws Exception {
+        try {
+            read(lines);
+            fail("The file should not be read");
+            return null;
+        } catch (DataConversionException e) {
+            return e.getCause().getMessage();
+        }
+    }
+
+    private Path write(String... lines) throws IOException {
+        Path file = testFolder.newFile().toPath();
+        Files.write(file, Arrays.asList(lines), UTF_8);
+        return file;
+    }
+
+    private static String atLine(int line, String message) {
+        return String.format(CsvLabDataReader.MESSAGE_ERROR_AT_LINE, line, message);
+    }
+}
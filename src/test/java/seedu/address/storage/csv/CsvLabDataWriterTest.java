@@ -0,0 +1,71 @@
+package seedu.address.storage.csv;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Priority;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.LabDataGenerator;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+import seedu.address.testutil.builders.PersonBuilder;
+
+public class CsvLabDataWriterTest {
+
+    @Rule
+    public final TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void write_addressBook_oneRecordPerLine() throws Exception {
+        Person alice = new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+                .withEmail("alice@example.com").withAddress("123, Jurong West").withTags("friends").build();
+        Machine ultimaker = new MachineBuilder().withMachineName("Ultimaker")
+                .withMachineStatus(MachineStatus.DISABLED).build();
+        Job bracket = new JobBuilder().withName("Bracket").withMachine(ultimaker.getName()).withOwner(alice)
+                .withPriority(Priority.HIGH).withDuration(5400000)
+                .withJobNote("Bracket for lab").withTags("urgent", "iDCP").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addAll(Collections.singletonList(alice), Collections.singletonList(ultimaker),
+                Collections.singletonList(bracket));
+        Path file = testFolder.getRoot().toPath().resolve("export").resolve("lab.csv");
+
+        assertEquals(3, CsvLabDataWriter.write(addressBook, file));
+
+        long addedTime = bracket.getAddedTime().getTimeInMillis();
+        long startTime = bracket.getStartTime().getTimeInMillis();
+        assertEquals(Arrays.asList(
+                "person,Alice Pauline,94351253,alice@example.com,\"123, Jurong West\",friends",
+                "machine,Ultimaker,DISABLED,",
+                "job,Bracket,Ultimaker,Alice Pauline,HIGH,5400000,Bracket for lab,QUEUED," + addedTime + ","
+                        + startTime + ",iDCP urgent"),
+                Files.readAllLines(file, UTF_8));
+    }
+
+    @Test
+    public void write_generatedLab_readBackUnchanged() throws Exception {
+        AddressBook lab = new LabDataGenerator().withMachineCount(5).withJobsPerMachine(30).withPersonCount(20)
+                .generate();
+        Path file = testFolder.newFile().toPath();
+
+        CsvLabDataWriter.write(lab, file);
+        CsvLabData data = new CsvLabDataReader().read(file);
+        AddressBook readBack = new AddressBook();
+        readBack.addAll(data.getPersons(), data.getMachines(), data.getJobs());
+
+        assertEquals(lab.getPersonList(), readBack.getPersonList());
+        assertEquals(lab.getMachineList(), readBack.getMachineList());
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.storage.machine;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.LabDataGenerator;
+import seedu.address.storage.LabDataWriter;
+import seedu.address.testutil.testdata.ValidMachines;
+
+public class XmlMachinesStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlMachinesStreamReaderTest");
+    private static final Path MACHINES_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "XmlSerializableMakerManagerMachinesTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readMachines_nullFile_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        XmlMachinesStreamReader.readMachines(null);
+    }
+
+    @Test
+    public void readMachines_validMachinesFile_success() throws Exception {
+        AddressBook machines = XmlMachinesStreamReader.readMachines(
+                MACHINES_TEST_DATA_FOLDER.resolve("validMachinesFile.xml"));
+        assertEquals(ValidMachines.getMachinesData(), machines);
+    }
+
+    @Test
+    public void readMachines_generatedLab_readBackUnchanged() throws Exception {
+        AddressBook lab = new LabDataGenerator().withMachineCount(5).withJobsPerMachine(10).withPersonCount(20)
+                .generate();
+        Path addressBookFile = testFolder.getRoot().toPath().resolve("addressbook.xml");
+        Path machinesFile = testFolder.getRoot().toPath().resolve("makerManagerMachines.xml");
+        LabDataWriter.write(lab, addressBookFile, machinesFile);
+
+        assertEquals(lab.getMachineList(), XmlMachinesStreamReader.readMachines(machinesFile).getMachineList());
+    }
+
+    @Test
+    public void readMachines_missingMachineName_throwsDataConversionExceptionAtLine() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage("Line 3:");
+        XmlMachinesStreamReader.readMachines(MACHINES_TEST_DATA_FOLDER.resolve("invalidMachinesFile.xml"));
+    }
+
+    @Test
+    public void readMachines_invalidStatus_throwsDataConversionExceptionAtLine() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage("Line 9:");
+        XmlMachinesStreamReader.readMachines(TEST_DATA_FOLDER.resolve("invalidStatusMachinesFile.xml"));
+    }
+
+    @Test
+    public void readMachines_duplicateMachines_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(XmlSerializableMakerManagerMachines.MESSAGE_DUPLICATE_MACHINE);
+        XmlMachinesStreamReader.readMachines(MACHINES_TEST_DATA_FOLDER.resolve("duplicateMachinesFile.xml"));
+    }
+
+    @Test
+    public void readMachines_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlMachinesStreamReader.readMachines(TEST_DATA_FOLDER.resolve("notXmlFormatMachinesFile.xml"));
+    }
+
+    @Test
+    public void readMachines_embeddedOwner_success() throws Exception {
+        AddressBook machines = XmlMachinesStreamReader.readMachines(
+                MACHINES_TEST_DATA_FOLDER.resolve("embeddedOwnerMachinesFile.xml"));
+        assertEquals("Alex Yeoh", machines.getMachineList().get(0).getJobs().get(0).getOwner().getName().fullName);
+    }
+
+    @Test
+    public void readMachines_unknownOwner_throwsDataConversionExceptionAtLine() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage("Line 12:");
+        XmlMachinesStreamReader.readMachines(MACHINES_TEST_DATA_FOLDER.resolve("unknownOwnerMachinesFile.xml"));
+    }
+}
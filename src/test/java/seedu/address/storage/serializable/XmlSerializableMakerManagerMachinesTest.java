@@ -1,6 +1,7 @@
 package seedu.address.storage.serializable;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -12,6 +13,9 @@ import org.junit.rules.ExpectedException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.util.LabDataGenerator;
+import seedu.address.storage.job.XmlAdaptedJob;
 import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
 import seedu.address.testutil.testdata.ValidMachines;
 
@@ -22,6 +26,8 @@ public class XmlSerializableMakerManagerMachinesTest {
     private static final Path VALID_MACHINES_FILE = TEST_DATA_FOLDER.resolve("validMachinesFile.xml");
     private static final Path INVALID_MACHINES_FILE = TEST_DATA_FOLDER.resolve("invalidMachinesFile.xml");
     private static final Path DUPLICATE_MACHINES_FILE = TEST_DATA_FOLDER.resolve("duplicateMachinesFile.xml");
+    private static final Path EMBEDDED_OWNER_MACHINES_FILE = TEST_DATA_FOLDER.resolve("embeddedOwnerMachinesFile.xml");
+    private static final Path UNKNOWN_OWNER_MACHINES_FILE = TEST_DATA_FOLDER.resolve("unknownOwnerMachinesFile.xml");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -52,4 +58,32 @@ public class XmlSerializableMakerManagerMachinesTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_sharedOwners_readBackAsSameOwner() throws Exception {
+        AddressBook lab = new LabDataGenerator().withMachineCount(3).withJobsPerMachine(10).withPersonCount(1)
+                .generate();
+        AddressBook readBack = new XmlSerializableMakerManagerMachines(lab).toModelType();
+        assertEquals(lab.getMachineList(), readBack.getMachineList());
+
+        Job firstJob = readBack.getMachineList().get(0).getJobs().get(0);
+        Job lastJob = readBack.getMachineList().get(2).getJobs().get(9);
+        assertSame(firstJob.getOwner(), lastJob.getOwner());
+    }
+
+    @Test
+    public void toModelType_embeddedOwner_success() throws Exception {
+        XmlSerializableMakerManagerMachines dataFromFile =
+                XmlUtil.getDataFromFile(EMBEDDED_OWNER_MACHINES_FILE, XmlSerializableMakerManagerMachines.class);
+        Job job = dataFromFile.toModelType().getMachineList().get(0).getJobs().get(0);
+        assertEquals("Alex Yeoh", job.getOwner().getName().fullName);
+    }
+
+    @Test
+    public void toModelType_unknownOwner_throwsIllegalValueException() throws Exception {
+        XmlSerializableMakerManagerMachines dataFromFile =
+                XmlUtil.getDataFromFile(UNKNOWN_OWNER_MACHINES_FILE, XmlSerializableMakerManagerMachines.class);
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(XmlAdaptedJob.MESSAGE_UNKNOWN_OWNER, 1));
+        dataFromFile.toModelType();
+    }
 }